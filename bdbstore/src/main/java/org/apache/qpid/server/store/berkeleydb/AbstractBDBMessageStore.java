@@ -48,9 +48,12 @@ import org.slf4j.Logger;
 import org.apache.qpid.bytebuffer.QpidByteBuffer;
 import org.apache.qpid.server.message.EnqueueableMessage;
 import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.stats.LatencyHistogram;
+import org.apache.qpid.server.store.CommitLatencyProvider;
 import org.apache.qpid.server.store.Event;
 import org.apache.qpid.server.store.EventListener;
 import org.apache.qpid.server.store.EventManager;
+import org.apache.qpid.server.store.MessageContentCompression;
 import org.apache.qpid.server.store.MessageEnqueueRecord;
 import org.apache.qpid.server.store.MessageHandle;
 import org.apache.qpid.server.store.MessageStore;
@@ -61,7 +64,6 @@ import org.apache.qpid.server.store.TransactionLogResource;
 import org.apache.qpid.server.store.Xid;
 import org.apache.qpid.server.store.berkeleydb.entry.PreparedTransaction;
 import org.apache.qpid.server.store.berkeleydb.entry.QueueEntryKey;
-import org.apache.qpid.server.store.berkeleydb.tuple.ByteBufferBinding;
 import org.apache.qpid.server.store.berkeleydb.tuple.MessageMetaDataBinding;
 import org.apache.qpid.server.store.berkeleydb.tuple.PreparedTransactionBinding;
 import org.apache.qpid.server.store.berkeleydb.tuple.QueueEntryBinding;
@@ -69,9 +71,10 @@ import org.apache.qpid.server.store.berkeleydb.tuple.XidBinding;
 import org.apache.qpid.server.store.handler.DistributedTransactionHandler;
 import org.apache.qpid.server.store.handler.MessageHandler;
 import org.apache.qpid.server.store.handler.MessageInstanceHandler;
+import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
 
 
-public abstract class AbstractBDBMessageStore implements MessageStore
+public abstract class AbstractBDBMessageStore implements MessageStore, CommitLatencyProvider
 {
 
     private static final int LOCK_RETRY_ATTEMPTS = 5;
@@ -100,6 +103,8 @@ public abstract class AbstractBDBMessageStore implements MessageStore
 
     private boolean _limitBusted;
     private long _totalStoreSize;
+    private volatile int _contentCompressionThreshold =
+            QueueManagingVirtualHost.DEFAULT_MESSAGE_STORE_COMPRESSION_THRESHOLD;
     private final Random _lockConflictRandom = new Random();
 
     @Override
@@ -315,20 +320,20 @@ public abstract class AbstractBDBMessageStore implements MessageStore
      * Fills the provided ByteBuffer with as much content for the specified message as possible, starting
      * from the specified offset in the message.
      *
-     * @param messageId The message to get the data for.
-     * @param offset    The offset of the data within the message.
-     * @param dst       The destination of the content read back
+     * @param messageId   The message to get the data for.
+     * @param contentSize The content size recorded in the message meta-data.
+     * @param offset      The offset of the data within the message.
+     * @param dst         The destination of the content read back
      *
      * @return The number of bytes inserted into the destination
      *
      * @throws org.apache.qpid.server.store.StoreException If the operation fails for any reason, or if the specified message does not exist.
      */
-    int getContent(long messageId, int offset, ByteBuffer dst) throws StoreException
+    int getContent(long messageId, int contentSize, int offset, ByteBuffer dst) throws StoreException
     {
         DatabaseEntry contentKeyEntry = new DatabaseEntry();
         LongBinding.longToEntry(messageId, contentKeyEntry);
         DatabaseEntry value = new DatabaseEntry();
-        ByteBufferBinding contentTupleBinding = ByteBufferBinding.getInstance();
 
 
         getLogger().debug("Message Id: {} Getting content body from offset: {}", messageId, offset);
@@ -341,22 +346,46 @@ public abstract class AbstractBDBMessageStore implements MessageStore
             OperationStatus status = getMessageContentDb().get(null, contentKeyEntry, value, LockMode.READ_UNCOMMITTED);
             if (status == OperationStatus.SUCCESS)
             {
-                QpidByteBuffer buffer = contentTupleBinding.entryToObject(value);
-                int size = buffer.remaining();
-                if (offset > size)
+                if (offset > contentSize)
                 {
-                    throw new RuntimeException("Offset " + offset + " is greater than message size " + size
+                    throw new RuntimeException("Offset " + offset + " is greater than message size " + contentSize
                                                + " for message id " + messageId + "!");
 
                 }
 
-                written = size - offset;
+                written = contentSize - offset;
                 if(written > dst.remaining())
                 {
                     written = dst.remaining();
                 }
-                buffer = buffer.view(offset, written);
-                buffer.get(dst);
+
+                if (value.getSize() == contentSize)
+                {
+                    dst.put(value.getData(), value.getOffset() + offset, written);
+                }
+                else
+                {
+                    Collection<QpidByteBuffer> content = MessageContentCompression.decode(value.getData(),
+                                                                                          value.getOffset(),
+                                                                                          value.getSize(),
+                                                                                          contentSize);
+                    int skip = offset;
+                    int remaining = written;
+                    for (QpidByteBuffer buf : content)
+                    {
+                        int bufSize = buf.remaining();
+                        if (remaining > 0 && skip < bufSize)
+                        {
+                            int length = Math.min(bufSize - skip, remaining);
+                            QpidByteBuffer view = buf.view(skip, length);
+                            view.get(dst);
+                            view.dispose();
+                            remaining -= length;
+                        }
+                        skip = Math.max(0, skip - bufSize);
+                        buf.dispose();
+                    }
+                }
             }
             return written;
         }
@@ -369,7 +398,7 @@ public abstract class AbstractBDBMessageStore implements MessageStore
         }
     }
 
-    Collection<QpidByteBuffer> getAllContent(long messageId) throws StoreException
+    Collection<QpidByteBuffer> getAllContent(long messageId, int contentSize) throws StoreException
     {
         DatabaseEntry contentKeyEntry = new DatabaseEntry();
         LongBinding.longToEntry(messageId, contentKeyEntry);
@@ -383,18 +412,10 @@ public abstract class AbstractBDBMessageStore implements MessageStore
 
             if (status == OperationStatus.SUCCESS)
             {
-                byte[] data = value.getData();
-                int offset = value.getOffset();
-                int length = value.getSize();
-                Collection<QpidByteBuffer> buffers = QpidByteBuffer.allocateDirectCollection(length);
-                for(QpidByteBuffer buf : buffers)
-                {
-                    int bufSize = buf.remaining();
-                    buf.put(data, offset, bufSize);
-                    buf.flip();
-                    offset+=bufSize;
-                }
-                return buffers;
+                return MessageContentCompression.decode(value.getData(),
+                                                        value.getOffset(),
+                                                        value.getSize(),
+                                                        contentSize);
             }
             else
             {
@@ -530,18 +551,7 @@ public abstract class AbstractBDBMessageStore implements MessageStore
         LongBinding.longToEntry(messageId, key);
         DatabaseEntry value = new DatabaseEntry();
 
-        int size = 0;
-
-        for(QpidByteBuffer buf : contentBody)
-        {
-            size += buf.remaining();
-        }
-        byte[] data = new byte[size];
-        ByteBuffer dst = ByteBuffer.wrap(data);
-        for(QpidByteBuffer buf : contentBody)
-        {
-            buf.copyTo(dst);
-        }
+        byte[] data = MessageContentCompression.encode(contentBody, _contentCompressionThreshold);
         value.setData(data);
         try
         {
@@ -918,8 +928,20 @@ public abstract class AbstractBDBMessageStore implements MessageStore
 
     protected abstract ConfiguredObject<?> getParent();
 
+    protected void initContentCompression(final ConfiguredObject<?> parent)
+    {
+        _contentCompressionThreshold = MessageContentCompression.getCompressionThreshold(parent);
+    }
+
     protected abstract EnvironmentFacade getEnvironmentFacade();
 
+    @Override
+    public LatencyHistogram getCommitLatency()
+    {
+        final EnvironmentFacade environmentFacade = getEnvironmentFacade();
+        return environmentFacade == null ? new LatencyHistogram() : environmentFacade.getCommitLatency();
+    }
+
     protected abstract long getPersistentSizeLowThreshold();
 
     protected abstract long getPersistentSizeHighThreshold();
@@ -1113,7 +1135,7 @@ public abstract class AbstractBDBMessageStore implements MessageStore
                 if(stored())
                 {
                     checkMessageStoreOpen();
-                    data = AbstractBDBMessageStore.this.getAllContent(_messageId);
+                    data = AbstractBDBMessageStore.this.getAllContent(_messageId, _contentSize);
                     _messageDataRef.setData(data);
                 }
                 else
@@ -579,6 +579,7 @@ public class BDBConfigurationStore implements MessageStoreProvider, DurableConfi
             if (_messageStoreOpen.compareAndSet(false, true))
             {
                 _parent = parent;
+                initContentCompression(parent);
 
                 final SizeMonitoringSettings sizeMonitorSettings = (SizeMonitoringSettings) parent;
                 _persistentSizeHighThreshold = sizeMonitorSettings.getStoreOverfullSize();
@@ -36,13 +36,22 @@ import com.sleepycat.je.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.qpid.server.stats.LatencyHistogram;
+
 public class CoalescingCommiter implements Committer
 {
     private final CommitThread _commitThread;
+    private final LatencyHistogram _commitLatency;
 
     public CoalescingCommiter(String name, EnvironmentFacade environmentFacade)
+    {
+        this(name, environmentFacade, new LatencyHistogram());
+    }
+
+    public CoalescingCommiter(String name, EnvironmentFacade environmentFacade, LatencyHistogram commitLatency)
     {
         _commitThread = new CommitThread("Commit-Thread-" + name, environmentFacade);
+        _commitLatency = commitLatency;
     }
 
     @Override
@@ -85,7 +94,7 @@ public class CoalescingCommiter implements Committer
     public <X> ListenableFuture<X> commitAsync(Transaction tx, X val)
     {
         ThreadNotifyingSettableFuture<X> future = new ThreadNotifyingSettableFuture<X>();
-        BDBCommitFutureResult<X> commitFuture = new BDBCommitFutureResult<X>(val, future);
+        BDBCommitFutureResult<X> commitFuture = new BDBCommitFutureResult<X>(val, future, _commitLatency);
         _commitThread.addJob(commitFuture, false);
         return future;
     }
@@ -95,16 +104,21 @@ public class CoalescingCommiter implements Committer
     {
         private final X _value;
         private final ThreadNotifyingSettableFuture<X> _future;
+        private final LatencyHistogram _commitLatency;
+        private final long _created = System.nanoTime();
 
         public BDBCommitFutureResult(X value,
-                                     final ThreadNotifyingSettableFuture<X> future)
+                                     final ThreadNotifyingSettableFuture<X> future,
+                                     final LatencyHistogram commitLatency)
         {
             _value = value;
             _future = future;
+            _commitLatency = commitLatency;
         }
 
         public void complete()
         {
+            _commitLatency.record((System.nanoTime() - _created) / 1000L);
             _future.set(_value);
         }
 
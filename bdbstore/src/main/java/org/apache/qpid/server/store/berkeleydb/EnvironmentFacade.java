@@ -36,6 +36,7 @@ import com.sleepycat.je.Transaction;
 
 import com.sleepycat.je.TransactionConfig;
 import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.stats.LatencyHistogram;
 
 public interface EnvironmentFacade
 {
@@ -71,6 +72,11 @@ public interface EnvironmentFacade
     void commit(Transaction tx, boolean sync);
     <X> ListenableFuture<X> commitAsync(Transaction tx, X val);
 
+    /**
+     * @return the latencies, in microseconds, of transactions committed through this facade
+     */
+    LatencyHistogram getCommitLatency();
+
     RuntimeException handleDatabaseException(String contextMessage, RuntimeException e);
 
     void closeDatabase(String name);
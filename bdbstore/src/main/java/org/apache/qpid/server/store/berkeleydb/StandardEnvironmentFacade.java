@@ -46,6 +46,7 @@ import com.sleepycat.je.SequenceConfig;
 import com.sleepycat.je.Transaction;
 import com.sleepycat.je.TransactionConfig;
 import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.stats.LatencyHistogram;
 import org.apache.qpid.server.store.berkeleydb.upgrade.Upgrader;
 
 import org.slf4j.Logger;
@@ -64,6 +65,7 @@ public class StandardEnvironmentFacade implements EnvironmentFacade
     private final AtomicReference<Environment> _environment;
 
     private final Committer _committer;
+    private final LatencyHistogram _commitLatency = new LatencyHistogram();
     private final File _environmentPath;
 
     private static final Set<String> PARAMS_SET_BY_DEFAULT;
@@ -157,7 +159,7 @@ public class StandardEnvironmentFacade implements EnvironmentFacade
             }
         }
 
-        _committer =  new CoalescingCommiter(name, this);
+        _committer =  new CoalescingCommiter(name, this, _commitLatency);
         _committer.start();
     }
 
@@ -171,6 +173,7 @@ public class StandardEnvironmentFacade implements EnvironmentFacade
     @Override
     public void commit(com.sleepycat.je.Transaction tx, boolean syncCommit)
     {
+        final long start = System.nanoTime();
         try
         {
             tx.commitNoSync();
@@ -184,6 +187,7 @@ public class StandardEnvironmentFacade implements EnvironmentFacade
             throw handleDatabaseException("Got DatabaseException on commit", de);
         }
         _committer.commit(tx, syncCommit);
+        _commitLatency.record((System.nanoTime() - start) / 1000L);
     }
 
     @Override
@@ -204,6 +208,12 @@ public class StandardEnvironmentFacade implements EnvironmentFacade
         return _committer.commitAsync(tx, val);
     }
 
+    @Override
+    public LatencyHistogram getCommitLatency()
+    {
+        return _commitLatency;
+    }
+
     @Override
     public void close()
     {
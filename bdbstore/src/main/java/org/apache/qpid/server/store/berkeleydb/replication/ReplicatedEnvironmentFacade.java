@@ -63,6 +63,7 @@ import com.sleepycat.je.rep.vlsn.VLSNRange;
 import com.sleepycat.je.utilint.PropUtil;
 import com.sleepycat.je.utilint.VLSN;
 import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.stats.LatencyHistogram;
 import org.apache.qpid.server.store.berkeleydb.EnvironmentUtils;
 import org.apache.qpid.server.store.berkeleydb.upgrade.Upgrader;
 import org.slf4j.Logger;
@@ -225,6 +226,7 @@ public class ReplicatedEnvironmentFacade implements EnvironmentFacade, StateChan
     private volatile Durability _realMessageStoreDurability = null;
     private volatile Durability _messageStoreDurability;
     private volatile CoalescingCommiter _coalescingCommiter = null;
+    private final LatencyHistogram _commitLatency = new LatencyHistogram();
     private volatile long _joinTime;
     private volatile ReplicatedEnvironment.State _lastKnownEnvironmentState;
     private volatile long _envSetupTimeoutMillis;
@@ -314,6 +316,7 @@ public class ReplicatedEnvironmentFacade implements EnvironmentFacade, StateChan
     @Override
     public void commit(final Transaction tx, boolean syncCommit)
     {
+        final long start = System.nanoTime();
         try
         {
             // Using commit() instead of commitNoSync() for the HA store to allow
@@ -330,12 +333,13 @@ public class ReplicatedEnvironmentFacade implements EnvironmentFacade, StateChan
         {
             _coalescingCommiter.commit(tx, syncCommit);
         }
-
+        _commitLatency.record((System.nanoTime() - start) / 1000L);
     }
 
     @Override
     public <X> ListenableFuture<X> commitAsync(final Transaction tx, final X val)
     {
+        final long start = System.nanoTime();
         try
         {
             // Using commit() instead of commitNoSync() for the HA store to allow
@@ -352,9 +356,16 @@ public class ReplicatedEnvironmentFacade implements EnvironmentFacade, StateChan
         {
             return _coalescingCommiter.commitAsync(tx, val);
         }
+        _commitLatency.record((System.nanoTime() - start) / 1000L);
         return Futures.immediateFuture(val);
     }
 
+    @Override
+    public LatencyHistogram getCommitLatency()
+    {
+        return _commitLatency;
+    }
+
     @Override
     public void close()
     {
@@ -1756,7 +1767,7 @@ public class ReplicatedEnvironmentFacade implements EnvironmentFacade, StateChan
             if (localTransactionSynchronizationPolicy == LOCAL_TRANSACTION_SYNCHRONIZATION_POLICY)
             {
                 localTransactionSynchronizationPolicy = SyncPolicy.NO_SYNC;
-                _coalescingCommiter = new CoalescingCommiter(_configuration.getGroupName(), this);
+                _coalescingCommiter = new CoalescingCommiter(_configuration.getGroupName(), this, _commitLatency);
                 _coalescingCommiter.start();
             }
             _realMessageStoreDurability = new Durability(localTransactionSynchronizationPolicy, remoteTransactionSynchronizationPolicy, replicaAcknowledgmentPolicy);
@@ -171,7 +171,8 @@ public class BDBMessageStoreTest extends MessageStoreTestCase
         assertEquals("Property MessageID has changed", props_0_8.getMessageIdAsString(), returnedProperties_0_8.getMessageIdAsString());
 
         ByteBuffer recoveredContent_0_8 = ByteBuffer.allocate((int) chb_0_8.getBodySize()) ;
-        long recoveredCount_0_8 = reopenedBdbStore.getContent(messageid_0_8, 0, recoveredContent_0_8);
+        long recoveredCount_0_8 = reopenedBdbStore.getContent(messageid_0_8, (int) chb_0_8.getBodySize(), 0,
+                                                              recoveredContent_0_8);
         assertEquals("Incorrect amount of payload data recovered", chb_0_8.getBodySize(), recoveredCount_0_8);
         String returnedPayloadString_0_8 = new String(recoveredContent_0_8.array());
         assertEquals("Message Payload has changed", bodyText, returnedPayloadString_0_8);
@@ -202,7 +203,8 @@ public class BDBMessageStoreTest extends MessageStoreTestCase
         assertEquals("Message content type has changed", msgProps_0_10.getContentType(), returnedMsgProps.getContentType());
 
         ByteBuffer recoveredContent = ByteBuffer.allocate((int) msgProps_0_10.getContentLength()) ;
-        long recoveredCount = reopenedBdbStore.getContent(messageid_0_10, 0, recoveredContent);
+        long recoveredCount = reopenedBdbStore.getContent(messageid_0_10, (int) msgProps_0_10.getContentLength(), 0,
+                                                          recoveredContent);
         assertEquals("Incorrect amount of payload data recovered", msgProps_0_10.getContentLength(), recoveredCount);
 
         String returnedPayloadString_0_10 = new String(recoveredContent.array());
@@ -265,14 +267,14 @@ public class BDBMessageStoreTest extends MessageStoreTestCase
 
         // normal case: offset is 0
         ByteBuffer dst = ByteBuffer.allocate(10);
-        int length = bdbStore.getContent(messageid_0_8, 0, dst);
+        int length = bdbStore.getContent(messageid_0_8, CONTENT_BYTES.length, 0, dst);
         assertEquals("Unexpected length", CONTENT_BYTES.length, length);
         byte[] array = dst.array();
         assertTrue("Unexpected content", Arrays.equals(CONTENT_BYTES, array));
 
         // offset is in the middle
         dst = ByteBuffer.allocate(10);
-        length = bdbStore.getContent(messageid_0_8, 5, dst);
+        length = bdbStore.getContent(messageid_0_8, CONTENT_BYTES.length, 5, dst);
         assertEquals("Unexpected length", 5, length);
         array = dst.array();
         byte[] expected = new byte[10];
@@ -283,7 +285,7 @@ public class BDBMessageStoreTest extends MessageStoreTestCase
         dst = ByteBuffer.allocate(10);
         try
         {
-            bdbStore.getContent(messageid_0_8, 15, dst);
+            bdbStore.getContent(messageid_0_8, CONTENT_BYTES.length, 15, dst);
             fail("Should fail for the offset greater than message size");
         }
         catch (RuntimeException e)
@@ -294,7 +296,7 @@ public class BDBMessageStoreTest extends MessageStoreTestCase
 
         // buffer is smaller then message size
         dst = ByteBuffer.allocate(5);
-        length = bdbStore.getContent(messageid_0_8, 0, dst);
+        length = bdbStore.getContent(messageid_0_8, CONTENT_BYTES.length, 0, dst);
         assertEquals("Unexpected length", 5, length);
         array = dst.array();
         expected = new byte[5];
@@ -303,7 +305,7 @@ public class BDBMessageStoreTest extends MessageStoreTestCase
 
         // buffer is smaller then message size, offset is not 0
         dst = ByteBuffer.allocate(5);
-        length = bdbStore.getContent(messageid_0_8, 2, dst);
+        length = bdbStore.getContent(messageid_0_8, CONTENT_BYTES.length, 2, dst);
         assertEquals("Unexpected length", 5, length);
         array = dst.array();
         expected = new byte[5];
@@ -342,7 +344,7 @@ public class BDBMessageStoreTest extends MessageStoreTestCase
         ByteBuffer dst = ByteBuffer.allocate(1);
 
         assertEquals("Retrieved content when none was expected",
-                        0, bdbStore.getContent(messageid_0_8, 0, dst));
+                        0, bdbStore.getContent(messageid_0_8, CONTENT_BYTES.length, 0, dst));
     }
 
     private StoredMessage<MessageMetaData> createAndStoreSingleChunkMessage_0_8(MessageStore store)
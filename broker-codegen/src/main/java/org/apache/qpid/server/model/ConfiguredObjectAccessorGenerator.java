@@ -0,0 +1,246 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.model;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import org.apache.qpid.server.License;
+
+/**
+ * Generates, for each managed object interface declaring attributes or statistics, an accessor class which invokes
+ * the getters directly rather than through reflection.
+ */
+public class ConfiguredObjectAccessorGenerator extends AbstractProcessor
+{
+    public static final String MANAGED_OBJECT_CANONICAL_NAME = "org.apache.qpid.server.model.ManagedObject";
+
+    // not simply "Accessor" - ConfiguredObject itself is a managed object and its accessor must not be confused
+    // with the plugin interface org.apache.qpid.server.plugin.ConfiguredObjectAccessor
+    private static final String ACCESSOR_SUFFIX = "GetterAccessor";
+
+    private static final Set<String> GETTER_ANNOTATIONS;
+    static
+    {
+        Set<String> annotations = new HashSet<>();
+        annotations.add("org.apache.qpid.server.model.ManagedAttribute");
+        annotations.add("org.apache.qpid.server.model.DerivedAttribute");
+        annotations.add("org.apache.qpid.server.model.ManagedStatistic");
+        GETTER_ANNOTATIONS = Collections.unmodifiableSet(annotations);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latest();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes()
+    {
+        return Collections.singleton(MANAGED_OBJECT_CANONICAL_NAME);
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+    {
+        if(roundEnv.processingOver())
+        {
+            return false;
+        }
+
+        Elements elementUtils = processingEnv.getElementUtils();
+        TypeElement annotationElement = elementUtils.getTypeElement(MANAGED_OBJECT_CANONICAL_NAME);
+
+        try
+        {
+            for (Element e : roundEnv.getElementsAnnotatedWith(annotationElement))
+            {
+                if (e.getKind() == ElementKind.INTERFACE
+                    && e.getModifiers().contains(Modifier.PUBLIC)
+                    && e.getEnclosingElement().getKind() == ElementKind.PACKAGE)
+                {
+                    TypeElement interfaceElement = (TypeElement) e;
+                    List<String> getterNames = getGetterNames(interfaceElement);
+                    if(!getterNames.isEmpty())
+                    {
+                        generateAccessor(processingEnv.getFiler(), interfaceElement, getterNames);
+                    }
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Error: " + e.getLocalizedMessage());
+        }
+
+        return false;
+    }
+
+    private List<String> getGetterNames(final TypeElement interfaceElement)
+    {
+        List<String> getterNames = new ArrayList<>();
+        for(Element element : interfaceElement.getEnclosedElements())
+        {
+            if(element.getKind() == ElementKind.METHOD
+               && ((ExecutableElement) element).getParameters().isEmpty()
+               && isGetter(element))
+            {
+                getterNames.add(element.getSimpleName().toString());
+            }
+        }
+        return getterNames;
+    }
+
+    private boolean isGetter(final Element methodElement)
+    {
+        for(AnnotationMirror annotation : methodElement.getAnnotationMirrors())
+        {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if(GETTER_ANNOTATIONS.contains(annotationType.getQualifiedName().toString()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void generateAccessor(final Filer filer,
+                                  final TypeElement interfaceElement,
+                                  final List<String> getterNames)
+    {
+        String objectQualifiedName = interfaceElement.getQualifiedName().toString();
+        String objectSimpleName = interfaceElement.getSimpleName().toString();
+        String accessorSimpleName = objectSimpleName + ACCESSOR_SUFFIX;
+        String accessorName = objectQualifiedName + ACCESSOR_SUFFIX;
+        PackageElement packageElement = (PackageElement) interfaceElement.getEnclosingElement();
+        try
+        {
+            JavaFileObject accessorFile = filer.createSourceFile(accessorName, interfaceElement);
+            PrintWriter pw = new PrintWriter(new OutputStreamWriter(accessorFile.openOutputStream(), "UTF-8"));
+            pw.println("/*");
+            for (String headerLine : License.LICENSE)
+            {
+                pw.println(" *" + headerLine);
+            }
+            pw.println(" */");
+            pw.println();
+            pw.print("package ");
+            pw.print(packageElement.getQualifiedName());
+            pw.println(";");
+            pw.println();
+            pw.println("import java.util.Arrays;");
+            pw.println("import java.util.Collections;");
+            pw.println("import java.util.List;");
+            pw.println();
+            pw.println("import org.apache.qpid.server.model.ConfiguredObject;");
+            pw.println("import org.apache.qpid.server.plugin.PluggableService;");
+            pw.println();
+            pw.println("@PluggableService");
+            pw.println("@SuppressWarnings(\"rawtypes\")");
+            pw.println("public final class " + accessorSimpleName
+                       + " implements org.apache.qpid.server.plugin.ConfiguredObjectAccessor");
+            pw.println("{");
+            pw.println("    private static final List<String> GETTER_NAMES =");
+            pw.print("            Collections.unmodifiableList(Arrays.asList(");
+            boolean first = true;
+            for(String getterName : getterNames)
+            {
+                if(!first)
+                {
+                    pw.print(", ");
+                }
+                first = false;
+                pw.print("\"" + getterName + "\"");
+            }
+            pw.println("));");
+            pw.println();
+            pw.println("    @Override");
+            pw.println("    public String getType()");
+            pw.println("    {");
+            pw.println("        return \"" + objectQualifiedName + "\";");
+            pw.println("    }");
+            pw.println();
+            pw.println("    @Override");
+            pw.println("    public Class<?> getConfiguredObjectClass()");
+            pw.println("    {");
+            pw.println("        return " + objectSimpleName + ".class;");
+            pw.println("    }");
+            pw.println();
+            pw.println("    @Override");
+            pw.println("    public List<String> getGetterNames()");
+            pw.println("    {");
+            pw.println("        return GETTER_NAMES;");
+            pw.println("    }");
+            pw.println();
+            pw.println("    @Override");
+            pw.println("    public Object getValue(final ConfiguredObject<?> object, final int index)");
+            pw.println("    {");
+            pw.println("        final " + objectSimpleName + " target = (" + objectSimpleName + ") object;");
+            pw.println("        switch(index)");
+            pw.println("        {");
+            int index = 0;
+            for(String getterName : getterNames)
+            {
+                pw.println("            case " + (index++) + ":");
+                pw.println("                return target." + getterName + "();");
+            }
+            pw.println("            default:");
+            pw.println("                throw new IllegalArgumentException(\"No getter with index \" + index"
+                       + " + \" on " + objectSimpleName + "\");");
+            pw.println("        }");
+            pw.println("    }");
+            pw.println("}");
+
+            pw.close();
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Failed to write file: "
+                                                     + accessorName
+                                                     + " - "
+                                                     + e.getLocalizedMessage()
+                                                    );
+        }
+    }
+}
@@ -50,6 +50,7 @@ import org.slf4j.LoggerFactory;
 import org.apache.qpid.configuration.CommonProperties;
 import org.apache.qpid.server.configuration.updater.TaskExecutor;
 import org.apache.qpid.server.configuration.updater.TaskExecutorImpl;
+import org.apache.qpid.server.logging.AsynchronousLoggingMessageLogger;
 import org.apache.qpid.server.logging.EventLogger;
 import org.apache.qpid.server.logging.LogMessage;
 import org.apache.qpid.server.logging.LoggingMessageLogger;
@@ -194,6 +195,11 @@ public class SystemLauncher
     {
         _taskExecutor.stop();
 
+        if (_eventLogger != null && _eventLogger.getMessageLogger() instanceof AsynchronousLoggingMessageLogger)
+        {
+            ((AsynchronousLoggingMessageLogger) _eventLogger.getMessageLogger()).close();
+        }
+
         _listener.onShutdown(exitStatusCode);
 
         _systemConfig = null;
@@ -241,7 +247,18 @@ public class SystemLauncher
 
         // Create the RootLogger to be used during broker operation
         boolean statusUpdatesEnabled = Boolean.parseBoolean(System.getProperty(SystemConfig.PROPERTY_STATUS_UPDATES, "true"));
-        MessageLogger messageLogger = new LoggingMessageLogger(statusUpdatesEnabled);
+        boolean asynchronousStatusUpdates = Boolean.getBoolean(SystemConfig.PROPERTY_ASYNCHRONOUS_STATUS_UPDATES);
+        MessageLogger messageLogger;
+        if (asynchronousStatusUpdates)
+        {
+            int bufferSize = Integer.getInteger(SystemConfig.PROPERTY_STATUS_UPDATES_BUFFER_SIZE,
+                                                SystemConfig.DEFAULT_STATUS_UPDATES_BUFFER_SIZE);
+            messageLogger = new AsynchronousLoggingMessageLogger(statusUpdatesEnabled, bufferSize);
+        }
+        else
+        {
+            messageLogger = new LoggingMessageLogger(statusUpdatesEnabled);
+        }
         _eventLogger.setMessageLogger(messageLogger);
 
 
@@ -134,7 +134,8 @@ public abstract class AbstractConsumerTarget<T extends AbstractConsumerTarget<T>
     @Override
     public boolean processPending()
     {
-        if (!getSessionModel().getAMQPConnection().isIOThread())
+        final AMQSessionModel<?,T> sessionModel = getSessionModel();
+        if (!sessionModel.getAMQPConnection().isIOThread(sessionModel))
         {
             return false;
         }
@@ -74,7 +74,7 @@ public abstract class AbstractMessageLogger implements MessageLogger
     {
         if (isMessageEnabled(message.getLogHierarchy()))
         {
-            rawMessage(_msgPrefix + getActor() + message, message.getLogHierarchy());
+            logMessage(_msgPrefix + getActor(), message);
         }
     }
 
@@ -82,10 +82,22 @@ public abstract class AbstractMessageLogger implements MessageLogger
     {
         if (isMessageEnabled(message.getLogHierarchy()))
         {
-            rawMessage(_msgPrefix + getActor() + subject.toLogString() + message,
-                       message.getLogHierarchy());
+            logMessage(_msgPrefix + getActor() + subject.toLogString(), message);
         }
     }
+
+    /**
+     * Renders and logs the message. The actor and subject are resolved by the caller, as they depend
+     * on the security context of the calling thread.
+     *
+     * @param prefix the prefix, actor and subject of the message
+     * @param message the message to log
+     */
+    void logMessage(String prefix, LogMessage message)
+    {
+        rawMessage(prefix + message, message.getLogHierarchy());
+    }
+
     abstract void rawMessage(String message, String logHierarchy);
 
     abstract void rawMessage(String message, Throwable throwable, String logHierarchy);
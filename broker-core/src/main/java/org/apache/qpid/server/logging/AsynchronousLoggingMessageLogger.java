@@ -0,0 +1,227 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.qpid.server.logging;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.security.auth.Subject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link LoggingMessageLogger} which hands messages to a dedicated thread through a bounded buffer, so
+ * that formatting and appending happen off the calling thread (often an I/O thread). The actor and
+ * subject are still resolved by the caller, and the caller's subject is restored around the append so that
+ * appender filters which look at it (such as those of virtual host loggers) see the same subject as they
+ * would when logging synchronously. When the buffer is full messages are dropped and counted rather than
+ * blocking the caller; the logging thread reports drops as they occur.
+ */
+public class AsynchronousLoggingMessageLogger extends LoggingMessageLogger
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousLoggingMessageLogger.class);
+
+    private static final int MAXIMUM_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT = 100L;
+    private static final long CLOSE_TIMEOUT = 5000L;
+
+    private final BlockingQueue<PendingMessage> _buffer;
+    private final int _bufferSize;
+    private final AtomicLong _droppedMessageCount = new AtomicLong();
+    private final AtomicLong _loggedMessageCount = new AtomicLong();
+    private final Thread _loggingThread;
+    private volatile boolean _closed;
+
+    /** Only accessed by the logging thread */
+    private long _reportedDroppedMessageCount;
+
+    public AsynchronousLoggingMessageLogger(boolean statusUpdatesEnabled, int bufferSize)
+    {
+        super(statusUpdatesEnabled);
+        _bufferSize = bufferSize;
+        _buffer = new ArrayBlockingQueue<>(bufferSize);
+        _loggingThread = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                processMessages();
+            }
+        }, "OperationalLogging");
+        _loggingThread.setDaemon(true);
+        _loggingThread.start();
+    }
+
+    @Override
+    void logMessage(final String prefix, final LogMessage message)
+    {
+        if (_closed)
+        {
+            super.logMessage(prefix, message);
+        }
+        else
+        {
+            final PendingMessage pending =
+                    new PendingMessage(prefix, message, Subject.getSubject(AccessController.getContext()));
+            if (!_buffer.offer(pending))
+            {
+                _droppedMessageCount.incrementAndGet();
+            }
+            else if (_closed && _buffer.remove(pending))
+            {
+                // closed while offering, so the logging thread may already have finished
+                logBufferedMessage(pending);
+            }
+        }
+    }
+
+    public long getDroppedMessageCount()
+    {
+        return _droppedMessageCount.get();
+    }
+
+    public long getLoggedMessageCount()
+    {
+        return _loggedMessageCount.get();
+    }
+
+    public int getBufferedMessageCount()
+    {
+        return _buffer.size();
+    }
+
+    /**
+     * Stops accepting messages for asynchronous logging and waits for those already buffered to be logged.
+     * Messages logged after this call are logged on the caller's thread, as are any left buffered once the
+     * logging thread has finished.
+     */
+    public void close()
+    {
+        _closed = true;
+        try
+        {
+            _loggingThread.join(CLOSE_TIMEOUT);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        PendingMessage pending;
+        while ((pending = _buffer.poll()) != null)
+        {
+            logBufferedMessage(pending);
+        }
+    }
+
+    private void processMessages()
+    {
+        final List<PendingMessage> batch = new ArrayList<>(MAXIMUM_BATCH_SIZE);
+        while (!_closed || !_buffer.isEmpty())
+        {
+            try
+            {
+                final PendingMessage first = _buffer.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (first != null)
+                {
+                    batch.add(first);
+                    _buffer.drainTo(batch, MAXIMUM_BATCH_SIZE - 1);
+                    for (PendingMessage pending : batch)
+                    {
+                        logBufferedMessage(pending);
+                    }
+                    batch.clear();
+                }
+                reportDroppedMessages();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        reportDroppedMessages();
+    }
+
+    private void logBufferedMessage(final PendingMessage pending)
+    {
+        try
+        {
+            logPendingMessage(pending);
+            _loggedMessageCount.incrementAndGet();
+        }
+        catch (RuntimeException e)
+        {
+            LOGGER.error("Unable to log operational message", e);
+        }
+    }
+
+    private void logPendingMessage(final PendingMessage pending)
+    {
+        if (pending._subject == null)
+        {
+            super.logMessage(pending._prefix, pending._message);
+        }
+        else
+        {
+            Subject.doAs(pending._subject, new PrivilegedAction<Void>()
+            {
+                @Override
+                public Void run()
+                {
+                    AsynchronousLoggingMessageLogger.super.logMessage(pending._prefix, pending._message);
+                    return null;
+                }
+            });
+        }
+    }
+
+    private void reportDroppedMessages()
+    {
+        final long droppedMessageCount = _droppedMessageCount.get();
+        if (droppedMessageCount != _reportedDroppedMessageCount)
+        {
+            LOGGER.warn("{} operational log message(s) dropped as the buffer of {} messages was full",
+                        droppedMessageCount - _reportedDroppedMessageCount, _bufferSize);
+            _reportedDroppedMessageCount = droppedMessageCount;
+        }
+    }
+
+    private static final class PendingMessage
+    {
+        private final String _prefix;
+        private final LogMessage _message;
+        private final Subject _subject;
+
+        private PendingMessage(final String prefix, final LogMessage message, final Subject subject)
+        {
+            _prefix = prefix;
+            _message = message;
+            _subject = subject;
+        }
+    }
+}
@@ -114,14 +114,20 @@ public class BrokerMessages
      */
     public static LogMessage READY()
     {
-        String rawMessage = _messages.getString("READY");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("READY");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -165,21 +171,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage FAILED_CHILDREN(String param1)
+    public static LogMessage FAILED_CHILDREN(final String param1)
     {
-        String rawMessage = _messages.getString("FAILED_CHILDREN");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FAILED_CHILDREN");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -223,21 +235,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage FLOW_TO_DISK_ACTIVE(Number param1, Number param2)
+    public static LogMessage FLOW_TO_DISK_ACTIVE(final Number param1, final Number param2)
     {
-        String rawMessage = _messages.getString("FLOW_TO_DISK_ACTIVE");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FLOW_TO_DISK_ACTIVE");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -281,21 +299,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage LISTENING(String param1, Number param2)
+    public static LogMessage LISTENING(final String param1, final Number param2)
     {
-        String rawMessage = _messages.getString("LISTENING");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("LISTENING");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -339,21 +363,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage STARTUP(String param1, String param2)
+    public static LogMessage STARTUP(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("STARTUP");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("STARTUP");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -397,21 +427,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage MANAGEMENT_MODE(String param1, String param2)
+    public static LogMessage MANAGEMENT_MODE(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("MANAGEMENT_MODE");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("MANAGEMENT_MODE");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -455,21 +491,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage FLOW_TO_DISK_INACTIVE(Number param1, Number param2)
+    public static LogMessage FLOW_TO_DISK_INACTIVE(final Number param1, final Number param2)
     {
-        String rawMessage = _messages.getString("FLOW_TO_DISK_INACTIVE");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FLOW_TO_DISK_INACTIVE");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -513,21 +555,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage STATS_MSGS(Number param1, Number param2, Number param3)
+    public static LogMessage STATS_MSGS(final Number param1, final Number param2, final Number param3)
     {
-        String rawMessage = _messages.getString("STATS_MSGS");
-
-        final Object[] messageArguments = {param1, param2, param3};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("STATS_MSGS");
+
+                    final Object[] messageArguments = {param1, param2, param3};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -571,21 +619,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage PLATFORM(String param1, String param2, String param3, String param4, String param5, String param6)
+    public static LogMessage PLATFORM(final String param1, final String param2, final String param3, final String param4, final String param5, final String param6)
     {
-        String rawMessage = _messages.getString("PLATFORM");
-
-        final Object[] messageArguments = {param1, param2, param3, param4, param5, param6};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("PLATFORM");
+
+                    final Object[] messageArguments = {param1, param2, param3, param4, param5, param6};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -629,21 +683,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage CONFIG(String param1)
+    public static LogMessage CONFIG(final String param1)
     {
-        String rawMessage = _messages.getString("CONFIG");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CONFIG");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -687,21 +747,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage SHUTTING_DOWN(String param1, Number param2)
+    public static LogMessage SHUTTING_DOWN(final String param1, final Number param2)
     {
-        String rawMessage = _messages.getString("SHUTTING_DOWN");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("SHUTTING_DOWN");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -745,21 +811,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage STATS_DATA(Number param1, Number param2, Number param3)
+    public static LogMessage STATS_DATA(final Number param1, final Number param2, final Number param3)
     {
-        String rawMessage = _messages.getString("STATS_DATA");
-
-        final Object[] messageArguments = {param1, param2, param3};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("STATS_DATA");
+
+                    final Object[] messageArguments = {param1, param2, param3};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -803,21 +875,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage FATAL_ERROR(String param1)
+    public static LogMessage FATAL_ERROR(final String param1)
     {
-        String rawMessage = _messages.getString("FATAL_ERROR");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FATAL_ERROR");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -861,21 +939,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage OPERATION(String param1)
+    public static LogMessage OPERATION(final String param1)
     {
-        String rawMessage = _messages.getString("OPERATION");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("OPERATION");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -921,14 +1005,20 @@ public class BrokerMessages
      */
     public static LogMessage STOPPED()
     {
-        String rawMessage = _messages.getString("STOPPED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("STOPPED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -972,21 +1062,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage PROCESS(String param1)
+    public static LogMessage PROCESS(final String param1)
     {
-        String rawMessage = _messages.getString("PROCESS");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("PROCESS");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -1030,21 +1126,27 @@ public class BrokerMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage MAX_MEMORY(Number param1, Number param2)
+    public static LogMessage MAX_MEMORY(final Number param1, final Number param2)
     {
-        String rawMessage = _messages.getString("MAX_MEMORY");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("MAX_MEMORY");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
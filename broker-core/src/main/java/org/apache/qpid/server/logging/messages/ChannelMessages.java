@@ -110,14 +110,20 @@ public class ChannelMessages
      */
     public static LogMessage CREATE()
     {
-        String rawMessage = _messages.getString("CREATE");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CREATE");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -163,14 +169,20 @@ public class ChannelMessages
      */
     public static LogMessage FLOW_CONTROL_IGNORED()
     {
-        String rawMessage = _messages.getString("FLOW_CONTROL_IGNORED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FLOW_CONTROL_IGNORED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -216,14 +228,20 @@ public class ChannelMessages
      */
     public static LogMessage CLOSE()
     {
-        String rawMessage = _messages.getString("CLOSE");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CLOSE");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -267,21 +285,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage DISCARDMSG_NOROUTE(Number param1, String param2)
+    public static LogMessage DISCARDMSG_NOROUTE(final Number param1, final String param2)
     {
-        String rawMessage = _messages.getString("DISCARDMSG_NOROUTE");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DISCARDMSG_NOROUTE");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -325,21 +349,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage DEADLETTERMSG(Number param1, String param2)
+    public static LogMessage DEADLETTERMSG(final Number param1, final String param2)
     {
-        String rawMessage = _messages.getString("DEADLETTERMSG");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DEADLETTERMSG");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -383,21 +413,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage FLOW(String param1)
+    public static LogMessage FLOW(final String param1)
     {
-        String rawMessage = _messages.getString("FLOW");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FLOW");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -441,21 +477,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage PREFETCH_SIZE(Number param1, Number param2)
+    public static LogMessage PREFETCH_SIZE(final Number param1, final Number param2)
     {
-        String rawMessage = _messages.getString("PREFETCH_SIZE");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("PREFETCH_SIZE");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -499,21 +541,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage OPEN_TXN(Number param1)
+    public static LogMessage OPEN_TXN(final Number param1)
     {
-        String rawMessage = _messages.getString("OPEN_TXN");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("OPEN_TXN");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -557,21 +605,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage CLOSE_FORCED(Number param1, String param2)
+    public static LogMessage CLOSE_FORCED(final Number param1, final String param2)
     {
-        String rawMessage = _messages.getString("CLOSE_FORCED");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CLOSE_FORCED");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -615,21 +669,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage OPERATION(String param1)
+    public static LogMessage OPERATION(final String param1)
     {
-        String rawMessage = _messages.getString("OPERATION");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("OPERATION");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -673,21 +733,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage IDLE_TXN(Number param1)
+    public static LogMessage IDLE_TXN(final Number param1)
     {
-        String rawMessage = _messages.getString("IDLE_TXN");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("IDLE_TXN");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -731,21 +797,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage FLOW_ENFORCED(String param1)
+    public static LogMessage FLOW_ENFORCED(final String param1)
     {
-        String rawMessage = _messages.getString("FLOW_ENFORCED");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FLOW_ENFORCED");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -791,14 +863,20 @@ public class ChannelMessages
      */
     public static LogMessage FLOW_REMOVED()
     {
-        String rawMessage = _messages.getString("FLOW_REMOVED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("FLOW_REMOVED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -842,21 +920,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage LARGE_TRANSACTION_WARN(Number param1)
+    public static LogMessage LARGE_TRANSACTION_WARN(final Number param1)
     {
-        String rawMessage = _messages.getString("LARGE_TRANSACTION_WARN");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("LARGE_TRANSACTION_WARN");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -900,21 +984,27 @@ public class ChannelMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage DISCARDMSG_NOALTEXCH(Number param1, String param2, String param3)
+    public static LogMessage DISCARDMSG_NOALTEXCH(final Number param1, final String param2, final String param3)
     {
-        String rawMessage = _messages.getString("DISCARDMSG_NOALTEXCH");
-
-        final Object[] messageArguments = {param1, param2, param3};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DISCARDMSG_NOALTEXCH");
+
+                    final Object[] messageArguments = {param1, param2, param3};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -90,14 +90,20 @@ public class ConfigStoreMessages
      */
     public static LogMessage RECOVERY_START()
     {
-        String rawMessage = _messages.getString("RECOVERY_START");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("RECOVERY_START");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -143,14 +149,20 @@ public class ConfigStoreMessages
      */
     public static LogMessage CREATED()
     {
-        String rawMessage = _messages.getString("CREATED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CREATED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -194,21 +206,27 @@ public class ConfigStoreMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage STORE_LOCATION(String param1)
+    public static LogMessage STORE_LOCATION(final String param1)
     {
-        String rawMessage = _messages.getString("STORE_LOCATION");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("STORE_LOCATION");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -254,14 +272,20 @@ public class ConfigStoreMessages
      */
     public static LogMessage CLOSE()
     {
-        String rawMessage = _messages.getString("CLOSE");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CLOSE");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -307,14 +331,20 @@ public class ConfigStoreMessages
      */
     public static LogMessage RECOVERY_COMPLETE()
     {
-        String rawMessage = _messages.getString("RECOVERY_COMPLETE");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("RECOVERY_COMPLETE");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
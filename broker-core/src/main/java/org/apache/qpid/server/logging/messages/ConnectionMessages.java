@@ -94,21 +94,27 @@ public class ConnectionMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage OPERATION(String param1)
+    public static LogMessage OPERATION(final String param1)
     {
-        String rawMessage = _messages.getString("OPERATION");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("OPERATION");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -152,21 +158,27 @@ public class ConnectionMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage CLIENT_VERSION_LOG(String param1)
+    public static LogMessage CLIENT_VERSION_LOG(final String param1)
     {
-        String rawMessage = _messages.getString("CLIENT_VERSION_LOG");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CLIENT_VERSION_LOG");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -210,21 +222,27 @@ public class ConnectionMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage CLIENT_VERSION_REJECT(String param1)
+    public static LogMessage CLIENT_VERSION_REJECT(final String param1)
     {
-        String rawMessage = _messages.getString("CLIENT_VERSION_REJECT");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CLIENT_VERSION_REJECT");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -270,14 +288,20 @@ public class ConnectionMessages
      */
     public static LogMessage DROPPED_CONNECTION()
     {
-        String rawMessage = _messages.getString("DROPPED_CONNECTION");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DROPPED_CONNECTION");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -323,14 +347,20 @@ public class ConnectionMessages
      */
     public static LogMessage MODEL_DELETE()
     {
-        String rawMessage = _messages.getString("MODEL_DELETE");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("MODEL_DELETE");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -374,44 +404,50 @@ public class ConnectionMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage IDLE_CLOSE(String param1, boolean opt1)
+    public static LogMessage IDLE_CLOSE(final String param1, final boolean opt1)
     {
-        String rawMessage = _messages.getString("IDLE_CLOSE");
-        StringBuffer msg = new StringBuffer();
-
-        // Split the formatted message up on the option values so we can
-        // rebuild the message based on the configured options.
-        String[] parts = rawMessage.split("\\[");
-        msg.append(parts[0]);
-
-        int end;
-        if (parts.length > 1)
-        {
-
-            // Add Option : : {0}.
-            end = parts[1].indexOf(']');
-            if (opt1)
-            {
-                msg.append(parts[1].substring(0, end));
-            }
-
-            // Use 'end + 1' to remove the ']' from the output
-            msg.append(parts[1].substring(end + 1));
-        }
-
-        rawMessage = msg.toString();
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("IDLE_CLOSE");
+                    StringBuffer msg = new StringBuffer();
+
+                    // Split the formatted message up on the option values so we can
+                    // rebuild the message based on the configured options.
+                    String[] parts = rawMessage.split("\\[");
+                    msg.append(parts[0]);
+
+                    int end;
+                    if (parts.length > 1)
+                    {
+
+                        // Add Option : : {0}.
+                        end = parts[1].indexOf(']');
+                        if (opt1)
+                        {
+                            msg.append(parts[1].substring(0, end));
+                        }
+
+                        // Use 'end + 1' to remove the ']' from the output
+                        msg.append(parts[1].substring(end + 1));
+                    }
+
+                    rawMessage = msg.toString();
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -457,14 +493,20 @@ public class ConnectionMessages
      */
     public static LogMessage CLOSE()
     {
-        String rawMessage = _messages.getString("CLOSE");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CLOSE");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -508,74 +550,80 @@ public class ConnectionMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage OPEN(String param1, String param2, String param3, String param4, String param5, String param6, boolean opt1, boolean opt2, boolean opt3, boolean opt4)
+    public static LogMessage OPEN(final String param1, final String param2, final String param3, final String param4, final String param5, final String param6, final boolean opt1, final boolean opt2, final boolean opt3, final boolean opt4)
     {
-        String rawMessage = _messages.getString("OPEN");
-        StringBuffer msg = new StringBuffer();
-
-        // Split the formatted message up on the option values so we can
-        // rebuild the message based on the configured options.
-        String[] parts = rawMessage.split("\\[");
-        msg.append(parts[0]);
-
-        int end;
-        if (parts.length > 1)
-        {
-
-            // Add Option : : SSL.
-            end = parts[1].indexOf(']');
-            if (opt1)
-            {
-                msg.append(parts[1].substring(0, end));
-            }
-
-            // Use 'end + 1' to remove the ']' from the output
-            msg.append(parts[1].substring(end + 1));
-
-            // Add Option : : Client ID : {3}.
-            end = parts[2].indexOf(']');
-            if (opt2)
-            {
-                msg.append(parts[2].substring(0, end));
-            }
-
-            // Use 'end + 1' to remove the ']' from the output
-            msg.append(parts[2].substring(end + 1));
-
-            // Add Option : : Client Version : {4}.
-            end = parts[3].indexOf(']');
-            if (opt3)
-            {
-                msg.append(parts[3].substring(0, end));
-            }
-
-            // Use 'end + 1' to remove the ']' from the output
-            msg.append(parts[3].substring(end + 1));
-
-            // Add Option : : Client Product : {5}.
-            end = parts[4].indexOf(']');
-            if (opt4)
-            {
-                msg.append(parts[4].substring(0, end));
-            }
-
-            // Use 'end + 1' to remove the ']' from the output
-            msg.append(parts[4].substring(end + 1));
-        }
-
-        rawMessage = msg.toString();
-
-        final Object[] messageArguments = {param1, param2, param3, param4, param5, param6};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("OPEN");
+                    StringBuffer msg = new StringBuffer();
+
+                    // Split the formatted message up on the option values so we can
+                    // rebuild the message based on the configured options.
+                    String[] parts = rawMessage.split("\\[");
+                    msg.append(parts[0]);
+
+                    int end;
+                    if (parts.length > 1)
+                    {
+
+                        // Add Option : : SSL.
+                        end = parts[1].indexOf(']');
+                        if (opt1)
+                        {
+                            msg.append(parts[1].substring(0, end));
+                        }
+
+                        // Use 'end + 1' to remove the ']' from the output
+                        msg.append(parts[1].substring(end + 1));
+
+                        // Add Option : : Client ID : {3}.
+                        end = parts[2].indexOf(']');
+                        if (opt2)
+                        {
+                            msg.append(parts[2].substring(0, end));
+                        }
+
+                        // Use 'end + 1' to remove the ']' from the output
+                        msg.append(parts[2].substring(end + 1));
+
+                        // Add Option : : Client Version : {4}.
+                        end = parts[3].indexOf(']');
+                        if (opt3)
+                        {
+                            msg.append(parts[3].substring(0, end));
+                        }
+
+                        // Use 'end + 1' to remove the ']' from the output
+                        msg.append(parts[3].substring(end + 1));
+
+                        // Add Option : : Client Product : {5}.
+                        end = parts[4].indexOf(']');
+                        if (opt4)
+                        {
+                            msg.append(parts[4].substring(0, end));
+                        }
+
+                        // Use 'end + 1' to remove the ']' from the output
+                        msg.append(parts[4].substring(end + 1));
+                    }
+
+                    rawMessage = msg.toString();
+
+                    final Object[] messageArguments = {param1, param2, param3, param4, param5, param6};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
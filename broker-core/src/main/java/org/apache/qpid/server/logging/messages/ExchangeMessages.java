@@ -86,44 +86,50 @@ public class ExchangeMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage CREATED(String param1, String param2, boolean opt1)
+    public static LogMessage CREATED(final String param1, final String param2, final boolean opt1)
     {
-        String rawMessage = _messages.getString("CREATED");
-        StringBuffer msg = new StringBuffer();
-
-        // Split the formatted message up on the option values so we can
-        // rebuild the message based on the configured options.
-        String[] parts = rawMessage.split("\\[");
-        msg.append(parts[0]);
-
-        int end;
-        if (parts.length > 1)
-        {
-
-            // Add Option : Durable.
-            end = parts[1].indexOf(']');
-            if (opt1)
-            {
-                msg.append(parts[1].substring(0, end));
-            }
-
-            // Use 'end + 1' to remove the ']' from the output
-            msg.append(parts[1].substring(end + 1));
-        }
-
-        rawMessage = msg.toString();
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CREATED");
+                    StringBuffer msg = new StringBuffer();
+
+                    // Split the formatted message up on the option values so we can
+                    // rebuild the message based on the configured options.
+                    String[] parts = rawMessage.split("\\[");
+                    msg.append(parts[0]);
+
+                    int end;
+                    if (parts.length > 1)
+                    {
+
+                        // Add Option : Durable.
+                        end = parts[1].indexOf(']');
+                        if (opt1)
+                        {
+                            msg.append(parts[1].substring(0, end));
+                        }
+
+                        // Use 'end + 1' to remove the ']' from the output
+                        msg.append(parts[1].substring(end + 1));
+                    }
+
+                    rawMessage = msg.toString();
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -169,14 +175,20 @@ public class ExchangeMessages
      */
     public static LogMessage DELETED()
     {
-        String rawMessage = _messages.getString("DELETED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DELETED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -220,21 +232,27 @@ public class ExchangeMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage DISCARDMSG(String param1, String param2)
+    public static LogMessage DISCARDMSG(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("DISCARDMSG");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DISCARDMSG");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -278,21 +296,27 @@ public class ExchangeMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage OPERATION(String param1)
+    public static LogMessage OPERATION(final String param1)
     {
-        String rawMessage = _messages.getString("OPERATION");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("OPERATION");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -106,21 +106,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage LEFT(String param1, String param2)
+    public static LogMessage LEFT(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("LEFT");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("LEFT");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -164,21 +170,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage PRIORITY_CHANGED(String param1)
+    public static LogMessage PRIORITY_CHANGED(final String param1)
     {
-        String rawMessage = _messages.getString("PRIORITY_CHANGED");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("PRIORITY_CHANGED");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -222,21 +234,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage ROLE_CHANGED(String param1, String param2, String param3, String param4)
+    public static LogMessage ROLE_CHANGED(final String param1, final String param2, final String param3, final String param4)
     {
-        String rawMessage = _messages.getString("ROLE_CHANGED");
-
-        final Object[] messageArguments = {param1, param2, param3, param4};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("ROLE_CHANGED");
+
+                    final Object[] messageArguments = {param1, param2, param3, param4};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -280,21 +298,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage JOINED(String param1, String param2)
+    public static LogMessage JOINED(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("JOINED");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("JOINED");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -340,14 +364,20 @@ public class HighAvailabilityMessages
      */
     public static LogMessage NODE_ROLLEDBACK()
     {
-        String rawMessage = _messages.getString("NODE_ROLLEDBACK");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("NODE_ROLLEDBACK");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -393,14 +423,20 @@ public class HighAvailabilityMessages
      */
     public static LogMessage DELETED()
     {
-        String rawMessage = _messages.getString("DELETED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DELETED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -444,21 +480,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage INTRUDER_DETECTED(String param1, String param2)
+    public static LogMessage INTRUDER_DETECTED(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("INTRUDER_DETECTED");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("INTRUDER_DETECTED");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -502,21 +544,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage DESIGNATED_PRIMARY_CHANGED(String param1)
+    public static LogMessage DESIGNATED_PRIMARY_CHANGED(final String param1)
     {
-        String rawMessage = _messages.getString("DESIGNATED_PRIMARY_CHANGED");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("DESIGNATED_PRIMARY_CHANGED");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -560,21 +608,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage QUORUM_OVERRIDE_CHANGED(String param1)
+    public static LogMessage QUORUM_OVERRIDE_CHANGED(final String param1)
     {
-        String rawMessage = _messages.getString("QUORUM_OVERRIDE_CHANGED");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("QUORUM_OVERRIDE_CHANGED");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -620,14 +674,20 @@ public class HighAvailabilityMessages
      */
     public static LogMessage CREATED()
     {
-        String rawMessage = _messages.getString("CREATED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CREATED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -671,21 +731,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage ADDED(String param1, String param2)
+    public static LogMessage ADDED(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("ADDED");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("ADDED");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -731,14 +797,20 @@ public class HighAvailabilityMessages
      */
     public static LogMessage QUORUM_LOST()
     {
-        String rawMessage = _messages.getString("QUORUM_LOST");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("QUORUM_LOST");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -782,21 +854,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage TRANSFER_MASTER(String param1, String param2)
+    public static LogMessage TRANSFER_MASTER(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("TRANSFER_MASTER");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("TRANSFER_MASTER");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -840,21 +918,27 @@ public class HighAvailabilityMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage REMOVED(String param1, String param2)
+    public static LogMessage REMOVED(final String param1, final String param2)
     {
-        String rawMessage = _messages.getString("REMOVED");
-
-        final Object[] messageArguments = {param1, param2};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("REMOVED");
+
+                    final Object[] messageArguments = {param1, param2};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -96,14 +96,20 @@ public class MessageStoreMessages
      */
     public static LogMessage RECOVERY_START()
     {
-        String rawMessage = _messages.getString("RECOVERY_START");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("RECOVERY_START");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -149,14 +155,20 @@ public class MessageStoreMessages
      */
     public static LogMessage CREATED()
     {
-        String rawMessage = _messages.getString("CREATED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CREATED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -200,21 +212,27 @@ public class MessageStoreMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage STORE_LOCATION(String param1)
+    public static LogMessage STORE_LOCATION(final String param1)
     {
-        String rawMessage = _messages.getString("STORE_LOCATION");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("STORE_LOCATION");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
@@ -260,14 +278,20 @@ public class MessageStoreMessages
      */
     public static LogMessage RECOVERY_COMPLETE()
     {
-        String rawMessage = _messages.getString("RECOVERY_COMPLETE");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("RECOVERY_COMPLETE");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -313,14 +337,20 @@ public class MessageStoreMessages
      */
     public static LogMessage OVERFULL()
     {
-        String rawMessage = _messages.getString("OVERFULL");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("OVERFULL");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -366,14 +396,20 @@ public class MessageStoreMessages
      */
     public static LogMessage CLOSED()
     {
-        String rawMessage = _messages.getString("CLOSED");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("CLOSED");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -419,14 +455,20 @@ public class MessageStoreMessages
      */
     public static LogMessage UNDERFULL()
     {
-        String rawMessage = _messages.getString("UNDERFULL");
-
-        final String message = rawMessage;
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("UNDERFULL");
+
+                    message = rawMessage;
+                    _message = message;
+                }
                 return message;
             }
 
@@ -470,21 +512,27 @@ public class MessageStoreMessages
      * sequentially in the method call.
      *
      */
-    public static LogMessage RECOVERED(Number param1)
+    public static LogMessage RECOVERED(final Number param1)
     {
-        String rawMessage = _messages.getString("RECOVERED");
-
-        final Object[] messageArguments = {param1};
-        // Create a new MessageFormat to ensure thread safety.
-        // Sharing a MessageFormat and using applyPattern is not thread safe
-        MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
-
-        final String message = formatter.format(messageArguments);
-
         return new LogMessage()
         {
+            private volatile String _message;
+
             public String toString()
             {
+                String message = _message;
+                if (message == null)
+                {
+                    String rawMessage = _messages.getString("RECOVERED");
+
+                    final Object[] messageArguments = {param1};
+                    // Create a new MessageFormat to ensure thread safety.
+                    // Sharing a MessageFormat and using applyPattern is not thread safe
+                    MessageFormat formatter = new MessageFormat(rawMessage, _currentLocale);
+
+                    message = formatter.format(messageArguments);
+                    _message = message;
+                }
                 return message;
             }
 
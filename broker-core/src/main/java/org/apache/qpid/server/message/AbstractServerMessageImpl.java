@@ -109,6 +109,7 @@ public abstract class AbstractServerMessageImpl<X extends AbstractServerMessageI
                 if (updated)
                 {
                     _handle.remove();
+                    onDelete();
                 }
             }
             else
@@ -120,6 +121,19 @@ public abstract class AbstractServerMessageImpl<X extends AbstractServerMessageI
         while (!updated);
     }
 
+    /**
+     * Invoked once the last reference to the message has been released and the message removed from the store.
+     * Subclasses may override to release any resources they have cached for the message.
+     */
+    protected void onDelete()
+    {
+    }
+
+    @Override
+    public void contentFlowedToDisk()
+    {
+    }
+
     public String debugIdentity()
     {
         return "(HC:" + System.identityHashCode(this) + " ID:" + getMessageNumber() + " Ref:" + getReferenceCount() + ")";
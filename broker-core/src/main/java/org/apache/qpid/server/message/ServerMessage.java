@@ -53,4 +53,10 @@ public interface ServerMessage<T extends StorableMessageMetaData> extends Enqueu
     Object getConnectionReference();
 
     boolean isResourceAcceptable(TransactionLogResource resource);
+
+    /**
+     * Invoked after the content of the stored message has been flowed to disk so that the message can release
+     * anything it holds in memory that was derived from the content.
+     */
+    void contentFlowedToDisk();
 }
@@ -3150,7 +3150,7 @@ public abstract class AbstractConfiguredObject<X extends ConfiguredObject<X>> im
     public Map<String, Object> getStatistics(List<String> statistics)
     {
         Collection<ConfiguredObjectStatistic> stats = getTypeRegistry().getStatistics(getClass());
-        Map<String,Object> map = new HashMap<>();
+        Map<String,Object> map = new HashMap<>(1 + (stats.size() * 4) / 3);
         boolean allStats = statistics == null || statistics.isEmpty();
         for(ConfiguredObjectStatistic stat : stats)
         {
@@ -59,6 +59,7 @@ public interface Broker<X extends Broker<X>> extends ConfiguredObject<X>, EventL
     String CONNECTION_CLOSE_WHEN_NO_ROUTE = "connection.closeWhenNoRoute";
 
     String BROKER_FLOW_TO_DISK_THRESHOLD = "broker.flowToDiskThreshold";
+    String BROKER_FLOW_TO_DISK_CHECK_PERIOD = "broker.flowToDiskCheckPeriod";
     String BROKER_FAIL_STARTUP_WITH_ERRORED_CHILD = "broker.failStartupWithErroredChild";
 
     String BROKER_MSG_AUTH = "qpid.broker_msg_auth";
@@ -85,6 +86,13 @@ public interface Broker<X extends Broker<X>> extends ConfiguredObject<X>, EventL
     @ManagedContextDefault(name = BROKER_FLOW_TO_DISK_THRESHOLD)
     long DEFAULT_FLOW_TO_DISK_THRESHOLD = (long)(0.4 * (double) BrokerImpl.getMaxDirectMemorySize());
 
+    @ManagedContextDefault(name = BROKER_FLOW_TO_DISK_CHECK_PERIOD,
+            description = "Period (in ms) at which the broker compares the total size of the messages held on all"
+                          + " virtual hosts against " + BROKER_FLOW_TO_DISK_THRESHOLD + " and, once exceeded, flows"
+                          + " the excess to disk without waiting for virtual host housekeeping. A value of 0 or less"
+                          + " disables this check.")
+    long DEFAULT_FLOW_TO_DISK_CHECK_PERIOD = 1000L;
+
     @ManagedContextDefault(name = CHANNEL_FLOW_CONTROL_ENFORCEMENT_TIMEOUT)
     long DEFAULT_CHANNEL_FLOW_CONTROL_ENFORCEMENT_TIMEOUT = 5000l;
 
@@ -412,6 +412,15 @@ public class BrokerImpl extends AbstractContainer<BrokerImpl> implements Broker<
                                                              getHousekeepingThreadCount(),
                                                              getSystemTaskSubject("Housekeeping", _principal));
 
+        final long flowToDiskCheckPeriod = getContextValue(Long.class, BROKER_FLOW_TO_DISK_CHECK_PERIOD);
+        if (flowToDiskCheckPeriod > 0L)
+        {
+            _houseKeepingTaskExecutor.scheduleWithFixedDelay(new BrokerFlowToDiskCheckTask(),
+                                                             flowToDiskCheckPeriod,
+                                                             flowToDiskCheckPeriod,
+                                                             TimeUnit.MILLISECONDS);
+        }
+
         final PreferenceStoreUpdaterImpl updater = new PreferenceStoreUpdaterImpl();
         final Collection<PreferenceRecord> preferenceRecords = _preferenceStore.openAndLoad(updater);
         _preferenceTaskExecutor = new TaskExecutorImpl("broker-" + getName() + "-preferences", null);
@@ -502,18 +511,12 @@ public class BrokerImpl extends AbstractContainer<BrokerImpl> implements Broker<
         long totalTarget = getContextValue(Long.class, BROKER_FLOW_TO_DISK_THRESHOLD);
         LOGGER.debug("Assigning target sizes based on total target {}", totalTarget);
         long totalSize = 0l;
-        Collection<VirtualHostNode<?>> vhns = getVirtualHostNodes();
         Map<QueueManagingVirtualHost<?>, Long> vhs = new HashMap<>();
-        for (VirtualHostNode<?> vhn : vhns)
+        for (QueueManagingVirtualHost<?> host : getQueueManagingVirtualHosts())
         {
-            VirtualHost<?> vh = vhn.getVirtualHost();
-            if (vh instanceof QueueManagingVirtualHost)
-            {
-                QueueManagingVirtualHost<?> host = (QueueManagingVirtualHost<?>)vh;
-                long totalQueueDepthBytes = host.getTotalQueueDepthBytes();
-                vhs.put(host, totalQueueDepthBytes);
-                totalSize += totalQueueDepthBytes;
-            }
+            long totalQueueDepthBytes = host.getTotalQueueDepthBytes();
+            vhs.put(host, totalQueueDepthBytes);
+            totalSize += totalQueueDepthBytes;
         }
 
         if (totalSize > totalTarget && !_totalMessageSizeExceedThresholdReported)
@@ -552,6 +555,20 @@ public class BrokerImpl extends AbstractContainer<BrokerImpl> implements Broker<
         }
     }
 
+    private Collection<QueueManagingVirtualHost<?>> getQueueManagingVirtualHosts()
+    {
+        List<QueueManagingVirtualHost<?>> hosts = new ArrayList<>();
+        for (VirtualHostNode<?> vhn : getVirtualHostNodes())
+        {
+            VirtualHost<?> vh = vhn.getVirtualHost();
+            if (vh instanceof QueueManagingVirtualHost)
+            {
+                hosts.add((QueueManagingVirtualHost<?>) vh);
+            }
+        }
+        return hosts;
+    }
+
     @Override
     protected void onOpen()
     {
@@ -867,6 +884,27 @@ public class BrokerImpl extends AbstractContainer<BrokerImpl> implements Broker<
         }
     }
 
+    private class BrokerFlowToDiskCheckTask extends FlowToDiskCheckTask
+    {
+        @Override
+        long getThreshold()
+        {
+            return getContextValue(Long.class, BROKER_FLOW_TO_DISK_THRESHOLD);
+        }
+
+        @Override
+        Collection<QueueManagingVirtualHost<?>> getQueueManagingVirtualHosts()
+        {
+            return BrokerImpl.this.getQueueManagingVirtualHosts();
+        }
+
+        @Override
+        void assignTargetSizes()
+        {
+            BrokerImpl.this.assignTargetSizes();
+        }
+    }
+
     private class StatisticsReportingTask extends TimerTask
     {
         private final int DELIVERED = 0;
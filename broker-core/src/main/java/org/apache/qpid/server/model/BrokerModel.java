@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.qpid.server.plugin.ConfiguredObjectAccessor;
 import org.apache.qpid.server.plugin.ConfiguredObjectAttributeInjector;
 import org.apache.qpid.server.plugin.ConfiguredObjectRegistration;
 import org.apache.qpid.server.plugin.QpidServiceLoader;
@@ -115,6 +116,7 @@ public final class BrokerModel extends Model
         _objectFactory = new ConfiguredObjectFactoryImpl(this);
         _typeRegistry = new ConfiguredObjectTypeRegistry((new QpidServiceLoader()).instancesOf(ConfiguredObjectRegistration.class),
                                                          (new QpidServiceLoader()).instancesOf(ConfiguredObjectAttributeInjector.class),
+                                                         (new QpidServiceLoader()).instancesOf(ConfiguredObjectAccessor.class),
                                                          getSupportedCategories(),
                                                          _objectFactory);
     }
@@ -24,6 +24,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
+import org.apache.qpid.server.plugin.ConfiguredObjectAccessor;
 import org.apache.qpid.server.util.ServerScopedRuntimeException;
 
 abstract class ConfiguredObjectMethodAttributeOrStatistic<C extends ConfiguredObject, T>
@@ -33,6 +34,8 @@ abstract class ConfiguredObjectMethodAttributeOrStatistic<C extends ConfiguredOb
     private final String _name;
     private final Class<T> _type;
     private final Method _getter;
+    private ConfiguredObjectAccessor _accessor;
+    private int _accessorIndex;
 
     ConfiguredObjectMethodAttributeOrStatistic(final Method getter)
     {
@@ -63,6 +66,10 @@ abstract class ConfiguredObjectMethodAttributeOrStatistic<C extends ConfiguredOb
     @Override
     public T getValue(C configuredObject)
     {
+        if(_accessor != null)
+        {
+            return getType().cast(_accessor.getValue(configuredObject, _accessorIndex));
+        }
         try
         {
             return (T) getGetter().invoke(configuredObject);
@@ -101,4 +108,15 @@ abstract class ConfiguredObjectMethodAttributeOrStatistic<C extends ConfiguredOb
         return _getter;
     }
 
+    void setAccessor(final ConfiguredObjectAccessor accessor, final int index)
+    {
+        _accessor = accessor;
+        _accessorIndex = index;
+    }
+
+    boolean hasAccessor()
+    {
+        return _accessor != null;
+    }
+
 }
@@ -49,6 +49,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.qpid.server.plugin.ConfiguredObjectAccessor;
 import org.apache.qpid.server.plugin.ConfiguredObjectAttributeInjector;
 import org.apache.qpid.server.plugin.ConfiguredObjectRegistration;
 import org.apache.qpid.server.plugin.ConfiguredObjectTypeFactory;
@@ -210,14 +211,32 @@ public class ConfiguredObjectTypeRegistry
 
     private final ConfiguredObjectFactory _objectFactory;
     private final Iterable<ConfiguredObjectAttributeInjector> _attributeInjectors;
+    private final Map<Class<?>, ConfiguredObjectAccessor> _accessors = new HashMap<>();
 
     public ConfiguredObjectTypeRegistry(Iterable<ConfiguredObjectRegistration> configuredObjectRegistrations,
                                         final Iterable<ConfiguredObjectAttributeInjector> attributeInjectors,
                                         Collection<Class<? extends ConfiguredObject>> categoriesRestriction,
                                         final ConfiguredObjectFactory objectFactory)
+    {
+        this(configuredObjectRegistrations,
+             attributeInjectors,
+             Collections.<ConfiguredObjectAccessor>emptyList(),
+             categoriesRestriction,
+             objectFactory);
+    }
+
+    public ConfiguredObjectTypeRegistry(Iterable<ConfiguredObjectRegistration> configuredObjectRegistrations,
+                                        final Iterable<ConfiguredObjectAttributeInjector> attributeInjectors,
+                                        final Iterable<ConfiguredObjectAccessor> accessors,
+                                        Collection<Class<? extends ConfiguredObject>> categoriesRestriction,
+                                        final ConfiguredObjectFactory objectFactory)
     {
         _objectFactory = objectFactory;
         _attributeInjectors = attributeInjectors;
+        for (ConfiguredObjectAccessor accessor : accessors)
+        {
+            _accessors.put(accessor.getConfiguredObjectClass(), accessor);
+        }
         Set<Class<? extends ConfiguredObject>> categories = new HashSet<>();
         Set<Class<? extends ConfiguredObject>> types = new HashSet<>();
 
@@ -804,6 +823,7 @@ public class ConfiguredObjectTypeRegistry
                                                    + " does not meet these criteria.");
         }
         ConfiguredObjectStatistic statistic = new ConfiguredObjectMethodStatistic(clazz, m, statAnnotation);
+        attachAccessor(clazz, (ConfiguredObjectMethodAttributeOrStatistic<?, ?>) statistic);
         if (statisticSet.contains(statistic))
         {
             statisticSet.remove(statistic);
@@ -827,6 +847,7 @@ public class ConfiguredObjectTypeRegistry
         }
 
         ConfiguredObjectAttribute<?, ?> attribute = new ConfiguredDerivedMethodAttribute<>(clazz, m, annotation);
+        attachAccessor(clazz, (ConfiguredObjectMethodAttributeOrStatistic<?, ?>) attribute);
         if (attributeSet.contains(attribute))
         {
             attributeSet.remove(attribute);
@@ -850,6 +871,7 @@ public class ConfiguredObjectTypeRegistry
         }
 
         ConfiguredObjectAttribute<?, ?> attribute = new ConfiguredAutomatedAttribute<>(clazz, m, annotation);
+        attachAccessor(clazz, (ConfiguredObjectMethodAttributeOrStatistic<?, ?>) attribute);
         if (attributeSet.contains(attribute))
         {
             attributeSet.remove(attribute);
@@ -857,6 +879,20 @@ public class ConfiguredObjectTypeRegistry
         attributeSet.add(attribute);
     }
 
+    private void attachAccessor(final Class<?> clazz,
+                                final ConfiguredObjectMethodAttributeOrStatistic<?, ?> attributeOrStatistic)
+    {
+        ConfiguredObjectAccessor accessor = _accessors.get(clazz);
+        if (accessor != null)
+        {
+            int index = accessor.getGetterNames().indexOf(attributeOrStatistic.getGetter().getName());
+            if (index != -1)
+            {
+                attributeOrStatistic.setAccessor(accessor, index);
+            }
+        }
+    }
+
     private <X extends ConfiguredObject> void processManagedOperation(final Class<X> clazz,
                                                                       final Set<ConfiguredObjectOperation<?>> operationSet,
                                                                       final Method m)
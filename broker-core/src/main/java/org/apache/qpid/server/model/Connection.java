@@ -59,6 +59,13 @@ public interface Connection<X extends Connection<X>> extends ConfiguredObject<X>
     @ManagedContextDefault(name = MAX_MESSAGE_SIZE)
     int DEFAULT_MAX_MESSAGE_SIZE = 100 * 1024 * 1024;
 
+    String SCHEDULING_DELAY_STATISTICS_ENABLED = "connection.schedulingDelayStatisticsEnabled";
+    @ManagedContextDefault(name = SCHEDULING_DELAY_STATISTICS_ENABLED,
+                           description = "If true, the scheduling delay of each connection is recorded in a histogram"
+                                         + " so that its 99th percentile and maximum can be reported.  Off by default"
+                                         + " as the histogram costs memory for every connection.")
+    boolean DEFAULT_SCHEDULING_DELAY_STATISTICS_ENABLED = false;
+
     @DerivedAttribute
     String getClientId();
 
@@ -122,6 +129,16 @@ public interface Connection<X extends Connection<X>> extends ConfiguredObject<X>
     @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.COUNT, label = "Sessions")
     int getSessionCount();
 
+    @SuppressWarnings("unused")
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Scheduling Delay 99th Percentile (microseconds)")
+    long getSchedulingDelay99thPercentile();
+
+    @SuppressWarnings("unused")
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Maximum Scheduling Delay (microseconds)")
+    long getSchedulingDelayMaximum();
+
     //children
     Collection<Session> getSessions();
 
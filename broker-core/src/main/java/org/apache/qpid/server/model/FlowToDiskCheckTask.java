@@ -0,0 +1,86 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.model;
+
+import java.util.Collection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
+
+/**
+ * Compares the total size of the messages held on all virtual hosts against the flow to disk threshold between the
+ * (much less frequent) runs of virtual host housekeeping.  Once the threshold is crossed the target sizes are
+ * reassigned straight away, so that newly enqueued messages are flowed to disk on arrival, and the virtual hosts
+ * flow the excess of their fullest queues to disk.  This is repeated only while the total keeps growing.  Once the
+ * total drops back within the threshold the target sizes are reassigned again.
+ */
+abstract class FlowToDiskCheckTask implements Runnable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowToDiskCheckTask.class);
+
+    private long _lastRelievedSize;
+
+    @Override
+    public void run()
+    {
+        try
+        {
+            final long threshold = getThreshold();
+            final Collection<QueueManagingVirtualHost<?>> hosts = getQueueManagingVirtualHosts();
+            long totalSize = 0L;
+            for (QueueManagingVirtualHost<?> host : hosts)
+            {
+                totalSize += host.getTotalQueueDepthBytes();
+            }
+
+            if (totalSize > threshold)
+            {
+                if (totalSize > _lastRelievedSize)
+                {
+                    assignTargetSizes();
+                    for (QueueManagingVirtualHost<?> host : hosts)
+                    {
+                        host.flowToDiskBeyondTargetSize();
+                    }
+                    _lastRelievedSize = totalSize;
+                }
+            }
+            else if (_lastRelievedSize > 0L)
+            {
+                _lastRelievedSize = 0L;
+                assignTargetSizes();
+            }
+        }
+        catch (RuntimeException e)
+        {
+            // do not let a failure stop subsequent checks
+            LOGGER.warn("Unexpected exception whilst checking broker flow to disk threshold", e);
+        }
+    }
+
+    abstract long getThreshold();
+
+    abstract Collection<QueueManagingVirtualHost<?>> getQueueManagingVirtualHosts();
+
+    abstract void assignTargetSizes();
+}
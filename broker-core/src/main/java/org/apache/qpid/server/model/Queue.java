@@ -94,6 +94,23 @@ public interface Queue<X extends Queue<X>> extends ConfiguredObject<X>,
     @ManagedContextDefault( name = QUEUE_ESTIMATED_MESSAGE_MEMORY_OVERHEAD)
     long DEFAULT_ESTIMATED_MESSAGE_MEMORY_OVERHEAD = 1024L;
 
+    String QUEUE_CONTENT_PREFETCH_COUNT = "queue.contentPrefetchCount";
+    @SuppressWarnings("unused")
+    @ManagedContextDefault( name = QUEUE_CONTENT_PREFETCH_COUNT,
+            description = "The number of entries ahead of its consumers for which a queue loads the content of messages"
+                          + " that have been flowed to disk.  Zero disables prefetching.  A queue keeps a single"
+                          + " prefetch window that follows the entries most recently assigned to any consumer, so"
+                          + " consumers far apart in the queue, such as those with selectors or a consumer that"
+                          + " has fallen behind, are not each prefetched for.")
+    int DEFAULT_QUEUE_CONTENT_PREFETCH_COUNT = 0;
+
+    String QUEUE_HOUSEKEEPING_TIME_BUDGET = "queue.housekeepingTimeBudget";
+    @SuppressWarnings("unused")
+    @ManagedContextDefault( name = QUEUE_HOUSEKEEPING_TIME_BUDGET,
+            description = "The maximum time (in ms) a single housekeeping pass spends visiting the entries of a queue."
+                          + " The next pass resumes where the previous one stopped.  Zero or less removes the limit.")
+    long DEFAULT_QUEUE_HOUSEKEEPING_TIME_BUDGET = 100L;
+
     String QUEUE_SCAVANGE_COUNT = "qpid.queue.scavenge_count";
     @SuppressWarnings("unused")
     @ManagedContextDefault( name = QUEUE_SCAVANGE_COUNT)
@@ -363,6 +380,26 @@ public interface Queue<X extends Queue<X>> extends ConfiguredObject<X>,
     @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.ABSOLUTE_TIME, label = "Oldest Message")
     long getOldestMessageAge();
 
+    @SuppressWarnings("unused")
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Residence Time 50th Percentile (microseconds)")
+    long getQueueResidenceTime50thPercentile();
+
+    @SuppressWarnings("unused")
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Residence Time 99th Percentile (microseconds)")
+    long getQueueResidenceTime99thPercentile();
+
+    @SuppressWarnings("unused")
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Delivery To Acknowledge Time 50th Percentile (microseconds)")
+    long getDeliveryToAcknowledgeTime50thPercentile();
+
+    @SuppressWarnings("unused")
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Delivery To Acknowledge Time 99th Percentile (microseconds)")
+    long getDeliveryToAcknowledgeTime99thPercentile();
+
     @ManagedOperation(description = "reset cumulative and high watermark statistics values", changesConfiguredObjectState = false)
     void resetStatistics();
 
@@ -452,7 +489,25 @@ public interface Queue<X extends Queue<X>> extends ConfiguredObject<X>,
 
     long getPotentialMemoryFootprint();
 
+    /**
+     * Returns the estimated number of bytes by which the messages on the queue exceed the queue's target size.
+     */
+    long getEstimatedSizeOverTarget();
+
+    /**
+     * Flows to disk the messages held in memory beyond the queue's target size, without performing any of the other
+     * checks of {@link #checkMessageStatus()}.
+     *
+     * @return the number of bytes of message content flowed to disk
+     */
+    long flowToDiskBeyondTargetSize();
+
     boolean isHeld(QueueEntry queueEntry, final long evaluationTime);
 
+    /**
+     * Called by the entry list of the queue whenever an entry is added to it or deleted from it.
+     */
+    void entryAddedOrDeleted(QueueEntry entry, boolean added);
+
     void checkCapacity();
 }
@@ -70,6 +70,9 @@ public interface SystemConfig<X extends SystemConfig<X>> extends ConfiguredObjec
     String MANAGEMENT_MODE_USER_NAME = "mm_admin";
 
     String PROPERTY_STATUS_UPDATES = "qpid.broker_status_updates";
+    String PROPERTY_ASYNCHRONOUS_STATUS_UPDATES = "qpid.broker_status_updates_asynchronous";
+    String PROPERTY_STATUS_UPDATES_BUFFER_SIZE = "qpid.broker_status_updates_buffer_size";
+    int DEFAULT_STATUS_UPDATES_BUFFER_SIZE = 8192;
 
     @ManagedAttribute(immutable = true, defaultValue = Broker.BROKER_TYPE)
     String getDefaultContainerType();
@@ -23,6 +23,7 @@ package org.apache.qpid.server.model;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.apache.qpid.server.plugin.ConfiguredObjectAccessor;
 import org.apache.qpid.server.plugin.ConfiguredObjectAttributeInjector;
 import org.apache.qpid.server.plugin.ConfiguredObjectRegistration;
 import org.apache.qpid.server.plugin.QpidServiceLoader;
@@ -47,6 +48,7 @@ public final class SystemConfigBootstrapModel extends Model
         _objectFactory = new ConfiguredObjectFactoryImpl(this);
         _typeRegistry = new ConfiguredObjectTypeRegistry((new QpidServiceLoader()).instancesOf(ConfiguredObjectRegistration.class),
                                                          (new QpidServiceLoader()).instancesOf(ConfiguredObjectAttributeInjector.class),
+                                                         (new QpidServiceLoader()).instancesOf(ConfiguredObjectAccessor.class),
                                                          getSupportedCategories(),
                                                          _objectFactory);
     }
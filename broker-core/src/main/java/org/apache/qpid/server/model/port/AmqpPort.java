@@ -22,6 +22,7 @@ package org.apache.qpid.server.model.port;
 
 import java.net.SocketAddress;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.net.ssl.SSLContext;
 
@@ -98,6 +99,60 @@ public interface AmqpPort<X extends AmqpPort<X>> extends ClientAuthCapablePort<X
 
     String PROPERTY_DEFAULT_SUPPORTED_PROTOCOL_REPLY = "qpid.broker_default_supported_protocol_version_reply";
 
+    String PORT_AMQP_TLS_HANDSHAKE_THREAD_POOL_SIZE = "qpid.port.amqp.tlsHandshakeThreadPool.size";
+
+    @SuppressWarnings("unused")
+    @ManagedContextDefault(name = PORT_AMQP_TLS_HANDSHAKE_THREAD_POOL_SIZE,
+                           description = "Number of threads used to run the computationally expensive tasks of TLS"
+                                         + " handshakes, keeping them off the I/O threads. If set to 0 the tasks"
+                                         + " are run on the I/O threads.")
+    int DEFAULT_PORT_AMQP_TLS_HANDSHAKE_THREAD_POOL_SIZE = Math.max(Runtime.getRuntime().availableProcessors() / 2, 1);
+
+    String PORT_AMQP_TLS_HANDSHAKE_QUEUE_SIZE = "qpid.port.amqp.tlsHandshakeThreadPool.queueSize";
+
+    @SuppressWarnings("unused")
+    @ManagedContextDefault(name = PORT_AMQP_TLS_HANDSHAKE_QUEUE_SIZE,
+                           description = "Maximum number of TLS handshake tasks waiting for a handshake thread. Once"
+                                         + " reached, further tasks are run on the I/O threads.")
+    int DEFAULT_PORT_AMQP_TLS_HANDSHAKE_QUEUE_SIZE = 1024;
+
+    String PORT_AMQP_TLS_SESSION_CACHE_SIZE = "qpid.port.amqp.tlsSessionCacheSize";
+
+    @SuppressWarnings("unused")
+    @ManagedContextDefault(name = PORT_AMQP_TLS_SESSION_CACHE_SIZE,
+                           description = "Maximum number of TLS sessions cached by the port so that reconnecting"
+                                         + " clients can resume them with an abbreviated handshake. 0 means no limit.")
+    int DEFAULT_PORT_AMQP_TLS_SESSION_CACHE_SIZE = 20480;
+
+    String PORT_AMQP_TLS_SESSION_TIMEOUT = "qpid.port.amqp.tlsSessionTimeout";
+
+    @SuppressWarnings("unused")
+    @ManagedContextDefault(name = PORT_AMQP_TLS_SESSION_TIMEOUT,
+                           description = "Time (in seconds) for which a cached TLS session may be resumed. 0 means no"
+                                         + " limit.")
+    int DEFAULT_PORT_AMQP_TLS_SESSION_TIMEOUT = 86400;
+
+    String PORT_AMQP_SESSION_PROCESSING_THREAD_POOL_SIZE = "qpid.port.amqp.sessionProcessingThreadPool.size";
+
+    @SuppressWarnings("unused")
+    @ManagedContextDefault(name = PORT_AMQP_SESSION_PROCESSING_THREAD_POOL_SIZE,
+                           description = "Number of threads which help I/O threads process the pending work of the"
+                                         + " sessions of a single connection in parallel, each session remaining on"
+                                         + " one thread at a time. If set to 0 the sessions of a connection are"
+                                         + " processed in turn by its I/O thread. Applies to AMQP 0-8, 0-9 and 0-9-1"
+                                         + " connections.")
+    int DEFAULT_PORT_AMQP_SESSION_PROCESSING_THREAD_POOL_SIZE = 0;
+
+    String PORT_AMQP_CONNECTION_WORK_QUANTUM = "qpid.port.amqp.connectionWorkQuantum";
+
+    @SuppressWarnings("unused")
+    @ManagedContextDefault(name = PORT_AMQP_CONNECTION_WORK_QUANTUM,
+                           description = "Time (in milliseconds) for which an I/O thread processes the pending work of"
+                                         + " a connection before the connection is returned to the back of the work"
+                                         + " queue. Time overrun in one pass is deducted from the next. If set to 0"
+                                         + " the pending work of a connection is processed without a time limit.")
+    long DEFAULT_PORT_AMQP_CONNECTION_WORK_QUANTUM = 10;
+
     SSLContext getSSLContext();
 
     @ManagedAttribute(defaultValue = "*")
@@ -138,6 +193,21 @@ public interface AmqpPort<X extends AmqpPort<X>> extends ClientAuthCapablePort<X
     @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.COUNT, label = "Connections")
     int getConnectionCount();
 
+    @ManagedStatistic(statisticType = StatisticType.CUMULATIVE, units = StatisticUnit.COUNT, label = "TLS Handshakes")
+    long getTlsHandshakeCount();
+
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Average TLS Handshake Time (microseconds)")
+    long getTlsHandshakeAverageTime();
+
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Maximum TLS Handshake Time (microseconds)")
+    long getTlsHandshakeMaximumTime();
+
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.COUNT,
+                      label = "Pending TLS Handshake Tasks")
+    int getTlsHandshakeTasksPending();
+
     @DerivedAttribute(description = "Maximum time allowed for a new connection to send a protocol header."
                                     + " If the connection does not send a protocol header within this time,"
                                     + " the connection will be aborted.")
@@ -150,4 +220,22 @@ public interface AmqpPort<X extends AmqpPort<X>> extends ClientAuthCapablePort<X
     int decrementConnectionCount();
 
     int getNetworkBufferSize();
+
+    /**
+     * Returns the executor for the delegated tasks of TLS handshakes, or null if they are to be run by the caller.
+     */
+    Executor getTlsHandshakeExecutor();
+
+    /**
+     * Records a completed TLS handshake.
+     *
+     * @param handshakeTime time taken by the handshake in microseconds
+     */
+    void tlsHandshakeCompleted(long handshakeTime);
+
+    /**
+     * Returns the executor used to process the sessions of a connection in parallel, or null if they are processed
+     * in turn by the connection's I/O thread.
+     */
+    Executor getSessionProcessingExecutor();
 }
@@ -32,11 +32,17 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import javax.security.auth.Subject;
@@ -48,6 +54,7 @@ import com.google.common.util.concurrent.SettableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.qpid.pool.SuppressingInheritedAccessControlContextThreadFactory;
 import org.apache.qpid.server.configuration.IllegalConfigurationException;
 import org.apache.qpid.server.logging.messages.BrokerMessages;
 import org.apache.qpid.server.logging.messages.PortMessages;
@@ -109,6 +116,11 @@ public class AmqpPortImpl extends AbstractClientAuthCapablePortWithAuthProvider<
 
     private AcceptingTransport _transport;
     private SSLContext _sslContext;
+    private volatile ThreadPoolExecutor _tlsHandshakeExecutor;
+    private volatile ThreadPoolExecutor _sessionProcessingExecutor;
+    private final AtomicLong _tlsHandshakeCount = new AtomicLong();
+    private final AtomicLong _tlsHandshakeTotalTime = new AtomicLong();
+    private final AtomicLong _tlsHandshakeMaximumTime = new AtomicLong();
     private volatile int _connectionWarnCount;
     private volatile long _protocolHandshakeTimeout;
     private volatile int _boundPort = -1;
@@ -231,7 +243,9 @@ public class AmqpPortImpl extends AbstractClientAuthCapablePortWithAuthProvider<
             if (transports.contains(Transport.SSL) || transports.contains(Transport.WSS))
             {
                 _sslContext = createSslContext();
+                _tlsHandshakeExecutor = createTlsHandshakeExecutor();
             }
+            _sessionProcessingExecutor = createSessionProcessingExecutor();
             Protocol defaultSupportedProtocolReply = getDefaultAmqpSupportedReply();
             try
             {
@@ -278,6 +292,14 @@ public class AmqpPortImpl extends AbstractClientAuthCapablePortWithAuthProvider<
 
             _transport.close();
         }
+        if (_tlsHandshakeExecutor != null)
+        {
+            _tlsHandshakeExecutor.shutdown();
+        }
+        if (_sessionProcessingExecutor != null)
+        {
+            _sessionProcessingExecutor.shutdown();
+        }
         return Futures.immediateFuture(null);
     }
 
@@ -404,6 +426,13 @@ public class AmqpPortImpl extends AbstractClientAuthCapablePortWithAuthProvider<
             }
             sslContext.init(keyManagers, trustManagers, null);
 
+            SSLSessionContext sessionContext = sslContext.getServerSessionContext();
+            if (sessionContext != null)
+            {
+                sessionContext.setSessionCacheSize(getContextValue(Integer.class, PORT_AMQP_TLS_SESSION_CACHE_SIZE));
+                sessionContext.setSessionTimeout(getContextValue(Integer.class, PORT_AMQP_TLS_SESSION_TIMEOUT));
+            }
+
             return sslContext;
 
         }
@@ -413,6 +442,44 @@ public class AmqpPortImpl extends AbstractClientAuthCapablePortWithAuthProvider<
         }
     }
 
+    private ThreadPoolExecutor createTlsHandshakeExecutor()
+    {
+        int threadPoolSize = getContextValue(Integer.class, PORT_AMQP_TLS_HANDSHAKE_THREAD_POOL_SIZE);
+        if (threadPoolSize <= 0)
+        {
+            return null;
+        }
+        int queueSize = Math.max(getContextValue(Integer.class, PORT_AMQP_TLS_HANDSHAKE_QUEUE_SIZE), 1);
+        // once the queue is full the I/O thread runs the task itself, limiting the rate of new handshakes
+        return new ThreadPoolExecutor(threadPoolSize,
+                                      threadPoolSize,
+                                      0L,
+                                      TimeUnit.MILLISECONDS,
+                                      new LinkedBlockingQueue<Runnable>(queueSize),
+                                      new SuppressingInheritedAccessControlContextThreadFactory("TLS-Handshake-" + getName(),
+                                                                                               null),
+                                      new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ThreadPoolExecutor createSessionProcessingExecutor()
+    {
+        int threadPoolSize = getContextValue(Integer.class, PORT_AMQP_SESSION_PROCESSING_THREAD_POOL_SIZE);
+        if (threadPoolSize <= 0)
+        {
+            return null;
+        }
+        // helpers which cannot be queued are simply not started; the I/O thread processes the remaining sessions
+        return new ThreadPoolExecutor(threadPoolSize,
+                                      threadPoolSize,
+                                      0L,
+                                      TimeUnit.MILLISECONDS,
+                                      new LinkedBlockingQueue<Runnable>(threadPoolSize),
+                                      new SuppressingInheritedAccessControlContextThreadFactory("Session-Processing-"
+                                                                                               + getName(),
+                                                                                               null),
+                                      new ThreadPoolExecutor.DiscardPolicy());
+    }
+
     private Protocol getDefaultAmqpSupportedReply()
     {
         String defaultAmqpSupportedReply = getContextKeys(false).contains(AmqpPort.PROPERTY_DEFAULT_SUPPORTED_PROTOCOL_REPLY) ?
@@ -614,4 +681,54 @@ public class AmqpPortImpl extends AbstractClientAuthCapablePortWithAuthProvider<
     {
         return _protocolHandshakeTimeout;
     }
+
+    @Override
+    public Executor getTlsHandshakeExecutor()
+    {
+        return _tlsHandshakeExecutor;
+    }
+
+    @Override
+    public Executor getSessionProcessingExecutor()
+    {
+        return _sessionProcessingExecutor;
+    }
+
+    @Override
+    public void tlsHandshakeCompleted(final long handshakeTime)
+    {
+        _tlsHandshakeCount.incrementAndGet();
+        _tlsHandshakeTotalTime.addAndGet(handshakeTime);
+        long maximumTime = _tlsHandshakeMaximumTime.get();
+        while (handshakeTime > maximumTime && !_tlsHandshakeMaximumTime.compareAndSet(maximumTime, handshakeTime))
+        {
+            maximumTime = _tlsHandshakeMaximumTime.get();
+        }
+    }
+
+    @Override
+    public long getTlsHandshakeCount()
+    {
+        return _tlsHandshakeCount.get();
+    }
+
+    @Override
+    public long getTlsHandshakeAverageTime()
+    {
+        long count = _tlsHandshakeCount.get();
+        return count == 0L ? 0L : _tlsHandshakeTotalTime.get() / count;
+    }
+
+    @Override
+    public long getTlsHandshakeMaximumTime()
+    {
+        return _tlsHandshakeMaximumTime.get();
+    }
+
+    @Override
+    public int getTlsHandshakeTasksPending()
+    {
+        ThreadPoolExecutor executor = _tlsHandshakeExecutor;
+        return executor == null ? 0 : executor.getQueue().size() + executor.getActiveCount();
+    }
 }
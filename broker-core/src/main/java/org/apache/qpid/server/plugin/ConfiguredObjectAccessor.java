@@ -0,0 +1,52 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.plugin;
+
+import java.util.List;
+
+import org.apache.qpid.server.model.ConfiguredObject;
+
+/**
+ * Provides typed, reflection free, access to the attribute and statistic getters declared by a managed object
+ * interface.  Implementations, named <code>&lt;Interface&gt;GetterAccessor</code>, are generated at build time by the
+ * broker-codegen annotation processor.
+ */
+public interface ConfiguredObjectAccessor extends Pluggable
+{
+    /**
+     * @return the managed object interface declaring the getters
+     */
+    Class<?> getConfiguredObjectClass();
+
+    /**
+     * @return the names of the getters understood by this accessor, in index order
+     */
+    List<String> getGetterNames();
+
+    /**
+     * Invokes the getter at the given index directly on the given object.
+     *
+     * @param object an instance of the configured object class
+     * @param index the index of the getter within {@link #getGetterNames()}
+     * @return the (boxed) value returned by the getter
+     */
+    Object getValue(ConfiguredObject<?> object, int index);
+}
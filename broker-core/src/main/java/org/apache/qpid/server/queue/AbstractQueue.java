@@ -35,6 +35,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -50,6 +51,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -117,6 +119,7 @@ import org.apache.qpid.server.util.ConnectionScopedRuntimeException;
 import org.apache.qpid.server.util.Deletable;
 import org.apache.qpid.server.util.MapValueConverter;
 import org.apache.qpid.server.util.ServerScopedRuntimeException;
+import org.apache.qpid.server.util.StateChangeListener;
 import org.apache.qpid.server.virtualhost.HouseKeepingTask;
 import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
 import org.apache.qpid.server.virtualhost.VirtualHostUnavailableException;
@@ -143,6 +146,16 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
     };
 
     private static final long INITIAL_TARGET_QUEUE_SIZE = 102400l;
+    private static final int HOUSEKEEPING_BUDGET_CHECK_INTERVAL = 256;
+    private static final Comparator<QueueEntry> EXPIRY_ORDER = new Comparator<QueueEntry>()
+    {
+        @Override
+        public int compare(final QueueEntry entry1, final QueueEntry entry2)
+        {
+            int result = Long.compare(entry1.getExpiration(), entry2.getExpiration());
+            return result == 0 ? entry1.compareTo(entry2) : result;
+        }
+    };
     private static final String UTF8 = StandardCharsets.UTF_8.name();
     private static final Operation PUBLISH_ACTION = Operation.ACTION("publish");
 
@@ -272,6 +285,29 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
     private final List<HoldMethod> _holdMethods = new CopyOnWriteArrayList<>();
     private Map<String, String> _mimeTypeToFileExtension = Collections.emptyMap();
     private AdvanceConsumersTask _queueHouseKeepingTask;
+    private ContentPrefetcher _contentPrefetcher;
+    private final QueueEntryCursor _flowToDiskCursor = new QueueEntryCursor();
+
+    /** entries with an expiration, in the order in which they expire */
+    private final ConcurrentSkipListSet<QueueEntry> _expiryIndex = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+    private final StateChangeListener<MessageInstance, MessageInstance.EntryState> _expiryIndexRemover =
+            new StateChangeListener<MessageInstance, MessageInstance.EntryState>()
+            {
+                @Override
+                public void stateChanged(final MessageInstance object,
+                                         final MessageInstance.EntryState oldState,
+                                         final MessageInstance.EntryState newState)
+                {
+                    if (newState.getState() == MessageInstance.State.DELETED)
+                    {
+                        _expiryIndex.remove(object);
+                    }
+                }
+            };
+
+    private volatile long _housekeepingTimeBudget;
+    // position reached by the last housekeeping pass, only walked by the housekeeping task
+    private final QueueEntryCursor _housekeepingCursor = new QueueEntryCursor();
     private volatile int _bindingCount;
 
     private interface HoldMethod
@@ -356,6 +392,8 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
         _estimatedMessageMemoryOverhead = getContextValue(Long.class, QUEUE_ESTIMATED_MESSAGE_MEMORY_OVERHEAD);
 
         _queueHouseKeepingTask = new AdvanceConsumersTask();
+        int contentPrefetchCount = getContextValue(Integer.class, QUEUE_CONTENT_PREFETCH_COUNT);
+        _contentPrefetcher = contentPrefetchCount > 0 ? createContentPrefetcher(contentPrefetchCount) : null;
         Subject activeSubject = Subject.getSubject(AccessController.getContext());
         Set<SessionPrincipal> sessionPrincipals = activeSubject == null ? Collections.<SessionPrincipal>emptySet() : activeSubject.getPrincipals(SessionPrincipal.class);
         AMQSessionModel<?,?> sessionModel;
@@ -477,6 +515,7 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
         }
 
         _estimatedAverageMessageHeaderSize = getContextValue(Long.class, QUEUE_ESTIMATED_MESSAGE_MEMORY_OVERHEAD);
+        _housekeepingTimeBudget = getContextValue(Long.class, QUEUE_HOUSEKEEPING_TIME_BUDGET);
         _mimeTypeToFileExtension = getContextValue(Map.class, MAP_OF_STRING_STRING, MIME_TYPE_TO_FILE_EXTENSION);
 
         if(_defaultFilters != null)
@@ -1093,8 +1132,7 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
             doEnqueue(message, action, enqueueRecord);
         }
 
-        long estimatedQueueSize = _queueStatistics.getQueueSize() + _queueStatistics.getQueueCount() * _estimatedAverageMessageHeaderSize;
-        _flowToDiskChecker.flowToDiskAndReportIfNecessary(message.getStoredMessage(), estimatedQueueSize,
+        _flowToDiskChecker.flowToDiskAndReportIfNecessary(message, getEstimatedQueueSize(),
                                                           _targetQueueSize.get());
     }
 
@@ -1140,6 +1178,7 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
     {
         final QueueEntry entry = getEntries().add(message, enqueueRecord);
         updateExpiration(entry);
+        addToExpiryIndex(entry);
 
         try
         {
@@ -1766,6 +1805,14 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
         }
     }
 
+    @Override
+    public void entryAddedOrDeleted(final QueueEntry entry, final boolean added)
+    {
+        final long size = entry.getSize() + _estimatedAverageMessageHeaderSize;
+        _housekeepingCursor.entryChanged(entry, added ? size : -size);
+        _flowToDiskCursor.entryChanged(entry, added ? size : -size);
+    }
+
     public void checkCapacity()
     {
         if(getEntries() != null)
@@ -1948,6 +1995,10 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
                         else
                         {
                             setLastSeenEntry(sub, node);
+                            if (_contentPrefetcher != null)
+                            {
+                                _contentPrefetcher.entryAssigned(node);
+                            }
                             messageContainer = new MessageContainer(node, messageReference, false);
                         }
                     }
@@ -2050,10 +2101,9 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
 
     public void checkMessageStatus()
     {
-        QueueEntryIterator queueListIterator = getEntries().iterator();
-
-        final long estimatedQueueSize = _queueStatistics.getQueueSize() + _queueStatistics.getQueueCount() * _estimatedAverageMessageHeaderSize;
-        _flowToDiskChecker.reportFlowToDiskStatusIfNecessary(estimatedQueueSize, _targetQueueSize.get());
+        final long targetQueueSize = _targetQueueSize.get();
+        final long estimatedQueueSize = getEstimatedQueueSize();
+        _flowToDiskChecker.reportFlowToDiskStatusIfNecessary(estimatedQueueSize, targetQueueSize);
 
         final Set<NotificationCheck> perMessageChecks = new HashSet<>();
         final Set<NotificationCheck> queueLevelChecks = new HashSet<>();
@@ -2073,33 +2123,22 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
         final long currentTime = System.currentTimeMillis();
         final long thresholdTime = currentTime - getAlertRepeatGap();
 
-        long cumulativeQueueSize = 0;
-        while (!_stopped.get() && queueListIterator.advance())
+        expireEntries(currentTime);
+
+        // the remaining per entry work is only needed if messages may be held, are subject to per message alerts or
+        // need to be flowed to disk; if so, visit the entries incrementally, resuming from where the last pass stopped
+        if (!_holdMethods.isEmpty() || !perMessageChecks.isEmpty() || estimatedQueueSize > targetQueueSize)
         {
-            final QueueEntry node = queueListIterator.getNode();
-            // Only process nodes that are not currently deleted and not dequeued
-            if (!node.isDeleted())
-            {
-                // If the node has expired then acquire it
-                if (node.expired())
-                {
-                    boolean acquiredForDequeueing = node.acquireOrSteal(new Runnable()
-                    {
-                        @Override
-                        public void run()
-                        {
-                            dequeueEntry(node);
-                        }
-                    });
+            final long budget = _housekeepingTimeBudget;
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget);
+            final QueueEntryList entries = getEntries();
+            QueueEntry node = _housekeepingCursor.getPosition(entries);
+            long cumulativeQueueSize = _housekeepingCursor.getCumulativeSize();
+            int visited = 0;
 
-                    if(acquiredForDequeueing)
-                    {
-                        _logger.debug("Dequeuing expired node {}", node);
-                        // Then dequeue it.
-                        dequeueEntry(node);
-                    }
-                }
-                else
+            while (!_stopped.get() && (node = entries.next(node)) != null)
+            {
+                if (!node.isDeleted() && !node.expired())
                 {
                     node.checkHeld(currentTime);
 
@@ -2111,8 +2150,8 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
                     if (msg != null)
                     {
                         cumulativeQueueSize += msg.getSize() + _estimatedAverageMessageHeaderSize;
-                        _flowToDiskChecker.flowToDiskIfNecessary(msg.getStoredMessage(), cumulativeQueueSize,
-                                                                 _targetQueueSize.get());
+                        _flowToDiskChecker.flowToDiskIfNecessary(msg, cumulativeQueueSize,
+                                                                 targetQueueSize);
 
                         for(NotificationCheck check : perMessageChecks)
                         {
@@ -2120,8 +2159,27 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
                         }
                     }
                 }
+
+                if (budget > 0L && (++visited % HOUSEKEEPING_BUDGET_CHECK_INTERVAL) == 0
+                    && System.nanoTime() - deadline > 0L)
+                {
+                    break;
+                }
+            }
+
+            if (node == null)
+            {
+                _housekeepingCursor.reset();
+            }
+            else
+            {
+                _housekeepingCursor.moveTo(node, cumulativeQueueSize);
             }
         }
+        else
+        {
+            _housekeepingCursor.reset();
+        }
 
         for(NotificationCheck check : queueLevelChecks)
         {
@@ -2130,6 +2188,121 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
 
     }
 
+    private void expireEntries(final long currentTime)
+    {
+        Iterator<QueueEntry> iterator = _expiryIndex.iterator();
+        while (!_stopped.get() && iterator.hasNext())
+        {
+            final QueueEntry node = iterator.next();
+            if (node.getExpiration() >= currentTime)
+            {
+                break;
+            }
+            else if (node.isDeleted())
+            {
+                iterator.remove();
+            }
+            else
+            {
+                boolean acquiredForDequeueing = node.acquireOrSteal(new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        dequeueEntry(node);
+                    }
+                });
+
+                if(acquiredForDequeueing)
+                {
+                    _logger.debug("Dequeuing expired node {}", node);
+                    // Then dequeue it.
+                    dequeueEntry(node);
+                }
+            }
+        }
+    }
+
+    private void addToExpiryIndex(final QueueEntry entry)
+    {
+        if (entry.getExpiration() != 0L)
+        {
+            _expiryIndex.add(entry);
+            entry.addStateChangeListener(_expiryIndexRemover);
+            if (entry.isDeleted())
+            {
+                _expiryIndex.remove(entry);
+            }
+        }
+    }
+
+    @Override
+    public long getEstimatedSizeOverTarget()
+    {
+        return Math.max(0L, getEstimatedQueueSize() - _targetQueueSize.get());
+    }
+
+    /**
+     * Called periodically, so rather than walking the whole queue each time it resumes from the last entry visited by
+     * the previous call. The cumulative size up to that entry is carried forward, adjusted for the entries added or
+     * deleted before it since, so only entries enqueued beyond it since the previous call are visited. The queue is
+     * walked from the head again only once it has dropped back within its target or the entry itself is deleted.
+     */
+    @Override
+    public synchronized long flowToDiskBeyondTargetSize()
+    {
+        final long targetQueueSize = _targetQueueSize.get();
+        final long estimatedQueueSize = getEstimatedQueueSize();
+        _flowToDiskChecker.reportFlowToDiskStatusIfNecessary(estimatedQueueSize, targetQueueSize);
+
+        if (estimatedQueueSize <= targetQueueSize)
+        {
+            _flowToDiskCursor.reset();
+            return 0L;
+        }
+
+        final QueueEntryList entries = getEntries();
+        QueueEntry node = _flowToDiskCursor.getPosition(entries);
+        long cumulativeQueueSize = _flowToDiskCursor.getCumulativeSize();
+
+        long flowedToDisk = 0;
+        QueueEntry next;
+        while (!_stopped.get() && (next = entries.next(node)) != null)
+        {
+            node = next;
+            ServerMessage msg;
+            if (!node.isDeleted() && (msg = node.getMessage()) != null)
+            {
+                cumulativeQueueSize += msg.getSize() + _estimatedAverageMessageHeaderSize;
+                if (cumulativeQueueSize > targetQueueSize)
+                {
+                    StoredMessage<?> storedMessage = msg.getStoredMessage();
+                    if (storedMessage.isInMemory())
+                    {
+                        storedMessage.flowToDisk();
+                        msg.contentFlowedToDisk();
+                        flowedToDisk += msg.getSize();
+                    }
+                }
+            }
+        }
+
+        if (node == entries.getHead())
+        {
+            _flowToDiskCursor.reset();
+        }
+        else
+        {
+            _flowToDiskCursor.moveTo(node, cumulativeQueueSize);
+        }
+        return flowedToDisk;
+    }
+
+    private long getEstimatedQueueSize()
+    {
+        return _queueStatistics.getQueueSize() + _queueStatistics.getQueueCount() * _estimatedAverageMessageHeaderSize;
+    }
+
     private boolean consumerHasAvailableMessages(final QueueConsumer consumer)
     {
         final QueueEntry queueEntry;
@@ -2460,6 +2633,30 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
         return _queueStatistics.getPersistentDequeueSize();
     }
 
+    @Override
+    public long getQueueResidenceTime50thPercentile()
+    {
+        return _queueStatistics.getResidenceTimeAtPercentile(50d);
+    }
+
+    @Override
+    public long getQueueResidenceTime99thPercentile()
+    {
+        return _queueStatistics.getResidenceTimeAtPercentile(99d);
+    }
+
+    @Override
+    public long getDeliveryToAcknowledgeTime50thPercentile()
+    {
+        return _queueStatistics.getDeliveryToAcknowledgeTimeAtPercentile(50d);
+    }
+
+    @Override
+    public long getDeliveryToAcknowledgeTime99thPercentile()
+    {
+        return _queueStatistics.getDeliveryToAcknowledgeTimeAtPercentile(99d);
+    }
+
     public long getPersistentEnqueuedMessages()
     {
         return _queueStatistics.getPersistentEnqueueCount();
@@ -3296,19 +3493,21 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
     {
         final AtomicBoolean _lastReportedFlowToDiskStatus = new AtomicBoolean(false);
 
-        void flowToDiskIfNecessary(StoredMessage<?> storedMessage, long estimatedQueueSize, final long targetQueueSize)
+        void flowToDiskIfNecessary(ServerMessage<?> message, long estimatedQueueSize, final long targetQueueSize)
         {
+            StoredMessage<?> storedMessage = message.getStoredMessage();
             if ((estimatedQueueSize > targetQueueSize) && storedMessage.isInMemory())
             {
                 storedMessage.flowToDisk();
+                message.contentFlowedToDisk();
             }
         }
 
-        void flowToDiskAndReportIfNecessary(StoredMessage<?> storedMessage,
+        void flowToDiskAndReportIfNecessary(ServerMessage<?> message,
                                             final long estimatedQueueSize,
                                             final long targetQueueSize)
         {
-            flowToDiskIfNecessary(storedMessage, estimatedQueueSize, targetQueueSize);
+            flowToDiskIfNecessary(message, estimatedQueueSize, targetQueueSize);
             reportFlowToDiskStatusIfNecessary(estimatedQueueSize, targetQueueSize);
         }
 
@@ -3343,6 +3542,32 @@ public abstract class AbstractQueue<X extends AbstractQueue<X>>
         }
     }
 
+    private ContentPrefetcher createContentPrefetcher(final int prefetchCount)
+    {
+        final AccessControlContext context =
+                getSystemTaskControllerContext("Queue Content Prefetch", _virtualHost.getPrincipal());
+        return new ContentPrefetcher(prefetchCount)
+        {
+            @Override
+            QueueEntryList getEntries()
+            {
+                return AbstractQueue.this.getEntries();
+            }
+
+            @Override
+            void execute(final Runnable task)
+            {
+                AbstractQueue.this.execute("Queue Content Prefetch: " + getName(), task, context);
+            }
+
+            @Override
+            boolean isStopped()
+            {
+                return _stopped.get();
+            }
+        };
+    }
+
     private class AdvanceConsumersTask extends HouseKeepingTask
     {
 
@@ -21,6 +21,7 @@
 package org.apache.qpid.server.queue;
 
 import org.apache.qpid.server.message.MessageInstance;
+import org.apache.qpid.server.message.ServerMessage;
 import org.apache.qpid.server.model.Queue;
 import org.apache.qpid.server.store.MessageDurability;
 
@@ -54,6 +55,7 @@ abstract class AbstractQueueEntryList implements QueueEntryList
         {
             queueStatistics.addToPersistentEnqueued(size);
         }
+        _queue.entryAddedOrDeleted(entry, true);
     }
 
     public void updateStatsOnStateChange(QueueEntry entry, QueueEntry.EntryState fromState, QueueEntry.EntryState toState)
@@ -87,6 +89,17 @@ abstract class AbstractQueueEntryList implements QueueEntryList
                     queueStatistics.addToUnacknowledged(size);
                 }
                 break;
+            case DEQUEUED:
+                final ServerMessage<?> message = entry.getMessage();
+                if(message != null)
+                {
+                    queueStatistics.recordResidenceTime((System.currentTimeMillis() - message.getArrivalTime()) * 1000L);
+                }
+                if(wasConsumerAcquired)
+                {
+                    queueStatistics.recordDeliveryToAcknowledgeTime((System.nanoTime() - entry.getAcquisitionTime()) / 1000L);
+                }
+                break;
             case DELETED:
                 queueStatistics.removeFromQueue(size);
                 queueStatistics.addToDequeued(size);
@@ -94,6 +107,7 @@ abstract class AbstractQueueEntryList implements QueueEntryList
                 {
                     queueStatistics.addToPersistentDequeued(size);
                 }
+                _queue.entryAddedOrDeleted(entry, false);
                 _queue.checkCapacity();
 
         }
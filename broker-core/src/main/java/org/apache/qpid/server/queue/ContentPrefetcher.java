@@ -0,0 +1,196 @@
+/*
+*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*
+*/
+package org.apache.qpid.server.queue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.server.message.MessageReference;
+import org.apache.qpid.server.message.ServerMessage;
+import org.apache.qpid.server.store.StoredMessage;
+
+/**
+ * Loads the content of flowed to disk messages for the entries just ahead of the consumers so that delivery does
+ * not wait on the store. At most one prefetch task per queue is outstanding at any time.
+ * <p>
+ * The prefetcher keeps a cursor at the last entry it has loaded.  A consumer meeting a message that is not in memory
+ * beyond the cursor starts a fresh window of up to the prefetch count of entries.  Once a consumer passes the middle
+ * of the window it is topped up by half the prefetch count from the cursor, so the loaded entries never run more
+ * than the prefetch count ahead of the consumer that requested them and no entry is visited twice.
+ * <p>
+ * There is a single window per queue, following the entries most recently assigned to any consumer rather than the
+ * position of each consumer.  Consumers interleaving at distant points of the queue, for instance with selectors or
+ * after one has fallen behind, each restart the window at their own position, so only the latest of them benefits.
+ */
+abstract class ContentPrefetcher
+{
+    private final int _prefetchCount;
+    private final int _refillCount;
+    private final AtomicBoolean _scheduled = new AtomicBoolean();
+    private final AtomicReference<QueueEntry> _requestedPosition = new AtomicReference<>();
+    private final Runnable _task = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            prefetch();
+        }
+    };
+    private volatile QueueEntry _prefetchedUpTo;
+    private volatile QueueEntry _refillPoint;
+
+    ContentPrefetcher(final int prefetchCount)
+    {
+        _prefetchCount = prefetchCount;
+        _refillCount = Math.max(prefetchCount / 2, 1);
+    }
+
+    abstract QueueEntryList getEntries();
+
+    abstract void execute(Runnable task);
+
+    abstract boolean isStopped();
+
+    void entryAssigned(final QueueEntry entry)
+    {
+        final QueueEntry prefetchedUpTo = _prefetchedUpTo;
+        final boolean request;
+        if (prefetchedUpTo != null && entry.compareTo(prefetchedUpTo) <= 0)
+        {
+            final QueueEntry refillPoint = _refillPoint;
+            request = refillPoint != null && entry.compareTo(refillPoint) >= 0;
+        }
+        else
+        {
+            // only start once a consumer actually meets a message that is not in memory
+            request = !isInMemory(entry);
+        }
+
+        if (request)
+        {
+            _requestedPosition.set(entry);
+            schedule();
+        }
+    }
+
+    private void schedule()
+    {
+        if (_scheduled.compareAndSet(false, true))
+        {
+            execute(_task);
+        }
+    }
+
+    private void prefetch()
+    {
+        try
+        {
+            QueueEntry position;
+            while (!isStopped() && (position = _requestedPosition.getAndSet(null)) != null)
+            {
+                prefetchAfter(position);
+            }
+        }
+        finally
+        {
+            _scheduled.set(false);
+        }
+
+        if (_requestedPosition.get() != null && !isStopped())
+        {
+            schedule();
+        }
+    }
+
+    private void prefetchAfter(final QueueEntry position)
+    {
+        final QueueEntryList entries = getEntries();
+        final QueueEntry prefetchedUpTo = _prefetchedUpTo;
+        final QueueEntry refillPoint = _refillPoint;
+
+        QueueEntry node;
+        final int count;
+        final int refillIndex;
+        if (prefetchedUpTo != null && position.compareTo(prefetchedUpTo) < 0)
+        {
+            if (refillPoint == null || position.compareTo(refillPoint) < 0)
+            {
+                return;
+            }
+            // top up from the cursor; the first newly loaded entry is where half the window remains ahead
+            node = prefetchedUpTo;
+            count = _refillCount;
+            refillIndex = 0;
+        }
+        else
+        {
+            node = position;
+            count = _prefetchCount;
+            refillIndex = _prefetchCount - _refillCount;
+        }
+
+        QueueEntry newRefillPoint = null;
+        for (int i = 0; i < count && (node = entries.next(node)) != null; i++)
+        {
+            loadContent(node);
+            _prefetchedUpTo = node;
+            if (i == refillIndex)
+            {
+                newRefillPoint = node;
+            }
+        }
+        _refillPoint = newRefillPoint;
+    }
+
+    private boolean isInMemory(final QueueEntry entry)
+    {
+        ServerMessage<?> message = entry.getMessage();
+        return message == null || message.getStoredMessage().isInMemory();
+    }
+
+    private void loadContent(final QueueEntry entry)
+    {
+        if (entry.isAvailable())
+        {
+            MessageReference<?> reference = entry.newMessageReference();
+            if (reference != null)
+            {
+                try
+                {
+                    StoredMessage<?> storedMessage = reference.getMessage().getStoredMessage();
+                    if (!storedMessage.isInMemory())
+                    {
+                        storedMessage.getMetaData();
+                        for (QpidByteBuffer buf : storedMessage.getContent(0, storedMessage.getContentSize()))
+                        {
+                            buf.dispose();
+                        }
+                    }
+                }
+                finally
+                {
+                    reference.release();
+                }
+            }
+        }
+    }
+}
@@ -39,9 +39,16 @@ public interface QueueEntry extends MessageInstance, Comparable<QueueEntry>
 
     QueueEntry getNextValidEntry();
 
+    long getExpiration();
+
     void setExpiration(long calculatedExpiration);
 
     MessageReference newMessageReference();
 
     boolean checkHeld(final long evaluationTime);
+
+    /**
+     * @return the {@link System#nanoTime()} at which the entry was last acquired by a consumer
+     */
+    long getAcquisitionTime();
 }
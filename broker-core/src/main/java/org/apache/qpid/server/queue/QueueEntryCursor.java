@@ -0,0 +1,97 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Position reached by an incremental walk over the entries of a queue, together with the estimated size of the
+ * entries up to and including that position.  The queue reports every entry added or deleted at or before the
+ * position, wherever it lies in the queue, so that the size stays correct for priority and sorted queues and for
+ * entries consumed, expired or deleted out of order.  The cursor itself is only used by one walking thread at a time.
+ */
+final class QueueEntryCursor
+{
+    private volatile QueueEntry _position;
+    private final AtomicLong _sizeChange = new AtomicLong();
+    private long _cumulativeSize;
+    private long _appliedSizeChange;
+
+    /**
+     * Returns the entry from which the walk should continue, or the head of the given entries if the walk should
+     * start again because there is no position or the entry at the position has been deleted.
+     */
+    QueueEntry getPosition(final QueueEntryList entries)
+    {
+        final QueueEntry position = _position;
+        if (position == null || position.isDeleted())
+        {
+            reset();
+            return entries.getHead();
+        }
+        return position;
+    }
+
+    /**
+     * Returns the estimated size of the entries up to and including the position.
+     */
+    long getCumulativeSize()
+    {
+        if (_position == null)
+        {
+            return 0L;
+        }
+        _appliedSizeChange = _sizeChange.get();
+        return Math.max(0L, _cumulativeSize + _appliedSizeChange);
+    }
+
+    /**
+     * Moves the cursor on to the given position, reached by a walk which started from the size last returned by
+     * {@link #getCumulativeSize()}.  Changes reported since then, before the previous position, still apply.
+     */
+    void moveTo(final QueueEntry position, final long cumulativeSize)
+    {
+        _sizeChange.addAndGet(-_appliedSizeChange);
+        _appliedSizeChange = 0L;
+        _cumulativeSize = cumulativeSize;
+        _position = position;
+    }
+
+    void reset()
+    {
+        _position = null;
+        _cumulativeSize = 0L;
+        _appliedSizeChange = 0L;
+        _sizeChange.set(0L);
+    }
+
+    /**
+     * Accounts for an entry added to (positive size) or deleted from (negative size) the queue.
+     */
+    void entryChanged(final QueueEntry entry, final long size)
+    {
+        final QueueEntry position = _position;
+        if (position != null && entry.compareTo(position) <= 0)
+        {
+            _sizeChange.addAndGet(size);
+        }
+    }
+}
@@ -114,6 +114,9 @@ public abstract class QueueEntryImpl implements QueueEntry
     private static final AtomicIntegerFieldUpdater<QueueEntryImpl> _deliveryCountUpdater = AtomicIntegerFieldUpdater
                     .newUpdater(QueueEntryImpl.class, "_deliveryCount");
 
+    /** Time (as given by {@link System#nanoTime()}) of the most recent acquisition by a consumer */
+    private volatile long _acquisitionTime;
+
     private final MessageEnqueueRecord _enqueueRecord;
 
 
@@ -160,6 +163,11 @@ public abstract class QueueEntryImpl implements QueueEntry
         }
     }
 
+    public long getExpiration()
+    {
+        return _expiration;
+    }
+
     public void setExpiration(long expiration)
     {
         _expiration = expiration;
@@ -312,11 +320,18 @@ public abstract class QueueEntryImpl implements QueueEntry
         final boolean acquired = acquire(((QueueConsumer<?,?>) sub).getOwningState().getUnstealableState());
         if(acquired)
         {
+            _acquisitionTime = System.nanoTime();
             _deliveryCountUpdater.compareAndSet(this,-1,0);
         }
         return acquired;
     }
 
+    @Override
+    public long getAcquisitionTime()
+    {
+        return _acquisitionTime;
+    }
+
     @Override
     public boolean makeAcquisitionUnstealable(final MessageInstanceConsumer consumer)
     {
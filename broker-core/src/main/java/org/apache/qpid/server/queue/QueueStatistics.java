@@ -23,6 +23,8 @@ package org.apache.qpid.server.queue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.qpid.server.stats.LatencyHistogram;
+
 final class QueueStatistics
 {
     private final AtomicInteger _queueCount = new AtomicInteger();
@@ -52,6 +54,9 @@ final class QueueStatistics
     private final AtomicInteger _availableCountHwm = new AtomicInteger();
     private final AtomicLong _availableSizeHwm = new AtomicLong();
 
+    private volatile LatencyHistogram _residenceTime = new LatencyHistogram();
+    private volatile LatencyHistogram _deliveryToAcknowledgeTime = new LatencyHistogram();
+
     public final int getQueueCount()
     {
         return _queueCount.get();
@@ -142,6 +147,16 @@ final class QueueStatistics
         return _availableSizeHwm.get();
     }
 
+    public final long getResidenceTimeAtPercentile(double percentile)
+    {
+        return _residenceTime.getValueAtPercentile(percentile);
+    }
+
+    public final long getDeliveryToAcknowledgeTimeAtPercentile(double percentile)
+    {
+        return _deliveryToAcknowledgeTime.getValueAtPercentile(percentile);
+    }
+
     void addToQueue(long size)
     {
         int count = _queueCount.incrementAndGet();
@@ -222,8 +237,20 @@ final class QueueStatistics
         _persistentDequeueSize.addAndGet(size);
     }
 
+    void recordResidenceTime(long micros)
+    {
+        _residenceTime.record(micros);
+    }
+
+    void recordDeliveryToAcknowledgeTime(long micros)
+    {
+        _deliveryToAcknowledgeTime.record(micros);
+    }
+
     void reset()
     {
+        _residenceTime = new LatencyHistogram();
+        _deliveryToAcknowledgeTime = new LatencyHistogram();
         _availableCountHwm.set(0);
         _availableSizeHwm.set(0L);
         _queueCountHwm.set(0);
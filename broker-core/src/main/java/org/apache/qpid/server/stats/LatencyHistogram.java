@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.qpid.server.stats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.google.common.base.Ticker;
+
+/**
+ * A lock-free histogram of latencies with log-linear buckets.  Each power of two is split into
+ * eight linear sub-buckets, so a reported percentile is never more than 12.5% above the true value.
+ * <p>
+ * Values are non-negative longs in microseconds.  Recordings are kept in a current and a previous window,
+ * each one window length (a minute by default) long, so that percentiles and the maximum describe roughly the
+ * last one to two windows rather than the whole life of the object.  Windows are only allocated on recording, and
+ * dropped once older than two window lengths, so that idle objects cost next to nothing.  Within a window the buckets
+ * of each power of two are only allocated once a value of that magnitude is recorded, as latencies tend to cluster
+ * within a few powers of two.
+ */
+public final class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAXIMUM_EXPONENT = 40;
+    private static final int BUCKET_GROUP_COUNT = MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2;
+    static final int BUCKET_COUNT = BUCKET_GROUP_COUNT * SUB_BUCKET_COUNT;
+    public static final long DEFAULT_WINDOW_MILLIS = 60000L;
+
+    private final long _windowLength;
+    private final Ticker _ticker;
+    private volatile Window _current;
+    private volatile Window _previous;
+
+    public LatencyHistogram()
+    {
+        this(DEFAULT_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public LatencyHistogram(long windowLength, TimeUnit unit)
+    {
+        this(windowLength, unit, Ticker.systemTicker());
+    }
+
+    LatencyHistogram(long windowLength, TimeUnit unit, Ticker ticker)
+    {
+        if (windowLength <= 0L)
+        {
+            throw new IllegalArgumentException("Window length must be positive: " + windowLength);
+        }
+        _windowLength = unit.toNanos(windowLength);
+        _ticker = ticker;
+    }
+
+    public void record(long value)
+    {
+        if (value < 0L)
+        {
+            value = 0L;
+        }
+
+        final Window window = getWindowForRecording();
+        window.increment(bucketIndex(value));
+
+        long maximum;
+        while (value > (maximum = window._maximum.get()))
+        {
+            if (window._maximum.compareAndSet(maximum, value))
+            {
+                break;
+            }
+        }
+    }
+
+    public long getCount()
+    {
+        long count = 0L;
+        for (Window window : getLiveWindows())
+        {
+            if (window != null)
+            {
+                for (int i = 0; i < BUCKET_COUNT; i++)
+                {
+                    count += window.get(i);
+                }
+            }
+        }
+        return count;
+    }
+
+    public long getMaximum()
+    {
+        long maximum = 0L;
+        for (Window window : getLiveWindows())
+        {
+            if (window != null)
+            {
+                maximum = Math.max(maximum, window._maximum.get());
+            }
+        }
+        return maximum;
+    }
+
+    /**
+     * Returns an upper bound for the value below which the given percentage of recordings fall,
+     * or zero if nothing has been recorded.
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        final Window[] windows = getLiveWindows();
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0L;
+        long maximum = 0L;
+        for (Window window : windows)
+        {
+            if (window != null)
+            {
+                for (int i = 0; i < BUCKET_COUNT; i++)
+                {
+                    final long bucketCount = window.get(i);
+                    snapshot[i] += bucketCount;
+                    count += bucketCount;
+                }
+                maximum = Math.max(maximum, window._maximum.get());
+            }
+        }
+        if (count == 0L)
+        {
+            return 0L;
+        }
+
+        final double boundedPercentile = Math.min(100d, Math.max(0d, percentile));
+        final long targetRank = Math.max(1L, (long) Math.ceil(boundedPercentile * count / 100d));
+
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            seen += snapshot[i];
+            if (seen >= targetRank)
+            {
+                return Math.min(bucketUpperBound(i), maximum);
+            }
+        }
+        return maximum;
+    }
+
+    private Window getWindowForRecording()
+    {
+        final long now = _ticker.read();
+        Window current = _current;
+        if (current == null || now - current._start >= _windowLength)
+        {
+            synchronized (this)
+            {
+                current = _current;
+                if (current == null || now - current._start >= _windowLength)
+                {
+                    _previous = isExpired(current, now) ? null : current;
+                    current = new Window(now);
+                    _current = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the windows whose recordings are no more than two window lengths old, dropping any older windows;
+     * absent windows are null.
+     */
+    private Window[] getLiveWindows()
+    {
+        final long now = _ticker.read();
+        Window current = _current;
+        Window previous = _previous;
+        if (isExpired(current, now) || isExpired(previous, now))
+        {
+            synchronized (this)
+            {
+                if (isExpired(_previous, now))
+                {
+                    _previous = null;
+                }
+                if (isExpired(_current, now))
+                {
+                    _current = null;
+                }
+                current = _current;
+                previous = _previous;
+            }
+        }
+        return new Window[]{current, previous};
+    }
+
+    private boolean isExpired(final Window window, final long now)
+    {
+        return window != null && now - window._start >= 2 * _windowLength;
+    }
+
+    /**
+     * Returns the number of windows held, for testing.
+     */
+    synchronized int getRetainedWindowCount()
+    {
+        return (_current == null ? 0 : 1) + (_previous == null ? 0 : 1);
+    }
+
+    private static final class Window
+    {
+        private final long _start;
+        private final AtomicReferenceArray<AtomicLongArray> _bucketGroups =
+                new AtomicReferenceArray<>(BUCKET_GROUP_COUNT);
+        private final AtomicLong _maximum = new AtomicLong();
+
+        private Window(final long start)
+        {
+            _start = start;
+        }
+
+        private void increment(final int index)
+        {
+            final int group = index / SUB_BUCKET_COUNT;
+            AtomicLongArray buckets = _bucketGroups.get(group);
+            if (buckets == null)
+            {
+                buckets = new AtomicLongArray(SUB_BUCKET_COUNT);
+                if (!_bucketGroups.compareAndSet(group, null, buckets))
+                {
+                    buckets = _bucketGroups.get(group);
+                }
+            }
+            buckets.incrementAndGet(index % SUB_BUCKET_COUNT);
+        }
+
+        private long get(final int index)
+        {
+            final AtomicLongArray buckets = _bucketGroups.get(index / SUB_BUCKET_COUNT);
+            return buckets == null ? 0L : buckets.get(index % SUB_BUCKET_COUNT);
+        }
+    }
+
+    static int bucketIndex(long value)
+    {
+        if (value < SUB_BUCKET_COUNT)
+        {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAXIMUM_EXPONENT)
+        {
+            return BUCKET_COUNT - 1;
+        }
+        final int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+        if (index == BUCKET_COUNT - 1)
+        {
+            return Long.MAX_VALUE;
+        }
+        final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final int subBucket = index % SUB_BUCKET_COUNT;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKET_COUNT + subBucket) * width + width - 1;
+    }
+}
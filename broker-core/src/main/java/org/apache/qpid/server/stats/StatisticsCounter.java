@@ -19,7 +19,9 @@
 package org.apache.qpid.server.stats;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +29,10 @@ import org.slf4j.LoggerFactory;
 /**
  * This class collects statistics and counts the total, rate per second and
  * peak rate per second values for the events that are registered with it. 
+ * <p>
+ * Totals are held in striped cells which are only allocated once concurrent updates
+ * are seen, so that counters shared by many I/O threads do not contend on a single
+ * cache line. Totals, rates and peaks are summed from the cells at read time.
  */
 public class StatisticsCounter
 {
@@ -61,8 +67,8 @@ public class StatisticsCounter
     private static final class Sample
     {
         private final long _sampleId;
-        private final AtomicLong _sampleTotal = new AtomicLong();
-        private final AtomicLong _cumulativeTotal;
+        private final StripedLong _sampleTotal;
+        private final StripedLong _cumulativeTotal;
         private final long _peakTotal;
         private final long _previousSampleTotal;
         private final long _start;
@@ -71,7 +77,8 @@ public class StatisticsCounter
         private Sample(final long period)
         {
             _period = period;
-            _cumulativeTotal = new AtomicLong();
+            _sampleTotal = new StripedLong(false);
+            _cumulativeTotal = new StripedLong(false);
             _peakTotal = 0L;
             _previousSampleTotal = 0L;
             _start = System.currentTimeMillis();
@@ -82,6 +89,7 @@ public class StatisticsCounter
         private Sample(final long timestamp, Sample priorSample)
         {
             _period = priorSample._period;
+            _sampleTotal = new StripedLong(priorSample._sampleTotal.isStriped());
             _cumulativeTotal = priorSample._cumulativeTotal;
             _peakTotal = priorSample.getSampleTotal() > priorSample.getPeakSampleTotal() ? priorSample.getSampleTotal() : priorSample.getPeakSampleTotal();
             _previousSampleTotal = priorSample.getSampleTotal();
@@ -91,12 +99,12 @@ public class StatisticsCounter
 
         public long getCumulativeTotal()
         {
-            return _cumulativeTotal.get();
+            return _cumulativeTotal.sum();
         }
 
         public long getSampleTotal()
         {
-            return _sampleTotal.get();
+            return _sampleTotal.sum();
         }
 
         public long getPeakSampleTotal()
@@ -123,10 +131,10 @@ public class StatisticsCounter
                 {
                     return false;
                 }
-                _cumulativeTotal.addAndGet(value);
+                _cumulativeTotal.add(value);
                 if(eventSampleId == _sampleId)
                 {
-                    _sampleTotal.addAndGet(value);
+                    _sampleTotal.add(value);
                 }
                 return true;
             }
@@ -138,6 +146,73 @@ public class StatisticsCounter
         }
     }
 
+    /**
+     * A long accumulator which starts as a single atomic value and, on the first failed update,
+     * spreads further updates across cells on separate cache lines selected by the updating thread.
+     */
+    private static final class StripedLong
+    {
+        private static final int LONGS_PER_CACHE_LINE = 8;
+        private static final int STRIPE_COUNT =
+                Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+        private static final AtomicReferenceFieldUpdater<StripedLong, AtomicLongArray> CELLS_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(StripedLong.class, AtomicLongArray.class, "_cells");
+
+        private final AtomicLong _base = new AtomicLong();
+        private volatile AtomicLongArray _cells;
+
+        private StripedLong(final boolean striped)
+        {
+            if (striped)
+            {
+                _cells = new AtomicLongArray(STRIPE_COUNT * LONGS_PER_CACHE_LINE);
+            }
+        }
+
+        private void add(final long value)
+        {
+            AtomicLongArray cells = _cells;
+            if (cells == null)
+            {
+                final long base = _base.get();
+                if (_base.compareAndSet(base, base + value))
+                {
+                    return;
+                }
+                CELLS_UPDATER.compareAndSet(this, null, new AtomicLongArray(STRIPE_COUNT * LONGS_PER_CACHE_LINE));
+                cells = _cells;
+            }
+            cells.addAndGet(stripeIndex(), value);
+        }
+
+        private long sum()
+        {
+            long sum = _base.get();
+            final AtomicLongArray cells = _cells;
+            if (cells != null)
+            {
+                for (int i = 0; i < STRIPE_COUNT; i++)
+                {
+                    sum += cells.get(i * LONGS_PER_CACHE_LINE);
+                }
+            }
+            return sum;
+        }
+
+        private boolean isStriped()
+        {
+            return _cells != null;
+        }
+
+        private static int stripeIndex()
+        {
+            final long id = Thread.currentThread().getId();
+            final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return ((hash >>> 16) & (STRIPE_COUNT - 1)) * LONGS_PER_CACHE_LINE;
+        }
+    }
+
     private AtomicReference<Sample> _currentSample = new AtomicReference<>();
 
 
@@ -22,7 +22,6 @@ package org.apache.qpid.server.store;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -34,6 +33,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
@@ -49,11 +49,14 @@ import org.apache.qpid.bytebuffer.QpidByteBuffer;
 import org.apache.qpid.server.message.EnqueueableMessage;
 import org.apache.qpid.server.model.ConfiguredObject;
 import org.apache.qpid.server.plugin.MessageMetaDataType;
+import org.apache.qpid.server.stats.LatencyHistogram;
+import org.apache.qpid.server.util.ElasticBlockingExecutor;
 import org.apache.qpid.server.store.handler.DistributedTransactionHandler;
 import org.apache.qpid.server.store.handler.MessageHandler;
 import org.apache.qpid.server.store.handler.MessageInstanceHandler;
+import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
 
-public abstract class AbstractJDBCMessageStore implements MessageStore
+public abstract class AbstractJDBCMessageStore implements MessageStore, CommitLatencyProvider
 {
     private static final String DB_VERSION_TABLE_NAME_SUFFIX = "QPID_DB_VERSION";
     private static final String QUEUE_ENTRY_TABLE_NAME_SUFFIX = "QPID_QUEUE_ENTRIES";
@@ -65,16 +68,20 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
     private static final int DB_VERSION = 8;
 
     private final AtomicLong _messageId = new AtomicLong(0);
+    private final LatencyHistogram _commitLatency = new LatencyHistogram();
 
 
     protected final EventManager _eventManager = new EventManager();
     private ConfiguredObject<?> _parent;
+    private volatile int _contentCompressionThreshold =
+            QueueManagingVirtualHost.DEFAULT_MESSAGE_STORE_COMPRESSION_THRESHOLD;
     private String _tablePrefix = "";
 
     protected abstract boolean isMessageStoreOpen();
 
     protected abstract void checkMessageStoreOpen();
     private ScheduledThreadPoolExecutor _executor;
+    private ElasticBlockingExecutor _blockingExecutor;
 
     public AbstractJDBCMessageStore()
     {
@@ -213,6 +220,7 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
     protected void initMessageStore(final ConfiguredObject<?> parent)
     {
         _parent = parent;
+        initContentCompression(parent);
         _executor = new ScheduledThreadPoolExecutor(4, new ThreadFactory()
         {
             private final AtomicInteger _count = new AtomicInteger();
@@ -226,6 +234,32 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
         });
         _executor.prestartAllCoreThreads();
 
+        int blockingTaskConcurrency = getBlockingTaskConcurrency(parent);
+        if (blockingTaskConcurrency > 0)
+        {
+            _blockingExecutor = new ElasticBlockingExecutor(parent.getName() + "-store-commit",
+                                                            blockingTaskConcurrency,
+                                                            null);
+        }
+    }
+
+    private static int getBlockingTaskConcurrency(final ConfiguredObject<?> parent)
+    {
+        if (parent.getContextKeys(false).contains(QueueManagingVirtualHost.BLOCKING_TASK_MAXIMUM_CONCURRENCY))
+        {
+            Integer concurrency = parent.getContextValue(Integer.class,
+                                                         QueueManagingVirtualHost.BLOCKING_TASK_MAXIMUM_CONCURRENCY);
+            if (concurrency != null)
+            {
+                return concurrency;
+            }
+        }
+        return QueueManagingVirtualHost.DEFAULT_BLOCKING_TASK_MAXIMUM_CONCURRENCY;
+    }
+
+    protected void initContentCompression(final ConfiguredObject<?> parent)
+    {
+        _contentCompressionThreshold = MessageContentCompression.getCompressionThreshold(parent);
     }
 
     @Override
@@ -235,6 +269,11 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
         {
             _executor.shutdown();
         }
+        if (_blockingExecutor != null)
+        {
+            _blockingExecutor.shutdown();
+            _blockingExecutor = null;
+        }
 
     }
 
@@ -789,7 +828,9 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
         try
         {
             Connection conn = connWrapper.getConnection();
+            final long start = System.nanoTime();
             conn.commit();
+            _commitLatency.record((System.nanoTime() - start) / 1000L);
 
             getLogger().debug("commit tran completed");
 
@@ -801,10 +842,17 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
         }
     }
 
+    @Override
+    public LatencyHistogram getCommitLatency()
+    {
+        return _commitLatency;
+    }
+
     private <X> ListenableFuture<X> commitTranAsync(final ConnectionWrapper connWrapper, final X val) throws StoreException
     {
         final SettableFuture<X> future = SettableFuture.create();
-        _executor.submit(new Runnable()
+        final Executor executor = _blockingExecutor == null ? _executor : _blockingExecutor;
+        executor.execute(new Runnable()
                         {
                             @Override
                             public void run()
@@ -1022,18 +1070,7 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
 
         PreparedStatement stmt = null;
 
-        int size = 0;
-
-        for(QpidByteBuffer buf : contentBody)
-        {
-            size += buf.remaining();
-        }
-        byte[] data = new byte[size];
-        ByteBuffer dst = ByteBuffer.wrap(data);
-        for(QpidByteBuffer buf : contentBody)
-        {
-            buf.copyTo(dst);
-        }
+        byte[] data = MessageContentCompression.encode(contentBody, _contentCompressionThreshold);
 
         try
         {
@@ -1055,7 +1092,7 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
         }
     }
 
-    Collection<QpidByteBuffer> getAllContent(long messageId) throws StoreException
+    Collection<QpidByteBuffer> getAllContent(long messageId, int contentSize) throws StoreException
     {
         Connection conn = null;
         PreparedStatement stmt = null;
@@ -1074,17 +1111,7 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
             if (rs.next())
             {
                 byte[] data = getBlobAsBytes(rs, 1);
-                int offset = 0;
-                int length = data.length;
-                Collection<QpidByteBuffer> buffers = QpidByteBuffer.allocateDirectCollection(length);
-                for(QpidByteBuffer buf : buffers)
-                {
-                    int bufSize = buf.remaining();
-                    buf.put(data, offset, bufSize);
-                    buf.flip();
-                    offset+=bufSize;
-                }
-                return buffers;
+                return MessageContentCompression.decode(data, 0, data.length, contentSize);
             }
             else
             {
@@ -1508,7 +1535,7 @@ public abstract class AbstractJDBCMessageStore implements MessageStore
                 if(stored())
                 {
                     checkMessageStoreOpen();
-                    data = AbstractJDBCMessageStore.this.getAllContent(_messageId);
+                    data = AbstractJDBCMessageStore.this.getAllContent(_messageId, _contentSize);
                     _messageDataRef.setData(data);
                 }
                 else
@@ -0,0 +1,238 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
+
+/**
+ * Encodes message content for the persistent message stores, optionally compressing it.
+ * <p>
+ * Compressed content is written as a one byte codec tag followed by the compressed bytes, and only when that is
+ * strictly shorter than the content itself.  Content whose stored length equals the content size recorded in the
+ * message meta-data is therefore always held uncompressed, which keeps existing store records readable without a
+ * change to the store schema.
+ */
+public final class MessageContentCompression
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageContentCompression.class);
+
+    static final byte GZIP = 1;
+    private static final int INFLATE_CHUNK_SIZE = 8192;
+
+    private MessageContentCompression()
+    {
+    }
+
+    public static int getCompressionThreshold(ConfiguredObject<?> parent)
+    {
+        if (parent != null
+            && parent.getContextKeys(false).contains(QueueManagingVirtualHost.MESSAGE_STORE_COMPRESSION_THRESHOLD))
+        {
+            Integer threshold = parent.getContextValue(Integer.class,
+                                                       QueueManagingVirtualHost.MESSAGE_STORE_COMPRESSION_THRESHOLD);
+            if (threshold != null)
+            {
+                return threshold;
+            }
+        }
+        return QueueManagingVirtualHost.DEFAULT_MESSAGE_STORE_COMPRESSION_THRESHOLD;
+    }
+
+    /**
+     * Returns the bytes to be written to the store for the given content.
+     *
+     * @param content   the message content
+     * @param threshold the minimum content size which is compressed, or a negative value if compression is disabled
+     */
+    public static byte[] encode(Collection<QpidByteBuffer> content, int threshold)
+    {
+        int size = 0;
+        for (QpidByteBuffer buf : content)
+        {
+            size += buf.remaining();
+        }
+
+        if (threshold >= 0 && size >= threshold && size > 0)
+        {
+            byte[] compressed = compress(content, size);
+            if (compressed != null)
+            {
+                return compressed;
+            }
+        }
+
+        byte[] data = new byte[size];
+        ByteBuffer dst = ByteBuffer.wrap(data);
+        for (QpidByteBuffer buf : content)
+        {
+            buf.copyTo(dst);
+        }
+        return data;
+    }
+
+    /**
+     * Returns direct buffers holding the content read back from the store, decompressing it if necessary.
+     *
+     * @param data        the array holding the stored bytes
+     * @param offset      the offset of the stored bytes within the array
+     * @param length      the number of stored bytes
+     * @param contentSize the content size recorded in the message meta-data
+     */
+    public static Collection<QpidByteBuffer> decode(byte[] data, int offset, int length, int contentSize)
+    {
+        if (length == contentSize)
+        {
+            return copyToDirectBuffers(data, offset, length);
+        }
+        else if (length == 0)
+        {
+            throw new StoreException("Stored content is empty but message content size is " + contentSize);
+        }
+
+        byte codec = data[offset];
+        if (codec != GZIP)
+        {
+            throw new StoreException("Unrecognised message content codec " + codec);
+        }
+
+        // the inflater of Java 7 only works on arrays, so the content passes through one small chunk on its way
+        // into the direct buffers
+        Collection<QpidByteBuffer> buffers = QpidByteBuffer.allocateDirectCollection(contentSize);
+        boolean decoded = false;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(data, offset + 1, length - 1)))
+        {
+            byte[] chunk = new byte[Math.max(1, Math.min(contentSize, INFLATE_CHUNK_SIZE))];
+            int decompressedSize = 0;
+            for (QpidByteBuffer buf : buffers)
+            {
+                while (buf.hasRemaining())
+                {
+                    int read = input.read(chunk, 0, Math.min(chunk.length, buf.remaining()));
+                    if (read == -1)
+                    {
+                        throw new StoreException("Decompressed message content size " + decompressedSize
+                                                 + " does not match expected size " + contentSize);
+                    }
+                    buf.put(chunk, 0, read);
+                    decompressedSize += read;
+                }
+                buf.flip();
+            }
+            if (input.read() != -1)
+            {
+                throw new StoreException("Decompressed message content exceeds expected size " + contentSize);
+            }
+            decoded = true;
+            return buffers;
+        }
+        catch (IOException e)
+        {
+            throw new StoreException("Unable to decompress message content", e);
+        }
+        finally
+        {
+            if (!decoded)
+            {
+                for (QpidByteBuffer buf : buffers)
+                {
+                    buf.dispose();
+                }
+            }
+        }
+    }
+
+    private static byte[] compress(Collection<QpidByteBuffer> content, int size)
+    {
+        Collection<QpidByteBuffer> duplicates = new ArrayList<>(content.size());
+        Collection<QpidByteBuffer> compressed = null;
+        try
+        {
+            for (QpidByteBuffer buf : content)
+            {
+                duplicates.add(buf.duplicate());
+            }
+            compressed = QpidByteBuffer.deflate(duplicates);
+
+            int compressedSize = 1;
+            for (QpidByteBuffer buf : compressed)
+            {
+                compressedSize += buf.remaining();
+            }
+            if (compressedSize >= size)
+            {
+                return null;
+            }
+
+            byte[] data = new byte[compressedSize];
+            data[0] = GZIP;
+            ByteBuffer dst = ByteBuffer.wrap(data, 1, compressedSize - 1);
+            for (QpidByteBuffer buf : compressed)
+            {
+                buf.copyTo(dst);
+            }
+            return data;
+        }
+        catch (IOException e)
+        {
+            LOGGER.debug("Unable to compress message content, storing it uncompressed", e);
+            return null;
+        }
+        finally
+        {
+            for (QpidByteBuffer buf : duplicates)
+            {
+                buf.dispose();
+            }
+            if (compressed != null)
+            {
+                for (QpidByteBuffer buf : compressed)
+                {
+                    buf.dispose();
+                }
+            }
+        }
+    }
+
+    private static Collection<QpidByteBuffer> copyToDirectBuffers(byte[] data, int offset, int length)
+    {
+        Collection<QpidByteBuffer> buffers = QpidByteBuffer.allocateDirectCollection(length);
+        for (QpidByteBuffer buf : buffers)
+        {
+            int bufSize = buf.remaining();
+            buf.put(data, offset, bufSize);
+            buf.flip();
+            offset += bufSize;
+        }
+        return buffers;
+    }
+}
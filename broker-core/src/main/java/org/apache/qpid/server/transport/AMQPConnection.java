@@ -80,6 +80,12 @@ public interface AMQPConnection<C extends AMQPConnection<C>> extends Connection<
     void sendConnectionCloseAsync(CloseReason reason, String description);
 
     boolean isIOThread();
+
+    /**
+     * Returns true if the current thread may process the pending work of the given session of this connection,
+     * that is if it is the I/O thread or a thread helping the I/O thread which is processing that session.
+     */
+    boolean isIOThread(AMQSessionModel<?,?> session);
     ListenableFuture<Void> doOnIOThreadAsync(final Runnable task);
 
     void checkAuthorizedMessagePrincipal(String messageUserId);
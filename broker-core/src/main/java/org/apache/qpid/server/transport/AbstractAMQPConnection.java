@@ -32,7 +32,9 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -69,6 +71,7 @@ import org.apache.qpid.server.model.port.AmqpPort;
 import org.apache.qpid.server.protocol.AMQSessionModel;
 import org.apache.qpid.server.security.auth.AuthenticatedPrincipal;
 import org.apache.qpid.server.security.auth.sasl.SaslSettings;
+import org.apache.qpid.server.stats.LatencyHistogram;
 import org.apache.qpid.server.stats.StatisticsCounter;
 import org.apache.qpid.server.stats.StatisticsGatherer;
 import org.apache.qpid.server.util.Action;
@@ -113,7 +116,9 @@ public abstract class AbstractAMQPConnection<C extends AbstractAMQPConnection<C,
     private volatile long _lastWriteTime;
     private volatile AccessControlContext _accessControllerContext;
     private volatile Thread _ioThread;
+    private final Map<Thread, AMQSessionModel<?,?>> _sessionProcessingThreads = new ConcurrentHashMap<>();
     private volatile StatisticsGatherer _statisticsGatherer;
+    private volatile LatencyHistogram _schedulingDelay;
 
     private volatile boolean _messageAuthorizationRequired;
 
@@ -206,6 +211,19 @@ public abstract class AbstractAMQPConnection<C extends AbstractAMQPConnection<C,
         long maxAuthDelay = _port.getContextValue(Long.class, Port.CONNECTION_MAXIMUM_AUTHENTICATION_DELAY);
         SlowConnectionOpenTicker slowConnectionOpenTicker = new SlowConnectionOpenTicker(maxAuthDelay);
         _aggregateTicker.addTicker(slowConnectionOpenTicker);
+        if (_port.getContextValue(Boolean.class, SCHEDULING_DELAY_STATISTICS_ENABLED))
+        {
+            final LatencyHistogram schedulingDelay = new LatencyHistogram();
+            _schedulingDelay = schedulingDelay;
+            _network.addSchedulingDelayNotificationListeners(new SchedulingDelayNotificationListener()
+            {
+                @Override
+                public void notifySchedulingDelay(final long delay)
+                {
+                    schedulingDelay.record(TimeUnit.MILLISECONDS.toMicros(delay));
+                }
+            });
+        }
         _lastReadTime = _lastWriteTime = getCreatedTime().getTime();
 
         logConnectionOpen();
@@ -486,6 +504,35 @@ public abstract class AbstractAMQPConnection<C extends AbstractAMQPConnection<C,
         _clientId = clientId;
     }
 
+    protected final boolean isParallelSessionProcessingEnabled()
+    {
+        return _port.getSessionProcessingExecutor() != null;
+    }
+
+    /**
+     * Returns the largest number of sessions to process in a single parallel batch: one for each thread helping the
+     * I/O thread and one for the I/O thread itself.
+     */
+    protected final int getParallelSessionBatchSize()
+    {
+        return _port.getContextValue(Integer.class, AmqpPort.PORT_AMQP_SESSION_PROCESSING_THREAD_POOL_SIZE) + 1;
+    }
+
+    /**
+     * Processes the pending work of the given sessions in parallel using the port's session processing executor.
+     * Must be called on the I/O thread, which takes part in processing the sessions and returns once all of them
+     * have been processed.  Whilst a helper thread processes a session, {@link #isIOThread(AMQSessionModel)} is
+     * true for that thread and session.
+     *
+     * @param sessionsWithMoreWork thread safe collection receiving the sessions which still have pending work
+     */
+    protected final void processSessionsInParallel(final Collection<? extends AMQSessionModel<?,?>> sessions,
+                                                   final Collection<AMQSessionModel<?,?>> sessionsWithMoreWork)
+    {
+        new ParallelSessionProcessing(sessions, _sessionProcessingThreads, sessionsWithMoreWork)
+                .process(_port.getSessionProcessingExecutor());
+    }
+
     @Override
     public void setIOThread(final Thread ioThread)
     {
@@ -498,6 +545,14 @@ public abstract class AbstractAMQPConnection<C extends AbstractAMQPConnection<C,
         return Thread.currentThread() == _ioThread;
     }
 
+    @Override
+    public boolean isIOThread(final AMQSessionModel<?,?> session)
+    {
+        final Thread currentThread = Thread.currentThread();
+        return currentThread == _ioThread
+               || (!_sessionProcessingThreads.isEmpty() && _sessionProcessingThreads.get(currentThread) == session);
+    }
+
     @Override
     public ListenableFuture<Void> doOnIOThreadAsync(final Runnable task)
     {
@@ -750,6 +805,20 @@ public abstract class AbstractAMQPConnection<C extends AbstractAMQPConnection<C,
 
     protected abstract boolean isOrderlyClose();
 
+    @Override
+    public long getSchedulingDelay99thPercentile()
+    {
+        final LatencyHistogram schedulingDelay = _schedulingDelay;
+        return schedulingDelay == null ? 0L : schedulingDelay.getValueAtPercentile(99d);
+    }
+
+    @Override
+    public long getSchedulingDelayMaximum()
+    {
+        final LatencyHistogram schedulingDelay = _schedulingDelay;
+        return schedulingDelay == null ? 0L : schedulingDelay.getMaximum();
+    }
+
     @Override
     public int getSessionCount()
     {
@@ -0,0 +1,86 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.transport;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+
+/**
+ * Limits the time a single pass of an I/O thread over a connection spends running pending tasks, using deficit
+ * round robin: an overrun is paid back in the next pass (but at most one quantum so that a single long task does not
+ * starve the connection), whereas unused time is not carried forward.  Every pass is allowed at least one task so
+ * that the connection makes progress however large its deficit.  A quantum of zero (or less) disables the limit.
+ */
+final class ConnectionWorkBudget
+{
+    private final long _quantum;
+    private final Ticker _ticker;
+    private long _deficit;
+    private long _deadline;
+    private boolean _taskStarted;
+    private boolean _exhausted;
+
+    ConnectionWorkBudget(long quantum, TimeUnit unit)
+    {
+        this(quantum, unit, Ticker.systemTicker());
+    }
+
+    ConnectionWorkBudget(long quantum, TimeUnit unit, Ticker ticker)
+    {
+        _quantum = unit.toNanos(quantum);
+        _ticker = ticker;
+    }
+
+    void startPass()
+    {
+        _deadline = _ticker.read() + _deficit + _quantum;
+        _taskStarted = false;
+        _exhausted = false;
+    }
+
+    /**
+     * Returns true if another task may be run in the current pass.  Otherwise the budget of the pass is exhausted.
+     */
+    boolean tryStartTask()
+    {
+        if (_quantum > 0L && _taskStarted && _ticker.read() - _deadline >= 0L)
+        {
+            _exhausted = true;
+            return false;
+        }
+        _taskStarted = true;
+        return true;
+    }
+
+    void endPass()
+    {
+        _deficit = _exhausted ? Math.max(_deadline - _ticker.read(), -_quantum) : 0L;
+    }
+
+    /**
+     * Returns true if the last pass stopped running tasks because it had used up its budget.
+     */
+    boolean isExhausted()
+    {
+        return _exhausted;
+    }
+}
@@ -129,7 +129,7 @@ public class NetworkConnectionScheduler
 
                 if (connection.isStateChanged() || connection.isPartialRead())
                 {
-                    if (_running.get() == _poolSize)
+                    if (_running.get() == _poolSize || connection.isWorkBudgetExhausted())
                     {
                         connection.clearScheduled();
                         schedule(connection);
@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -77,6 +78,7 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
     private final List<SchedulingDelayNotificationListener> _schedulingDelayNotificationListeners = new CopyOnWriteArrayList<>();
     private final AtomicBoolean _hasShutdown = new AtomicBoolean();
     private volatile long _bufferedSize;
+    private final ConnectionWorkBudget _workBudget;
 
     public NonBlockingConnection(SocketChannel socketChannel,
                                  ProtocolEngine protocolEngine,
@@ -93,6 +95,9 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
 
         _remoteSocketAddress = _socketChannel.socket().getRemoteSocketAddress().toString();
         _port = port;
+        _workBudget = new ConnectionWorkBudget(port.getContextValue(Long.class,
+                                                                    AmqpPort.PORT_AMQP_CONNECTION_WORK_QUANTUM),
+                                               TimeUnit.MILLISECONDS);
         _threadName = SelectorThread.IO_THREAD_NAME_PREFIX + _remoteSocketAddress.toString();
 
         protocolEngine.setWorkListener(new Action<ProtocolEngine>()
@@ -270,7 +275,7 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
                     boolean dataRead = doRead();
                     _protocolEngine.setTransportBlockedForWriting(!doWrite());
 
-                    if (!_fullyWritten || dataRead || (_delegate.needsWork() && _delegate.getNetInputBuffer().position() != 0))
+                    if (!_fullyWritten || dataRead || _delegate.needsWork())
                     {
                         _protocolEngine.notifyWork();
                     }
@@ -337,6 +342,7 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
         }
 
         final int networkBufferSize = _port.getNetworkBufferSize();
+        _workBudget.startPass();
 
         while(_pendingIterator.hasNext())
         {
@@ -350,6 +356,10 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
                     break;
                 }
             }
+            else if (!_workBudget.tryStartTask())
+            {
+                break;
+            }
             else
             {
                 final Runnable task = _pendingIterator.next();
@@ -357,6 +367,8 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
             }
         }
 
+        _workBudget.endPass();
+
         boolean complete = !_pendingIterator.hasNext();
         if (getBufferedSize() >= networkBufferSize)
         {
@@ -478,12 +490,13 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
         {
             int readData = readFromNetwork();
 
-            if (readData > 0)
+            if (readData > 0 || _delegate.hasUnprocessedInput())
             {
                 return _delegate.processData();
             }
             else
             {
+                _delegate.releaseUnusedInputBuffers();
                 return false;
             }
         }
@@ -618,6 +631,21 @@ public class NonBlockingConnection implements ServerNetworkConnection, ByteBuffe
         LOGGER.debug("Identified transport encryption as " + transportEncryption);
     }
 
+    void notifyWork()
+    {
+        _protocolEngine.notifyWork();
+        getScheduler().schedule(this);
+    }
+
+    /**
+     * Returns true if the last call to {@link #doWork()} stopped processing pending work because the connection
+     * had used up its time quantum.
+     */
+    boolean isWorkBudgetExhausted()
+    {
+        return _workBudget.isExhausted();
+    }
+
     public boolean setScheduled()
     {
         final boolean scheduled = _scheduled.compareAndSet(false, true);
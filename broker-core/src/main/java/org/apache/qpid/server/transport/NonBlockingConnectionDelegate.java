@@ -61,8 +61,12 @@ interface NonBlockingConnectionDelegate
 
     boolean needsWork();
 
+    boolean hasUnprocessedInput();
+
     QpidByteBuffer getNetInputBuffer();
 
+    void releaseUnusedInputBuffers();
+
     void shutdownInput();
 
     void shutdownOutput();
@@ -140,12 +140,23 @@ public class NonBlockingConnectionPlainDelegate implements NonBlockingConnection
         return false;
     }
 
+    @Override
+    public boolean hasUnprocessedInput()
+    {
+        return false;
+    }
+
     @Override
     public QpidByteBuffer getNetInputBuffer()
     {
         return _netInputBuffer;
     }
 
+    @Override
+    public void releaseUnusedInputBuffers()
+    {
+    }
+
     @Override
     public void shutdownInput()
     {
@@ -27,6 +27,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLEngineResult;
@@ -48,12 +50,19 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
 
     private final SSLEngine _sslEngine;
     private final NonBlockingConnection _parent;
+    private final AmqpPort<?> _port;
+    private final long _createTime = System.nanoTime();
+    private boolean _handshakeCompleted;
+    private volatile boolean _tasksInProgress;
+    private volatile boolean _tasksCompleted;
     private final int _networkBufferSize;
     private SSLEngineResult _status;
     private final List<QpidByteBuffer> _encryptedOutput = new ArrayList<>();
     private Principal _principal;
     private Certificate _peerCertificate;
     private boolean _principalChecked;
+    // network and application buffers are borrowed from the pool whilst data is in flight and returned as soon as
+    // the connection has nothing left to process or send, so that idle connections do not hold onto direct memory
     private QpidByteBuffer _netInputBuffer;
     private QpidByteBuffer _netOutputBuffer;
     private QpidByteBuffer _applicationBuffer;
@@ -62,6 +71,7 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
     public NonBlockingConnectionTLSDelegate(NonBlockingConnection parent, AmqpPort port)
     {
         _parent = parent;
+        _port = port;
         _sslEngine = createSSLEngine(port);
         _networkBufferSize = port.getNetworkBufferSize();
 
@@ -71,21 +81,22 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
             throw new ServerScopedRuntimeException("TLS implementation packet buffer size (" + tlsPacketBufferSize
                     + ") is greater then broker network buffer size (" + _networkBufferSize + ")");
         }
-
-        _netInputBuffer = QpidByteBuffer.allocateDirect(_networkBufferSize);
-        _applicationBuffer = QpidByteBuffer.allocateDirect(_networkBufferSize);
-        _netOutputBuffer = QpidByteBuffer.allocateDirect(_networkBufferSize);
     }
 
     @Override
     public boolean readyForRead()
     {
-        return _sslEngine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_WRAP;
+        return !_tasksInProgress && _sslEngine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_WRAP;
     }
 
     @Override
     public boolean processData() throws IOException
     {
+        _tasksCompleted = false;
+        if (_applicationBuffer == null)
+        {
+            _applicationBuffer = QpidByteBuffer.allocateDirect(_networkBufferSize);
+        }
         _netInputBuffer.flip();
         boolean readData = false;
         boolean tasksRun;
@@ -116,12 +127,21 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
             restoreApplicationBufferForWrite();
 
         }
-        while((_netInputBuffer.hasRemaining() && (_netInputBuffer.position()>oldNetBufferPos)) || tasksRun);
+        while(!_tasksInProgress
+              && ((_netInputBuffer.hasRemaining() && (_netInputBuffer.position()>oldNetBufferPos)) || tasksRun));
 
         if(_netInputBuffer.hasRemaining())
         {
             _netInputBuffer.compact();
         }
+        else if (_applicationBuffer.position() == 0)
+        {
+            // nothing partially received - return the buffers to the pool until more data arrives
+            _netInputBuffer.dispose();
+            _netInputBuffer = null;
+            _applicationBuffer.dispose();
+            _applicationBuffer = null;
+        }
         else
         {
             _netInputBuffer.clear();
@@ -132,9 +152,18 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
     @Override
     public WriteResult doWrite(Collection<QpidByteBuffer> bufferArray) throws IOException
     {
+        if (_encryptedOutput.isEmpty()
+            && _sslEngine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING
+            && !hasRemaining(bufferArray))
+        {
+            return new WriteResult(true, 0);
+        }
+
         final int bufCount = bufferArray.size();
 
-        int totalConsumed = wrapBufferArray(bufferArray);
+        // whilst handshake tasks are running elsewhere the engine cannot wrap; the connection is woken once they finish
+        final boolean tasksInProgress = _tasksInProgress;
+        int totalConsumed = tasksInProgress ? 0 : wrapBufferArray(bufferArray);
 
         boolean bufsSent = true;
         final Iterator<QpidByteBuffer> itr = bufferArray.iterator();
@@ -164,7 +193,24 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
                 }
             }
         }
-        return new WriteResult(bufsSent && _encryptedOutput.isEmpty(), totalConsumed);
+        if (_encryptedOutput.isEmpty() && _netOutputBuffer != null)
+        {
+            _netOutputBuffer.dispose();
+            _netOutputBuffer = null;
+        }
+        return new WriteResult((bufsSent || tasksInProgress) && _encryptedOutput.isEmpty(), totalConsumed);
+    }
+
+    private boolean hasRemaining(final Collection<QpidByteBuffer> bufferArray)
+    {
+        for (QpidByteBuffer buf : bufferArray)
+        {
+            if (buf.hasRemaining())
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected void restoreApplicationBufferForWrite()
@@ -205,6 +251,10 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
     {
         int totalConsumed = 0;
         boolean encrypted;
+        if (_netOutputBuffer == null)
+        {
+            _netOutputBuffer = QpidByteBuffer.allocateDirect(_networkBufferSize);
+        }
         do
         {
             if(_sslEngine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_UNWRAP)
@@ -258,20 +308,55 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
 
     private boolean runSSLEngineTasks(final SSLEngineResult status)
     {
-        if(status.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK)
+        if (status.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED && !_handshakeCompleted)
+        {
+            _handshakeCompleted = true;
+            _port.tlsHandshakeCompleted(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - _createTime));
+        }
+
+        if(status.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK && !_tasksInProgress)
         {
-            Runnable task;
-            while((task = _sslEngine.getDelegatedTask()) != null)
+            final Executor executor = _port.getTlsHandshakeExecutor();
+            if (executor == null)
             {
-                task.run();
+                runDelegatedTasks();
+                return true;
             }
 
-            return true;
+            _tasksInProgress = true;
+            executor.execute(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        runDelegatedTasks();
+                    }
+                    finally
+                    {
+                        _tasksCompleted = true;
+                        _tasksInProgress = false;
+                        _parent.notifyWork();
+                    }
+                }
+            });
+            // the executor may have run the tasks in this thread
+            return !_tasksInProgress;
         }
 
         return false;
     }
 
+    private void runDelegatedTasks()
+    {
+        Runnable task;
+        while((task = _sslEngine.getDelegatedTask()) != null)
+        {
+            task.run();
+        }
+    }
+
     @Override
     public Principal getPeerPrincipal()
     {
@@ -289,7 +374,15 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
     @Override
     public boolean needsWork()
     {
-        return _sslEngine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_UNWRAP;
+        return !_tasksInProgress
+               && _sslEngine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_UNWRAP
+               && _netInputBuffer != null && _netInputBuffer.position() != 0;
+    }
+
+    @Override
+    public boolean hasUnprocessedInput()
+    {
+        return _tasksCompleted && _netInputBuffer != null && _netInputBuffer.position() != 0;
     }
 
     private synchronized void checkPeerPrincipal()
@@ -341,9 +434,31 @@ public class NonBlockingConnectionTLSDelegate implements NonBlockingConnectionDe
     @Override
     public QpidByteBuffer getNetInputBuffer()
     {
+        if (_netInputBuffer == null)
+        {
+            _netInputBuffer = QpidByteBuffer.allocateDirect(_networkBufferSize);
+        }
         return _netInputBuffer;
     }
 
+    @Override
+    public void releaseUnusedInputBuffers()
+    {
+        // a read pass that brought nothing in must not leave an idle connection holding the borrowed buffers;
+        // a partially received TLS record (or application frame) keeps its buffer until the remainder arrives
+        if (_netInputBuffer != null && _netInputBuffer.position() == 0)
+        {
+            _netInputBuffer.dispose();
+            _netInputBuffer = null;
+
+            if (_applicationBuffer != null && _applicationBuffer.position() == 0)
+            {
+                _applicationBuffer.dispose();
+                _applicationBuffer = null;
+            }
+        }
+    }
+
     @Override
     public void shutdownInput()
     {
@@ -96,6 +96,12 @@ public class NonBlockingConnectionUndecidedDelegate implements NonBlockingConnec
         return false;
     }
 
+    @Override
+    public boolean hasUnprocessedInput()
+    {
+        return false;
+    }
+
     private boolean looksLikeSSL(final byte[] headerBytes)
     {
         return looksLikeSSLv3ClientHello(headerBytes) || looksLikeSSLv2ClientHello(headerBytes);
@@ -128,6 +134,11 @@ public class NonBlockingConnectionUndecidedDelegate implements NonBlockingConnec
         return _netInputBuffer;
     }
 
+    @Override
+    public void releaseUnusedInputBuffers()
+    {
+    }
+
     @Override
     public void shutdownInput()
     {
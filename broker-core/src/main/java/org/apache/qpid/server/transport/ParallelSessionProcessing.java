@@ -0,0 +1,175 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.transport;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.qpid.server.protocol.AMQSessionModel;
+
+/**
+ * Processes the pending work of a batch of sessions of a single connection in parallel.  The I/O thread takes part
+ * in processing the batch, helped by threads from an executor, and each session of the batch is processed by
+ * exactly one thread.  Whilst a helper processes a session it is registered against that session, so that the
+ * session (but no other) treats it as the I/O thread.
+ */
+final class ParallelSessionProcessing implements Runnable
+{
+    private final Queue<AMQSessionModel<?,?>> _sessions;
+    private final Map<Thread, AMQSessionModel<?,?>> _processingThreads;
+    private final Collection<AMQSessionModel<?,?>> _sessionsWithMoreWork;
+    private int _activeHelpers;
+    private boolean _finished;
+    private RuntimeException _failure;
+
+    /**
+     * @param sessions the sessions to process, each at most once
+     * @param processingThreads the helper threads of the connection mapped to the session each is processing
+     * @param sessionsWithMoreWork receives, from any thread, the sessions which still have pending work once processed
+     */
+    ParallelSessionProcessing(final Collection<? extends AMQSessionModel<?,?>> sessions,
+                              final Map<Thread, AMQSessionModel<?,?>> processingThreads,
+                              final Collection<AMQSessionModel<?,?>> sessionsWithMoreWork)
+    {
+        _sessions = new ConcurrentLinkedQueue<>(sessions);
+        _processingThreads = processingThreads;
+        _sessionsWithMoreWork = sessionsWithMoreWork;
+    }
+
+    /**
+     * Hands the batch to helpers from the given executor and processes it on the calling thread, returning once
+     * every session of the batch has been processed.  Helpers which cannot be queued, or which start only after the
+     * batch has run out, do nothing.  A failure to process a session, on any thread, is rethrown here once the
+     * other sessions of the batch have been processed.
+     */
+    void process(final Executor executor)
+    {
+        if (executor != null)
+        {
+            try
+            {
+                for (int i = 1; i < _sessions.size(); i++)
+                {
+                    executor.execute(this);
+                }
+            }
+            catch (RejectedExecutionException e)
+            {
+                // the calling thread processes the sessions which no helper takes
+            }
+        }
+
+        processSessions(false);
+
+        boolean interrupted = false;
+        synchronized (this)
+        {
+            // helpers which have not started by now will find nothing to do
+            _finished = true;
+            while (_activeHelpers > 0)
+            {
+                try
+                {
+                    wait();
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+        if (_failure != null)
+        {
+            throw _failure;
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        synchronized (this)
+        {
+            if (_finished || _sessions.isEmpty())
+            {
+                return;
+            }
+            _activeHelpers++;
+        }
+
+        try
+        {
+            processSessions(true);
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                _activeHelpers--;
+                notifyAll();
+            }
+        }
+    }
+
+    private void processSessions(final boolean helper)
+    {
+        final Thread currentThread = Thread.currentThread();
+        AMQSessionModel<?,?> session;
+        while ((session = _sessions.poll()) != null)
+        {
+            if (helper)
+            {
+                _processingThreads.put(currentThread, session);
+            }
+            try
+            {
+                if (session.processPending())
+                {
+                    _sessionsWithMoreWork.add(session);
+                }
+            }
+            catch (RuntimeException e)
+            {
+                synchronized (this)
+                {
+                    if (_failure == null)
+                    {
+                        _failure = e;
+                    }
+                }
+            }
+            finally
+            {
+                if (helper)
+                {
+                    _processingThreads.remove(currentThread);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.transport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reference counted network connection schedulers shared by the virtual hosts of a group.  The scheduler of a group
+ * is created with the settings of the first virtual host to acquire it and closed once the last one releases it.
+ */
+public final class SharedNetworkConnectionSchedulers
+{
+    private static final Map<String, SharedScheduler> SCHEDULERS = new HashMap<>();
+
+    private SharedNetworkConnectionSchedulers()
+    {
+    }
+
+    public static synchronized NetworkConnectionScheduler acquire(final String key,
+                                                                  final String name,
+                                                                  final int numberOfSelectors,
+                                                                  final int threadPoolSize,
+                                                                  final long threadKeepAliveTimeout,
+                                                                  final ThreadFactory factory)
+    {
+        SharedScheduler sharedScheduler = SCHEDULERS.get(key);
+        if (sharedScheduler == null)
+        {
+            NetworkConnectionScheduler scheduler = new NetworkConnectionScheduler(name,
+                                                                                  numberOfSelectors,
+                                                                                  threadPoolSize,
+                                                                                  threadKeepAliveTimeout,
+                                                                                  factory);
+            scheduler.start();
+            sharedScheduler = new SharedScheduler(scheduler);
+            SCHEDULERS.put(key, sharedScheduler);
+        }
+        sharedScheduler._references++;
+        return sharedScheduler._scheduler;
+    }
+
+    public static synchronized void release(final String key, final NetworkConnectionScheduler scheduler)
+    {
+        SharedScheduler sharedScheduler = SCHEDULERS.get(key);
+        if (sharedScheduler != null && sharedScheduler._scheduler == scheduler && --sharedScheduler._references == 0)
+        {
+            SCHEDULERS.remove(key);
+            scheduler.close();
+        }
+    }
+
+    private static final class SharedScheduler
+    {
+        private final NetworkConnectionScheduler _scheduler;
+        private int _references;
+
+        private SharedScheduler(final NetworkConnectionScheduler scheduler)
+        {
+            _scheduler = scheduler;
+        }
+    }
+}
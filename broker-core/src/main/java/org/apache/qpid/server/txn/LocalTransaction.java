@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -420,6 +421,33 @@ public class LocalTransaction implements ServerTransaction
         }
     }
 
+    /**
+     * Returns true if a commit started by {@link #commitAsync(Runnable)} is still waiting for the store.  Once this
+     * returns false, {@link #sync()} completes the commit without blocking.
+     */
+    public boolean isAsyncCommitInProgress()
+    {
+        final ListenableFuture<Runnable> asyncTran = _asyncTran;
+        return asyncTran != null && !asyncTran.isDone();
+    }
+
+    /**
+     * Registers a listener run, on the thread completing the store commit, once the pending asynchronous commit
+     * (if any) is no longer in progress.  The listener must not touch the transaction itself.
+     */
+    public void addAsyncCommitListener(final Runnable listener)
+    {
+        final ListenableFuture<Runnable> asyncTran = _asyncTran;
+        if (asyncTran == null)
+        {
+            listener.run();
+        }
+        else
+        {
+            asyncTran.addListener(listener, MoreExecutors.directExecutor());
+        }
+    }
+
     private void doPostTransactionActions()
     {
         _logger.debug("Beginning {} post transaction actions",  _postTransactionActions.size());
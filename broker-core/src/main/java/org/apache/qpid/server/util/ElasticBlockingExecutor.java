@@ -0,0 +1,192 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.auth.Subject;
+
+import org.apache.qpid.pool.SuppressingInheritedAccessControlContextThreadFactory;
+
+/**
+ * Executor for tasks which spend most of their time blocked, typically on a store.  Each task gets a thread of its
+ * own from an elastic pool, so slow tasks do not queue up behind each other on a small fixed pool, whilst a
+ * semaphore bounds the number of tasks in flight.  Tasks submitted beyond that bound wait in a queue without
+ * blocking the submitter.
+ */
+public class ElasticBlockingExecutor implements Executor
+{
+    private static final long THREAD_KEEP_ALIVE_TIME = 60L;
+
+    private final ThreadPoolExecutor _threadPool;
+    private final Semaphore _permits;
+    private final int _maximumConcurrency;
+    private final Queue<Runnable> _pendingTasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean _shutdown;
+
+    public ElasticBlockingExecutor(final String threadPrefix, final int maximumConcurrency, final Subject subject)
+    {
+        if (maximumConcurrency < 1)
+        {
+            throw new IllegalArgumentException("Maximum concurrency must be positive, but was " + maximumConcurrency);
+        }
+        _maximumConcurrency = maximumConcurrency;
+        _permits = new Semaphore(maximumConcurrency);
+        _threadPool = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                                             THREAD_KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                                             new SynchronousQueue<Runnable>(),
+                                             new SuppressingInheritedAccessControlContextThreadFactory(threadPrefix,
+                                                                                                       subject));
+    }
+
+    @Override
+    public void execute(final Runnable task)
+    {
+        if (_shutdown)
+        {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        _pendingTasks.add(task);
+        // a shutdown racing with this submission may already have released the threads
+        if (_shutdown && _pendingTasks.remove(task))
+        {
+            terminateIfIdle();
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        dispatch();
+    }
+
+    /**
+     * Stops the executor accepting further tasks.  Tasks already submitted are still run, after which the threads
+     * are released.
+     */
+    public void shutdown()
+    {
+        _shutdown = true;
+        terminateIfIdle();
+    }
+
+    /**
+     * Stops the executor accepting further tasks, discards the tasks not yet started and interrupts those running.
+     *
+     * @return the tasks which were discarded
+     */
+    public List<Runnable> shutdownNow()
+    {
+        _shutdown = true;
+        final List<Runnable> discarded = new ArrayList<>();
+        Runnable task;
+        while ((task = _pendingTasks.poll()) != null)
+        {
+            discarded.add(task);
+        }
+        _threadPool.shutdownNow();
+        return discarded;
+    }
+
+    /**
+     * Waits for the executor to finish the tasks submitted before {@link #shutdown()} and to release its threads.
+     *
+     * @return true if the executor terminated, false if the timeout elapsed first
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException
+    {
+        return _threadPool.awaitTermination(timeout, unit);
+    }
+
+    public int getMaximumConcurrency()
+    {
+        return _maximumConcurrency;
+    }
+
+    public int getActiveCount()
+    {
+        return _maximumConcurrency - _permits.availablePermits();
+    }
+
+    public int getPendingCount()
+    {
+        return _pendingTasks.size();
+    }
+
+    private void dispatch()
+    {
+        while (!_pendingTasks.isEmpty() && _permits.tryAcquire())
+        {
+            final Runnable task = _pendingTasks.poll();
+            if (task == null)
+            {
+                _permits.release();
+            }
+            else
+            {
+                try
+                {
+                    _threadPool.execute(new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                task.run();
+                            }
+                            finally
+                            {
+                                _permits.release();
+                                try
+                                {
+                                    dispatch();
+                                }
+                                finally
+                                {
+                                    terminateIfIdle();
+                                }
+                            }
+                        }
+                    });
+                }
+                catch (RejectedExecutionException e)
+                {
+                    _permits.release();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void terminateIfIdle()
+    {
+        if (_shutdown && _pendingTasks.isEmpty() && _permits.availablePermits() == _maximumConcurrency)
+        {
+            _threadPool.shutdown();
+        }
+    }
+}
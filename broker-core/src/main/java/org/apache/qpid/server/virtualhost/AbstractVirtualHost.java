@@ -41,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -54,6 +55,7 @@ import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -112,6 +114,7 @@ import org.apache.qpid.server.security.access.Operation;
 import org.apache.qpid.server.security.auth.AuthenticatedPrincipal;
 import org.apache.qpid.server.security.auth.SocketConnectionMetaData;
 import org.apache.qpid.server.stats.StatisticsCounter;
+import org.apache.qpid.server.store.CommitLatencyProvider;
 import org.apache.qpid.server.store.ConfiguredObjectRecord;
 import org.apache.qpid.server.store.DurableConfigurationStore;
 import org.apache.qpid.server.store.Event;
@@ -134,12 +137,14 @@ import org.apache.qpid.server.store.preferences.PreferencesRoot;
 import org.apache.qpid.server.store.serializer.MessageStoreSerializer;
 import org.apache.qpid.server.transport.AMQPConnection;
 import org.apache.qpid.server.transport.NetworkConnectionScheduler;
+import org.apache.qpid.server.transport.SharedNetworkConnectionSchedulers;
 import org.apache.qpid.server.txn.AutoCommitTransaction;
 import org.apache.qpid.server.txn.DtxRegistry;
 import org.apache.qpid.server.txn.LocalTransaction;
 import org.apache.qpid.server.txn.ServerTransaction;
 import org.apache.qpid.server.util.Action;
 import org.apache.qpid.server.util.ConnectionScopedRuntimeException;
+import org.apache.qpid.server.util.ElasticBlockingExecutor;
 import org.apache.qpid.server.util.HousekeepingExecutor;
 import org.apache.qpid.server.util.MapValueConverter;
 import org.apache.qpid.util.Strings;
@@ -170,6 +175,7 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
     private static final int HOUSEKEEPING_SHUTDOWN_TIMEOUT = 5;
 
     private ScheduledThreadPoolExecutor _houseKeepingTaskExecutor;
+    private volatile ElasticBlockingExecutor _blockingTaskExecutor;
 
     private final Broker<?> _broker;
 
@@ -199,6 +205,7 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
     private final Set<BlockingType> _blockingReasons = Collections.synchronizedSet(EnumSet.noneOf(BlockingType.class));
 
     private NetworkConnectionScheduler _networkConnectionScheduler;
+    private String _sharedNetworkConnectionSchedulerKey;
 
     private final VirtualHostPrincipal _principal;
 
@@ -245,6 +252,9 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
     @ManagedAttributeField
     private int _numberOfSelectors;
 
+    @ManagedAttributeField
+    private String _connectionThreadPoolGroup;
+
     @ManagedAttributeField
     private List<String> _enabledConnectionValidators;
 
@@ -607,6 +617,14 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
                                                                  getHousekeepingThreadCount(),
                                                                  getSystemTaskSubject("Housekeeping", getPrincipal()));
         }
+
+        int blockingTaskConcurrency = getContextValue(Integer.class, BLOCKING_TASK_MAXIMUM_CONCURRENCY);
+        if (_blockingTaskExecutor == null && blockingTaskConcurrency > 0)
+        {
+            _blockingTaskExecutor = new ElasticBlockingExecutor("virtualhost-" + getName() + "-blocking",
+                                                                blockingTaskConcurrency,
+                                                                getSystemTaskSubject("Housekeeping", getPrincipal()));
+        }
     }
 
     private void checkVHostStateIsActive()
@@ -1145,6 +1163,13 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
 
     protected void shutdownHouseKeeping()
     {
+        final ElasticBlockingExecutor blockingTaskExecutor = _blockingTaskExecutor;
+        if (blockingTaskExecutor != null)
+        {
+            blockingTaskExecutor.shutdown();
+            _blockingTaskExecutor = null;
+        }
+
         if(_houseKeepingTaskExecutor != null)
         {
             _houseKeepingTaskExecutor.shutdown();
@@ -1162,6 +1187,24 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
                 Thread.currentThread().interrupt();
             }
         }
+
+        // blocking tasks typically use the message store, so they must finish before the store is closed
+        if (blockingTaskExecutor != null)
+        {
+            try
+            {
+                if (!blockingTaskExecutor.awaitTermination(HOUSEKEEPING_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS))
+                {
+                    blockingTaskExecutor.shutdownNow();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                _logger.warn("Interrupted during blocking task shutdown:", e);
+                blockingTaskExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     protected void removeHouseKeepingTasks()
@@ -1177,7 +1220,16 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
     {
         if(_networkConnectionScheduler != null)
         {
-            _networkConnectionScheduler.close();
+            if (_sharedNetworkConnectionSchedulerKey != null)
+            {
+                SharedNetworkConnectionSchedulers.release(_sharedNetworkConnectionSchedulerKey,
+                                                          _networkConnectionScheduler);
+                _sharedNetworkConnectionSchedulerKey = null;
+            }
+            else
+            {
+                _networkConnectionScheduler.close();
+            }
             _networkConnectionScheduler = null;
         }
     }
@@ -1190,7 +1242,9 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
      */
     public void scheduleHouseKeepingTask(long period, HouseKeepingTask task)
     {
-        task.setFuture(_houseKeepingTaskExecutor.scheduleAtFixedRate(task, period / 2, period, TimeUnit.MILLISECONDS));
+        final ElasticBlockingExecutor blockingTaskExecutor = _blockingTaskExecutor;
+        final Runnable runnable = blockingTaskExecutor == null ? task : new BlockingTaskDispatcher(task, blockingTaskExecutor);
+        task.setFuture(_houseKeepingTaskExecutor.scheduleAtFixedRate(runnable, period / 2, period, TimeUnit.MILLISECONDS));
     }
 
 
@@ -1202,14 +1256,70 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
     @Override
     public void executeTask(final String name, final Runnable task, AccessControlContext context)
     {
-        _houseKeepingTaskExecutor.execute(new HouseKeepingTask(name, this, context)
+        final HouseKeepingTask houseKeepingTask = new HouseKeepingTask(name, this, context)
         {
             @Override
             public void execute()
             {
                 task.run();
             }
-        });
+        };
+        final ElasticBlockingExecutor blockingTaskExecutor = _blockingTaskExecutor;
+        if (blockingTaskExecutor == null)
+        {
+            _houseKeepingTaskExecutor.execute(houseKeepingTask);
+        }
+        else
+        {
+            blockingTaskExecutor.execute(houseKeepingTask);
+        }
+    }
+
+    /**
+     * Hands a periodic task over to the blocking task executor on each tick, skipping ticks whilst a previous run
+     * is still in progress so that runs do not overlap.
+     */
+    private static final class BlockingTaskDispatcher implements Runnable
+    {
+        private final HouseKeepingTask _task;
+        private final ElasticBlockingExecutor _executor;
+        private final AtomicBoolean _inProgress = new AtomicBoolean();
+
+        private BlockingTaskDispatcher(final HouseKeepingTask task, final ElasticBlockingExecutor executor)
+        {
+            _task = task;
+            _executor = executor;
+        }
+
+        @Override
+        public void run()
+        {
+            if (_inProgress.compareAndSet(false, true))
+            {
+                try
+                {
+                    _executor.execute(new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                _task.run();
+                            }
+                            finally
+                            {
+                                _inProgress.set(false);
+                            }
+                        }
+                    });
+                }
+                catch (RejectedExecutionException e)
+                {
+                    _inProgress.set(false);
+                }
+            }
+        }
     }
 
 
@@ -2050,6 +2160,28 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
         return getDataDeliveryStatistics().getTotal();
     }
 
+    @Override
+    public long getStoreCommitTime50thPercentile()
+    {
+        return getStoreCommitTimeAtPercentile(50d);
+    }
+
+    @Override
+    public long getStoreCommitTime99thPercentile()
+    {
+        return getStoreCommitTimeAtPercentile(99d);
+    }
+
+    private long getStoreCommitTimeAtPercentile(double percentile)
+    {
+        final MessageStore messageStore = getMessageStore();
+        if (messageStore instanceof CommitLatencyProvider)
+        {
+            return ((CommitLatencyProvider) messageStore).getCommitLatency().getValueAtPercentile(percentile);
+        }
+        return 0L;
+    }
+
     @Override
     public long getMessagesIn()
     {
@@ -2080,6 +2212,12 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
         return _numberOfSelectors;
     }
 
+    @Override
+    public String getConnectionThreadPoolGroup()
+    {
+        return _connectionThreadPoolGroup;
+    }
+
     @StateTransition( currentState = { State.UNINITIALIZED, State.ACTIVE, State.ERRORED }, desiredState = State.STOPPED )
     protected ListenableFuture<Void> doStop()
     {
@@ -2352,6 +2490,49 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
         return calculateTotalEnqueuedSize(getChildren(Queue.class));
     }
 
+    @Override
+    public void flowToDiskBeyondTargetSize()
+    {
+        final Collection<Queue> queues = getChildren(Queue.class);
+        final long excess = calculateTotalEnqueuedSize(queues) - _targetSize.get();
+        if (excess <= 0L)
+        {
+            return;
+        }
+
+        final Map<Queue<?>, Long> queuesOverTarget = new HashMap<>();
+        for (Queue<?> queue : queues)
+        {
+            long sizeOverTarget = queue.getEstimatedSizeOverTarget();
+            if (sizeOverTarget > 0L)
+            {
+                queuesOverTarget.put(queue, sizeOverTarget);
+            }
+        }
+
+        final List<Queue<?>> orderedQueues = new ArrayList<>(queuesOverTarget.keySet());
+        Collections.sort(orderedQueues, new Comparator<Queue<?>>()
+        {
+            @Override
+            public int compare(final Queue<?> queue1, final Queue<?> queue2)
+            {
+                return Long.compare(queuesOverTarget.get(queue2), queuesOverTarget.get(queue1));
+            }
+        });
+
+        long flowedToDisk = 0L;
+        for (Queue<?> queue : orderedQueues)
+        {
+            if (flowedToDisk >= excess)
+            {
+                break;
+            }
+            flowedToDisk += queue.flowToDiskBeyondTargetSize();
+        }
+        _logger.debug("Flowed {} bytes to disk from {} queue(s) over target size, virtual host excess {}",
+                      flowedToDisk, orderedQueues.size(), excess);
+    }
+
 
     @Override
     public Principal getPrincipal()
@@ -2471,16 +2652,36 @@ public abstract class AbstractVirtualHost<X extends AbstractVirtualHost<X>> exte
 
         long threadPoolKeepAliveTimeout = getContextValue(Long.class, CONNECTION_THREAD_POOL_KEEP_ALIVE_TIMEOUT);
 
-        final SuppressingInheritedAccessControlContextThreadFactory connectionThreadFactory =
-                new SuppressingInheritedAccessControlContextThreadFactory("virtualhost-" + getName() + "-iopool",
-                                                                          getSystemTaskSubject("IO Pool", getPrincipal()));
+        final String connectionThreadPoolGroup = getConnectionThreadPoolGroup();
+        if (connectionThreadPoolGroup == null || "".equals(connectionThreadPoolGroup))
+        {
+            final SuppressingInheritedAccessControlContextThreadFactory connectionThreadFactory =
+                    new SuppressingInheritedAccessControlContextThreadFactory("virtualhost-" + getName() + "-iopool",
+                                                                              getSystemTaskSubject("IO Pool", getPrincipal()));
+
+            _networkConnectionScheduler = new NetworkConnectionScheduler("virtualhost-" + getName() + "-iopool",
+                                                                         getNumberOfSelectors(),
+                                                                         getConnectionThreadPoolSize(),
+                                                                         threadPoolKeepAliveTimeout,
+                                                                         connectionThreadFactory);
+            _networkConnectionScheduler.start();
+        }
+        else
+        {
+            final String schedulerName = "virtualhostgroup-" + connectionThreadPoolGroup + "-iopool";
+            final SuppressingInheritedAccessControlContextThreadFactory connectionThreadFactory =
+                    new SuppressingInheritedAccessControlContextThreadFactory(schedulerName,
+                                                                              getSystemTaskSubject("IO Pool"));
 
-        _networkConnectionScheduler = new NetworkConnectionScheduler("virtualhost-" + getName() + "-iopool",
-                                                                     getNumberOfSelectors(),
-                                                                     getConnectionThreadPoolSize(),
-                                                                     threadPoolKeepAliveTimeout,
-                                                                     connectionThreadFactory);
-        _networkConnectionScheduler.start();
+            _sharedNetworkConnectionSchedulerKey = _broker.getId() + "/" + connectionThreadPoolGroup;
+            _networkConnectionScheduler =
+                    SharedNetworkConnectionSchedulers.acquire(_sharedNetworkConnectionSchedulerKey,
+                                                              schedulerName,
+                                                              getNumberOfSelectors(),
+                                                              getConnectionThreadPoolSize(),
+                                                              threadPoolKeepAliveTimeout,
+                                                              connectionThreadFactory);
+        }
 
         updateAccessControl();
 
@@ -22,14 +22,19 @@ package org.apache.qpid.server.virtualhost;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.base.Function;
 import com.google.common.util.concurrent.Futures;
@@ -90,6 +95,10 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
         private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousRecoverer.class);
 
         public static final int THREAD_POOL_SHUTDOWN_TIMEOUT = 5000;
+        private static final int MESSAGE_LOCK_STRIPES = 256;
+        private static final int LOADING_SLICE_SIZE = 64;
+        private static final long PROGRESS_LOG_INTERVAL = 100000L;
+
         private final QueueManagingVirtualHost<?> _virtualHost;
         private final EventLogger _eventLogger;
         private final MessageStore _store;
@@ -97,9 +106,15 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
         private final long _maxMessageId;
         private final Set<Queue<?>> _recoveringQueues = new CopyOnWriteArraySet<>();
         private final AtomicBoolean _recoveryComplete = new AtomicBoolean();
-        private final Map<Long, MessageReference<? extends ServerMessage<?>>> _recoveredMessages = new HashMap<>();
-        private final ListeningExecutorService _queueRecoveryExecutor = MoreExecutors.listeningDecorator(Executors.newCachedThreadPool());
+        private final Map<Long, MessageReference<? extends ServerMessage<?>>> _recoveredMessages = new ConcurrentHashMap<>();
+        private final Object[] _messageLocks = new Object[MESSAGE_LOCK_STRIPES];
+        private final ListeningExecutorService _queueRecoveryExecutor;
+        private final ListeningExecutorService _messageLoadingExecutor;
+        private final int _batchSize;
+        private final boolean _lazyRecovery;
         private final MessageStore.MessageStoreReader _storeReader;
+        private final AtomicLong _recoveredInstanceCount = new AtomicLong();
+        private final long _recoveryStartTime = System.currentTimeMillis();
         private AtomicBoolean _continueRecovery = new AtomicBoolean(true);
 
         private AsynchronousRecoverer(final QueueManagingVirtualHost<?> virtualHost)
@@ -114,6 +129,25 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
             Collection children = _virtualHost.getChildren(Queue.class);
             _recoveringQueues.addAll((Collection<? extends Queue<?>>) children);
 
+            for (int i = 0; i < _messageLocks.length; i++)
+            {
+                _messageLocks[i] = new Object();
+            }
+
+            int threadCount = getContextValue(QueueManagingVirtualHost.RECOVERY_THREAD_COUNT,
+                                              QueueManagingVirtualHost.DEFAULT_RECOVERY_THREAD_COUNT);
+            _batchSize = getContextValue(QueueManagingVirtualHost.RECOVERY_BATCH_SIZE,
+                                         QueueManagingVirtualHost.DEFAULT_RECOVERY_BATCH_SIZE);
+            _lazyRecovery = Boolean.TRUE.equals(_virtualHost.getContextValue(Boolean.class,
+                                                                              QueueManagingVirtualHost.LAZY_MESSAGE_RECOVERY));
+            _queueRecoveryExecutor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threadCount));
+            _messageLoadingExecutor = MoreExecutors.listeningDecorator(new ForkJoinPool(threadCount));
+        }
+
+        private int getContextValue(final String name, final int defaultValue)
+        {
+            Integer value = _virtualHost.getContextValue(Integer.class, name);
+            return value == null || value < 1 ? defaultValue : value;
         }
 
         public ListenableFuture<Void> recover()
@@ -121,19 +155,20 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
             getStoreReader().visitDistributedTransactions(new DistributedTransactionVisitor());
 
             List<ListenableFuture<Void>> queueRecoveryFutures = new ArrayList<>();
+            final ListenableFuture<Void> result;
             if(_recoveringQueues.isEmpty())
             {
-                return _queueRecoveryExecutor.submit(new RemoveOrphanedMessagesTask(), null);
+                result = _queueRecoveryExecutor.submit(new RemoveOrphanedMessagesTask(), null);
             }
             else
             {
                 for (Queue<?> queue : _recoveringQueues)
                 {
-                    ListenableFuture<Void> result = _queueRecoveryExecutor.submit(new QueueRecoveringTask(queue), null);
-                    queueRecoveryFutures.add(result);
+                    ListenableFuture<Void> queueResult = _queueRecoveryExecutor.submit(new QueueRecoveringTask(queue), null);
+                    queueRecoveryFutures.add(queueResult);
                 }
                 ListenableFuture<List<Void>> combinedFuture = Futures.allAsList(queueRecoveryFutures);
-                return Futures.transform(combinedFuture, new Function<List<?>, Void>()
+                result = Futures.transform(combinedFuture, new Function<List<?>, Void>()
                 {
                     @Override
                     public Void apply(List<?> voids)
@@ -142,6 +177,17 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
                     }
                 });
             }
+
+            result.addListener(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    _queueRecoveryExecutor.shutdown();
+                    _messageLoadingExecutor.shutdown();
+                }
+            }, MoreExecutors.directExecutor());
+            return result;
         }
 
         public QueueManagingVirtualHost<?> getVirtualHost()
@@ -173,6 +219,7 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
         {
             MessageInstanceVisitor handler = new MessageInstanceVisitor(queue);
             _storeReader.visitMessageInstances(queue, handler);
+            handler.complete();
 
             getEventLogger().message(getLogSubject(), TransactionLogMessages.RECOVERED(handler.getRecoveredCount(), queue.getName()));
             getEventLogger().message(getLogSubject(), TransactionLogMessages.RECOVERY_COMPLETE(queue.getName(), true));
@@ -187,12 +234,19 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
 
         private synchronized void completeRecovery()
         {
+            _logger.info("Recovered {} message instance(s) on virtual host {} in {} ms",
+                         _recoveredInstanceCount.get(),
+                         _virtualHost.getName(),
+                         System.currentTimeMillis() - _recoveryStartTime);
+
             // at this point nothing should be writing to the map of recovered messages
-            for (Map.Entry<Long,MessageReference<? extends ServerMessage<?>>> entry : _recoveredMessages.entrySet())
+            final Set<Long> recoveredMessageIds = new HashSet<>(_recoveredMessages.keySet());
+            for (MessageReference<? extends ServerMessage<?>> reference : _recoveredMessages.values())
             {
-                entry.getValue().release();
-                entry.setValue(null); // free up any memory associated with the reference object
+                reference.release();
             }
+            _recoveredMessages.clear(); // free up any memory associated with the reference objects
+
             final List<StoredMessage<?>> messagesToDelete = new ArrayList<>();
             getStoreReader().visitMessages(new MessageHandler()
             {
@@ -201,7 +255,7 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
                 {
 
                     long messageNumber = storedMessage.getMessageNumber();
-                    if (!_recoveredMessages.containsKey(messageNumber))
+                    if (!recoveredMessageIds.contains(messageNumber))
                     {
                         messagesToDelete.add(storedMessage);
                     }
@@ -220,33 +274,52 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
             }
 
             messagesToDelete.clear();
-            _recoveredMessages.clear();
+            recoveredMessageIds.clear();
             _storeReader.close();
         }
 
-        private synchronized ServerMessage<?> getRecoveredMessage(final long messageId)
+        private ServerMessage<?> getRecoveredMessage(final long messageId)
         {
             MessageReference<? extends ServerMessage<?>> ref = _recoveredMessages.get(messageId);
             if (ref == null)
             {
-                StoredMessage<?> message = _storeReader.getMessage(messageId);
-                if(message != null)
+                // the same message may be enqueued on several queues which are recovered concurrently, so the
+                // load must happen at most once; striping the lock lets unrelated messages load in parallel
+                synchronized (_messageLocks[(int) (messageId & (MESSAGE_LOCK_STRIPES - 1))])
                 {
-                    StorableMessageMetaData metaData = message.getMetaData();
+                    ref = _recoveredMessages.get(messageId);
+                    if (ref == null)
+                    {
+                        StoredMessage<?> message = _storeReader.getMessage(messageId);
+                        if (message != null)
+                        {
+                            StorableMessageMetaData metaData = message.getMetaData();
 
-                    @SuppressWarnings("rawtypes")
-                    MessageMetaDataType type = metaData.getType();
+                            @SuppressWarnings("rawtypes")
+                            MessageMetaDataType type = metaData.getType();
 
-                    @SuppressWarnings("unchecked")
-                    ServerMessage<?> serverMessage = type.createMessage(message);
+                            @SuppressWarnings("unchecked")
+                            ServerMessage<?> serverMessage = type.createMessage(message);
 
-                    ref = serverMessage.newReference();
-                    _recoveredMessages.put(messageId, ref);
+                            ref = serverMessage.newReference();
+                            _recoveredMessages.put(messageId, ref);
+                        }
+                    }
                 }
             }
             return ref == null ? null : ref.getMessage();
         }
 
+        private void messageInstanceRecovered()
+        {
+            long recovered = _recoveredInstanceCount.incrementAndGet();
+            if (recovered % PROGRESS_LOG_INTERVAL == 0)
+            {
+                _logger.info("Recovery of virtual host {} in progress: {} message instance(s) recovered, {} queue(s)"
+                             + " still recovering", _virtualHost.getName(), recovered, _recoveringQueues.size());
+            }
+        }
+
         public void cancel()
         {
             _continueRecovery.set(false);
@@ -264,6 +337,7 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
             {
                 Thread.currentThread().interrupt();
             }
+            _messageLoadingExecutor.shutdownNow();
             _storeReader.close();
         }
 
@@ -491,54 +565,156 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
         }
 
 
+        /**
+         * Reads the entries of a single queue from the store and restores them to the queue in store order. Entries
+         * are gathered into batches whose messages are loaded on the message loading pool whilst the store is read
+         * for the next batch.
+         */
         private class MessageInstanceVisitor implements MessageInstanceHandler
         {
             private final Queue<?> _queue;
+            private List<MessageEnqueueRecord> _batch;
+            private List<MessageEnqueueRecord> _pendingRecords;
+            private ListenableFuture<List<List<ServerMessage<?>>>> _pendingMessages;
             long _recoveredCount;
 
             private MessageInstanceVisitor(Queue<?> queue)
             {
                 _queue = queue;
+                _batch = new ArrayList<>(_batchSize);
             }
 
             @Override
             public boolean handle(final MessageEnqueueRecord record)
             {
                 long messageId = record.getMessageNumber();
-                String queueName = _queue.getName();
 
                 if(messageId < _maxMessageId)
                 {
-                    ServerMessage<?> message = getRecoveredMessage(messageId);
+                    _batch.add(record);
+                    if (_batch.size() >= _batchSize)
+                    {
+                        submitBatch();
+                    }
+                    return _continueRecovery.get();
+                }
+                else
+                {
+                    return false;
+                }
+
+            }
+
+            void complete()
+            {
+                if (!_batch.isEmpty())
+                {
+                    submitBatch();
+                }
+                enqueuePending();
+            }
+
+            private void submitBatch()
+            {
+                final List<MessageEnqueueRecord> records = _batch;
+                _batch = new ArrayList<>(_batchSize);
+
+                List<ListenableFuture<List<ServerMessage<?>>>> slices = new ArrayList<>();
+                for (int i = 0; i < records.size(); i += LOADING_SLICE_SIZE)
+                {
+                    List<MessageEnqueueRecord> slice = records.subList(i, Math.min(i + LOADING_SLICE_SIZE, records.size()));
+                    slices.add(_messageLoadingExecutor.submit(new MessageLoadingTask(slice)));
+                }
+                ListenableFuture<List<List<ServerMessage<?>>>> messages = Futures.allAsList(slices);
 
-                    if (message != null)
+                enqueuePending();
+
+                _pendingRecords = records;
+                _pendingMessages = messages;
+            }
+
+            private void enqueuePending()
+            {
+                if (_pendingRecords == null)
+                {
+                    return;
+                }
+
+                List<List<ServerMessage<?>>> messages = getLoadedMessages(_pendingMessages);
+                int index = 0;
+                for (List<ServerMessage<?>> slice : messages)
+                {
+                    for (ServerMessage<?> message : slice)
                     {
-                        if (_logger.isDebugEnabled())
+                        if (!_continueRecovery.get())
                         {
-                            _logger.debug("On recovery, delivering " + message.getMessageNumber() + " to " + queueName);
+                            break;
                         }
+                        recover(_pendingRecords.get(index++), message);
+                    }
+                }
+                _pendingRecords = null;
+                _pendingMessages = null;
+            }
 
-                        _queue.recover(message, record);
-                        _recoveredCount++;
+            private void recover(final MessageEnqueueRecord record, final ServerMessage<?> message)
+            {
+                String queueName = _queue.getName();
+                if (message != null)
+                {
+                    if (_logger.isDebugEnabled())
+                    {
+                        _logger.debug("On recovery, delivering " + message.getMessageNumber() + " to " + queueName);
                     }
-                    else
+
+                    _queue.recover(message, record);
+                    if (_lazyRecovery)
                     {
-                        _logger.warn("Message id "
-                                     + messageId
-                                     + " referenced in log as enqueued in queue "
-                                     + queueName
-                                     + " is unknown, entry will be discarded");
-                        Transaction txn = _store.newTransaction();
-                        txn.dequeueMessage(record);
-                        txn.commitTranAsync((Void) null);
+                        // the entry retains what it needs (size, expiration, flags), metadata and content are
+                        // reloaded from the store when the message is next used
+                        message.getStoredMessage().flowToDisk();
                     }
-                    return _continueRecovery.get();
+                    _recoveredCount++;
+                    messageInstanceRecovered();
                 }
                 else
                 {
-                    return false;
+                    _logger.warn("Message id "
+                                 + record.getMessageNumber()
+                                 + " referenced in log as enqueued in queue "
+                                 + queueName
+                                 + " is unknown, entry will be discarded");
+                    Transaction txn = _store.newTransaction();
+                    txn.dequeueMessage(record);
+                    txn.commitTranAsync((Void) null);
                 }
+            }
 
+            private List<List<ServerMessage<?>>> getLoadedMessages(final ListenableFuture<List<List<ServerMessage<?>>>> future)
+            {
+                try
+                {
+                    return future.get();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new ServerScopedRuntimeException("Interrupted whilst recovering queue " + _queue.getName(), e);
+                }
+                catch (ExecutionException e)
+                {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException)
+                    {
+                        throw (RuntimeException) cause;
+                    }
+                    else if (cause instanceof Error)
+                    {
+                        throw (Error) cause;
+                    }
+                    throw new ServerScopedRuntimeException("Failed to load messages whilst recovering queue "
+                                                           + _queue.getName(), cause);
+                }
             }
 
             public long getRecoveredCount()
@@ -546,6 +722,27 @@ public class AsynchronousMessageStoreRecoverer implements MessageStoreRecoverer
                 return _recoveredCount;
             }
         }
+
+        private class MessageLoadingTask implements Callable<List<ServerMessage<?>>>
+        {
+            private final List<MessageEnqueueRecord> _records;
+
+            private MessageLoadingTask(final List<MessageEnqueueRecord> records)
+            {
+                _records = records;
+            }
+
+            @Override
+            public List<ServerMessage<?>> call()
+            {
+                List<ServerMessage<?>> messages = new ArrayList<>(_records.size());
+                for (MessageEnqueueRecord record : _records)
+                {
+                    messages.add(_continueRecovery.get() ? getRecoveredMessage(record.getMessageNumber()) : null);
+                }
+                return messages;
+            }
+        }
     }
 
 
@@ -68,6 +68,7 @@ public interface QueueManagingVirtualHost<X extends QueueManagingVirtualHost<X>>
     String DISABLED_CONNECTION_VALIDATORS       = "disabledConnectionValidators";
     String NUMBER_OF_SELECTORS                  = "numberOfSelectors";
     String CONNECTION_THREAD_POOL_SIZE          = "connectionThreadPoolSize";
+    String CONNECTION_THREAD_POOL_GROUP         = "connectionThreadPoolGroup";
     String GLOBAL_ADDRESS_DOMAINS               = "globalAddressDomains";
     String NODE_AUTO_CREATION_POLICIES = "nodeAutoCreationPolicies";
 
@@ -95,6 +96,39 @@ public interface QueueManagingVirtualHost<X extends QueueManagingVirtualHost<X>>
     @ManagedContextDefault( name = "virtualhost.housekeepingThreadCount")
     int DEFAULT_HOUSEKEEPING_THREAD_COUNT = 4;
 
+    String BLOCKING_TASK_MAXIMUM_CONCURRENCY = "virtualhost.blockingTasks.maximumConcurrency";
+    @SuppressWarnings("unused")
+    @ManagedContextDefault( name = BLOCKING_TASK_MAXIMUM_CONCURRENCY,
+            description = "If positive, housekeeping tasks and asynchronous JDBC store commits are each run on a thread"
+                          + " of their own from an elastic pool, with at most this many in flight, rather than on the"
+                          + " fixed size housekeeping and store thread pools. 0 disables this mode.")
+    int DEFAULT_BLOCKING_TASK_MAXIMUM_CONCURRENCY = 0;
+
+    String RECOVERY_THREAD_COUNT = "virtualhost.recoveryThreadCount";
+    @ManagedContextDefault( name = RECOVERY_THREAD_COUNT,
+            description = "The number of threads used by background message store recovery to read queues and"
+                          + " load message metadata in parallel")
+    int DEFAULT_RECOVERY_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    String RECOVERY_BATCH_SIZE = "virtualhost.recoveryBatchSize";
+    @ManagedContextDefault( name = RECOVERY_BATCH_SIZE,
+            description = "The number of queue entries background message store recovery reads ahead of the entry"
+                          + " currently being restored to the queue")
+    int DEFAULT_RECOVERY_BATCH_SIZE = 1024;
+
+    String LAZY_MESSAGE_RECOVERY = "virtualhost.lazyMessageRecovery";
+    @ManagedContextDefault( name = LAZY_MESSAGE_RECOVERY,
+            description = "If true, message metadata is released as soon as a recovered message has been placed on its"
+                          + " queue and is reloaded from the store when the message is next needed")
+    boolean DEFAULT_LAZY_MESSAGE_RECOVERY = false;
+
+    String MESSAGE_STORE_COMPRESSION_THRESHOLD = "virtualhost.messageStoreCompressionThreshold";
+    @ManagedContextDefault( name = MESSAGE_STORE_COMPRESSION_THRESHOLD,
+            description = "Message content of at least this many bytes is compressed when written to a persistent"
+                          + " message store. A negative value disables compression. Stores written with compression"
+                          + " enabled cannot be read by earlier broker versions")
+    int DEFAULT_MESSAGE_STORE_COMPRESSION_THRESHOLD = -1;
+
     @ManagedAttribute( defaultValue = "${virtualhost.storeTransactionIdleTimeoutClose}",
             description = "The maximum length of time, in milliseconds, that an open store transaction may "
                           + "remain idle. If a transaction exceeds this threshold, the resource that "
@@ -151,6 +185,10 @@ public interface QueueManagingVirtualHost<X extends QueueManagingVirtualHost<X>>
     @ManagedAttribute( defaultValue = "${" + QueueManagingVirtualHost.VIRTUALHOST_CONNECTION_THREAD_POOL_NUMBER_OF_SELECTORS + "}")
     int getNumberOfSelectors();
 
+    @ManagedAttribute( description = "Name of a group of virtual hosts whose connections share one connection thread"
+                                     + " pool. The pool is created with the settings of the first virtual host of the"
+                                     + " group to be activated. If not set the virtual host has a pool of its own.")
+    String getConnectionThreadPoolGroup();
 
 
     @ManagedAttribute( defaultValue = "${virtualhost.housekeepingThreadCount}")
@@ -201,6 +239,14 @@ public interface QueueManagingVirtualHost<X extends QueueManagingVirtualHost<X>>
     @ManagedStatistic(statisticType = StatisticType.CUMULATIVE, units = StatisticUnit.MESSAGES, label = "Outbound")
     long getMessagesOut();
 
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Store Commit Time 50th Percentile (microseconds)")
+    long getStoreCommitTime50thPercentile();
+
+    @ManagedStatistic(statisticType = StatisticType.POINT_IN_TIME, units = StatisticUnit.TIME_DURATION,
+                      label = "Store Commit Time 99th Percentile (microseconds)")
+    long getStoreCommitTime99thPercentile();
+
 
     @Override
     @ManagedOperation(nonModifying = true, changesConfiguredObjectState = false)
@@ -271,6 +317,12 @@ public interface QueueManagingVirtualHost<X extends QueueManagingVirtualHost<X>>
     void setTargetSize(long targetSize);
     long getTotalQueueDepthBytes();
 
+    /**
+     * Flows message content to disk, starting with the queues furthest over their target size, until the virtual host
+     * is estimated to be back within its target size.
+     */
+    void flowToDiskBeyondTargetSize();
+
     MessageDestination getSystemDestination(String name);
 
     interface Transaction
@@ -73,13 +73,16 @@ public class SynchronousMessageStoreRecoverer implements MessageStoreRecoverer
         Map<Long, StoredMessage<?>> unusedMessages = new HashMap<>();
 
 
+        boolean lazyRecovery = Boolean.TRUE.equals(virtualHost.getContextValue(Boolean.class,
+                                                                              QueueManagingVirtualHost.LAZY_MESSAGE_RECOVERY));
+
         eventLogger.message(logSubject, MessageStoreMessages.RECOVERY_START());
 
         storeReader.visitMessages(new MessageVisitor(recoveredMessages, unusedMessages));
 
         eventLogger.message(logSubject, TransactionLogMessages.RECOVERY_START(null, false));
         storeReader.visitMessageInstances(new MessageInstanceVisitor(virtualHost, store, queueRecoveries,
-                                                               recoveredMessages, unusedMessages));
+                                                               recoveredMessages, unusedMessages, lazyRecovery));
         for(Map.Entry<String,Integer> entry : queueRecoveries.entrySet())
         {
             eventLogger.message(logSubject, TransactionLogMessages.RECOVERED(entry.getValue(), entry.getKey()));
@@ -159,18 +162,21 @@ public class SynchronousMessageStoreRecoverer implements MessageStoreRecoverer
         private final Map<String, Integer> _queueRecoveries;
         private final Map<Long, ServerMessage<?>> _recoveredMessages;
         private final Map<Long, StoredMessage<?>> _unusedMessages;
+        private final boolean _lazyRecovery;
 
         private MessageInstanceVisitor(final QueueManagingVirtualHost<?> virtualHost,
                                        final MessageStore store,
                                        final Map<String, Integer> queueRecoveries,
                                        final Map<Long, ServerMessage<?>> recoveredMessages,
-                                       final Map<Long, StoredMessage<?>> unusedMessages)
+                                       final Map<Long, StoredMessage<?>> unusedMessages,
+                                       final boolean lazyRecovery)
         {
             _virtualHost = virtualHost;
             _store = store;
             _queueRecoveries = queueRecoveries;
             _recoveredMessages = recoveredMessages;
             _unusedMessages = unusedMessages;
+            _lazyRecovery = lazyRecovery;
         }
 
         @Override
@@ -199,6 +205,11 @@ public class SynchronousMessageStoreRecoverer implements MessageStoreRecoverer
                     }
 
                     queue.recover(message, record);
+                    if (_lazyRecovery)
+                    {
+                        // the queue entry has captured expiration and persistence, so the metadata can go
+                        message.getStoredMessage().flowToDisk();
+                    }
 
                     _queueRecoveries.put(queueName, ++count);
                 }
@@ -0,0 +1,215 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.logging;
+
+import static org.mockito.Mockito.mock;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.auth.Subject;
+
+import org.apache.qpid.server.virtualhost.VirtualHostPrincipal;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class AsynchronousLoggingMessageLoggerTest extends QpidTestCase
+{
+    private static final String TEST_HIERARCHY = "test.hierarchy";
+
+    public void testMessagesLoggedInOrderOnLoggingThread()
+    {
+        final RecordingMessageLogger logger = new RecordingMessageLogger(16);
+        final List<String> formattingThreads = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10; i++)
+        {
+            logger.message(new TestLogMessage("message" + i, formattingThreads));
+        }
+        logger.close();
+
+        assertEquals("Unexpected number of logged messages", 10, logger.getLoggedMessageCount());
+        assertEquals("Unexpected number of dropped messages", 0, logger.getDroppedMessageCount());
+        assertEquals("Unexpected number of recorded messages", 10, logger._messages.size());
+        for (int i = 0; i < 10; i++)
+        {
+            assertTrue("Unexpected message " + logger._messages.get(i),
+                       logger._messages.get(i).endsWith("message" + i));
+        }
+        for (String threadName : formattingThreads)
+        {
+            assertFalse("Message formatted on caller's thread", Thread.currentThread().getName().equals(threadName));
+        }
+    }
+
+    public void testMessagesDroppedWhenBufferFull() throws Exception
+    {
+        final RecordingMessageLogger logger = new RecordingMessageLogger(1);
+        synchronized (logger)
+        {
+            // the logging thread blocks in rawMessage on the first message, leaving the buffer to fill
+            logger.message(new TestLogMessage("first", null));
+            long timeout = System.currentTimeMillis() + 5000L;
+            while (logger.getBufferedMessageCount() != 0 && System.currentTimeMillis() < timeout)
+            {
+                Thread.sleep(10L);
+            }
+            for (int i = 0; i < 5; i++)
+            {
+                logger.message(new TestLogMessage("message" + i, null));
+            }
+        }
+        logger.close();
+
+        long dropped = logger.getDroppedMessageCount();
+        assertTrue("Expected messages to be dropped", dropped > 0);
+        assertEquals("Logged and dropped messages do not add up", 6, logger.getLoggedMessageCount() + dropped);
+    }
+
+    public void testMessagesLoggedSynchronouslyAfterClose()
+    {
+        final RecordingMessageLogger logger = new RecordingMessageLogger(16);
+        logger.close();
+        logger.message(new TestLogMessage("afterClose", null));
+
+        assertEquals("Unexpected number of recorded messages", 1, logger._messages.size());
+    }
+
+    public void testNoMessagesLostWhenClosingWhileLogging() throws Exception
+    {
+        final int threadCount = 4;
+        final int messagesPerThread = 2000;
+        final RecordingMessageLogger logger = new RecordingMessageLogger(threadCount * messagesPerThread);
+        final CountDownLatch started = new CountDownLatch(threadCount);
+        final Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++)
+        {
+            threads[t] = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    started.countDown();
+                    for (int i = 0; i < messagesPerThread; i++)
+                    {
+                        logger.message(new TestLogMessage("message" + i, null));
+                    }
+                }
+            }, getTestName() + "-" + t);
+            threads[t].start();
+        }
+        assertTrue("Logging threads did not start", started.await(5, TimeUnit.SECONDS));
+        logger.close();
+        for (Thread thread : threads)
+        {
+            thread.join(10000L);
+            assertFalse("Logging thread did not finish", thread.isAlive());
+        }
+
+        assertEquals("Unexpected number of dropped messages", 0, logger.getDroppedMessageCount());
+        assertEquals("Messages logged while closing were lost",
+                     threadCount * messagesPerThread, logger._messages.size());
+    }
+
+    public void testMessageAppendedUnderCallersSubject()
+    {
+        final RecordingMessageLogger logger = new RecordingMessageLogger(16);
+        final VirtualHostPrincipal virtualHostPrincipal = mock(VirtualHostPrincipal.class);
+        final Subject subject = new Subject();
+        subject.getPrincipals().add(virtualHostPrincipal);
+
+        Subject.doAs(subject, new PrivilegedAction<Void>()
+        {
+            @Override
+            public Void run()
+            {
+                logger.message(new TestLogMessage("virtualHostMessage", null));
+                return null;
+            }
+        });
+        logger.message(new TestLogMessage("brokerMessage", null));
+        logger.close();
+
+        assertEquals("Unexpected number of recorded messages", 2, logger._messages.size());
+        Subject virtualHostMessageSubject = logger._subjects.get(0);
+        assertNotNull("Subject not set when appending a message logged under a subject", virtualHostMessageSubject);
+        assertTrue("Virtual host principal missing so a virtual host logger would drop the message",
+                   virtualHostMessageSubject.getPrincipals().contains(virtualHostPrincipal));
+        assertNull("Message logged without a subject appended under one", logger._subjects.get(1));
+    }
+
+    private static class RecordingMessageLogger extends AsynchronousLoggingMessageLogger
+    {
+        private final List<String> _messages = new CopyOnWriteArrayList<>();
+        private final List<Subject> _subjects = new CopyOnWriteArrayList<>();
+
+        RecordingMessageLogger(final int bufferSize)
+        {
+            super(true, bufferSize);
+        }
+
+        @Override
+        public boolean isMessageEnabled(final String logHierarchy)
+        {
+            return true;
+        }
+
+        @Override
+        void rawMessage(final String message, final String logHierarchy)
+        {
+            synchronized (this)
+            {
+                _messages.add(message);
+                _subjects.add(Subject.getSubject(AccessController.getContext()));
+            }
+        }
+    }
+
+    private static class TestLogMessage implements LogMessage
+    {
+        private final String _message;
+        private final List<String> _formattingThreads;
+
+        TestLogMessage(final String message, final List<String> formattingThreads)
+        {
+            _message = message;
+            _formattingThreads = formattingThreads;
+        }
+
+        @Override
+        public String getLogHierarchy()
+        {
+            return TEST_HIERARCHY;
+        }
+
+        @Override
+        public String toString()
+        {
+            if (_formattingThreads != null)
+            {
+                _formattingThreads.add(Thread.currentThread().getName());
+            }
+            return _message;
+        }
+    }
+}
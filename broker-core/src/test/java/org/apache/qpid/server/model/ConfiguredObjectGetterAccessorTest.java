@@ -0,0 +1,145 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.qpid.server.model.testmodels.hierarchy.ConfiguredObjectRegistrationImpl;
+import org.apache.qpid.server.model.testmodels.hierarchy.TestCar;
+import org.apache.qpid.server.model.testmodels.hierarchy.TestCarGetterAccessor;
+import org.apache.qpid.server.model.testmodels.hierarchy.TestModel;
+import org.apache.qpid.server.plugin.ConfiguredObjectAccessor;
+import org.apache.qpid.server.plugin.ConfiguredObjectAttributeInjector;
+import org.apache.qpid.server.plugin.ConfiguredObjectRegistration;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class ConfiguredObjectGetterAccessorTest extends QpidTestCase
+{
+    private CountingAccessor _accessor;
+    private ConfiguredObjectTypeRegistry _accessorRegistry;
+    private ConfiguredObjectTypeRegistry _reflectionRegistry;
+    private TestCar<?> _car;
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        _accessor = new CountingAccessor(new TestCarGetterAccessor());
+        _accessorRegistry = new ConfiguredObjectTypeRegistry(
+                Collections.<ConfiguredObjectRegistration>singletonList(new ConfiguredObjectRegistrationImpl()),
+                Collections.<ConfiguredObjectAttributeInjector>emptyList(),
+                Collections.<ConfiguredObjectAccessor>singletonList(_accessor),
+                Collections.<Class<? extends ConfiguredObject>>emptyList(),
+                TestModel.getInstance().getObjectFactory());
+        _reflectionRegistry = TestModel.getInstance().getTypeRegistry();
+
+        _car = mock(TestCar.class);
+        when(_car.getBodyColour()).thenReturn(TestCar.Colour.RED);
+        when(_car.getInteriorColour()).thenReturn(TestCar.Colour.GREY);
+    }
+
+    public void testGeneratedAccessorDeclaresGetters()
+    {
+        assertEquals("Unexpected configured object class", TestCar.class, _accessor.getConfiguredObjectClass());
+        assertTrue("Accessor does not know getBodyColour", _accessor.getGetterNames().contains("getBodyColour"));
+        assertTrue("Accessor does not know getInteriorColour",
+                   _accessor.getGetterNames().contains("getInteriorColour"));
+    }
+
+    public void testGeneratedAccessorUsedForDeclaredGetters()
+    {
+        ConfiguredObjectMethodAttributeOrStatistic<TestCar<?>, ?> bodyColour =
+                getAttribute(_accessorRegistry, "bodyColour");
+        assertTrue("Accessor not attached to attribute", bodyColour.hasAccessor());
+
+        assertEquals("Unexpected value", TestCar.Colour.RED, bodyColour.getValue(_car));
+        assertEquals("Accessor not used", 1, _accessor.getInvocations());
+    }
+
+    public void testGeneratedAccessorReturnsSameValuesAsReflection()
+    {
+        for (String name : new String[]{"bodyColour", "interiorColour"})
+        {
+            ConfiguredObjectMethodAttributeOrStatistic<TestCar<?>, ?> viaReflection =
+                    getAttribute(_reflectionRegistry, name);
+            assertFalse("Reflection registry should not have an accessor", viaReflection.hasAccessor());
+
+            assertEquals("Unexpected value for attribute " + name,
+                         viaReflection.getValue(_car),
+                         getAttribute(_accessorRegistry, name).getValue(_car));
+        }
+        assertEquals("Accessor not used for every attribute", 2, _accessor.getInvocations());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConfiguredObjectMethodAttributeOrStatistic<TestCar<?>, ?> getAttribute(final ConfiguredObjectTypeRegistry registry,
+                                                                                  final String name)
+    {
+        ConfiguredObjectAttribute<?, ?> attribute = registry.getAttributeTypes(TestCar.class).get(name);
+        assertNotNull("No attribute " + name, attribute);
+        return (ConfiguredObjectMethodAttributeOrStatistic<TestCar<?>, ?>) attribute;
+    }
+
+    private static class CountingAccessor implements ConfiguredObjectAccessor
+    {
+        private final ConfiguredObjectAccessor _delegate;
+        private int _invocations;
+
+        private CountingAccessor(final ConfiguredObjectAccessor delegate)
+        {
+            _delegate = delegate;
+        }
+
+        @Override
+        public Class<?> getConfiguredObjectClass()
+        {
+            return _delegate.getConfiguredObjectClass();
+        }
+
+        @Override
+        public List<String> getGetterNames()
+        {
+            return _delegate.getGetterNames();
+        }
+
+        @Override
+        public Object getValue(final ConfiguredObject<?> object, final int index)
+        {
+            _invocations++;
+            return _delegate.getValue(object, index);
+        }
+
+        @Override
+        public String getType()
+        {
+            return _delegate.getType();
+        }
+
+        int getInvocations()
+        {
+            return _invocations;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.model;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class FlowToDiskCheckTaskTest extends QpidTestCase
+{
+    private static final long THRESHOLD = 1000L;
+
+    private QueueManagingVirtualHost<?> _host1;
+    private QueueManagingVirtualHost<?> _host2;
+    private int _assignments;
+    private FlowToDiskCheckTask _task;
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        _host1 = mock(QueueManagingVirtualHost.class);
+        _host2 = mock(QueueManagingVirtualHost.class);
+        _task = new FlowToDiskCheckTask()
+        {
+            @Override
+            long getThreshold()
+            {
+                return THRESHOLD;
+            }
+
+            @Override
+            Collection<QueueManagingVirtualHost<?>> getQueueManagingVirtualHosts()
+            {
+                return Arrays.<QueueManagingVirtualHost<?>>asList(_host1, _host2);
+            }
+
+            @Override
+            void assignTargetSizes()
+            {
+                _assignments++;
+            }
+        };
+    }
+
+    public void testThresholdCrossingReassignsTargetSizesAndFlowsToDisk()
+    {
+        setTotalSize(THRESHOLD);
+        _task.run();
+
+        assertEquals("Target sizes should not be reassigned within the threshold", 0, _assignments);
+        verifyFlowedToDisk(0);
+
+        setTotalSize(THRESHOLD + 2);
+        _task.run();
+
+        assertEquals("Target sizes should be reassigned once the threshold is crossed", 1, _assignments);
+        verifyFlowedToDisk(1);
+    }
+
+    public void testTotalStayingAboveThresholdWithoutGrowingDoesNotRepeatRelief()
+    {
+        setTotalSize(THRESHOLD + 100);
+        _task.run();
+        assertEquals(1, _assignments);
+        verifyFlowedToDisk(1);
+
+        _task.run();
+        setTotalSize(THRESHOLD + 50);
+        _task.run();
+
+        assertEquals("Relief should not be repeated whilst the total does not grow", 1, _assignments);
+        verifyFlowedToDisk(1);
+
+        setTotalSize(THRESHOLD + 200);
+        _task.run();
+
+        assertEquals("Relief should be repeated once the total grows", 2, _assignments);
+        verifyFlowedToDisk(2);
+    }
+
+    public void testRecoveryBelowThresholdReassignsTargetSizes()
+    {
+        setTotalSize(THRESHOLD + 100);
+        _task.run();
+        assertEquals(1, _assignments);
+
+        setTotalSize(THRESHOLD - 100);
+        _task.run();
+
+        assertEquals("Target sizes should be reassigned on recovery", 2, _assignments);
+        verifyFlowedToDisk(1);
+
+        _task.run();
+        assertEquals("Target sizes should be reassigned only once on recovery", 2, _assignments);
+
+        setTotalSize(THRESHOLD + 50);
+        _task.run();
+
+        assertEquals("Relief should restart after recovery even below the previous total", 3, _assignments);
+        verifyFlowedToDisk(2);
+    }
+
+    public void testFailureDoesNotPropagate()
+    {
+        setTotalSize(THRESHOLD + 100);
+        doThrow(new RuntimeException("Test")).when(_host1).flowToDiskBeyondTargetSize();
+
+        _task.run();
+
+        assertEquals(1, _assignments);
+    }
+
+    private void setTotalSize(final long totalSize)
+    {
+        when(_host1.getTotalQueueDepthBytes()).thenReturn(totalSize / 2);
+        when(_host2.getTotalQueueDepthBytes()).thenReturn(totalSize - totalSize / 2);
+    }
+
+    private void verifyFlowedToDisk(final int times)
+    {
+        verify(_host1, times(times)).flowToDiskBeyondTargetSize();
+        verify(_host2, times(times)).flowToDiskBeyondTargetSize();
+    }
+}
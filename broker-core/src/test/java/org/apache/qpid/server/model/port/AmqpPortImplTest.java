@@ -248,4 +248,21 @@ public class AmqpPortImplTest extends QpidTestCase
 
 
     }
+
+    public void testTlsHandshakeStatistics()
+    {
+        _port = createPort(getTestName());
+
+        assertEquals("Unexpected handshake count", 0L, _port.getTlsHandshakeCount());
+        assertEquals("Unexpected average handshake time", 0L, _port.getTlsHandshakeAverageTime());
+        assertNull("TCP port should not have a handshake executor", _port.getTlsHandshakeExecutor());
+        assertEquals("Unexpected pending handshake tasks", 0, _port.getTlsHandshakeTasksPending());
+
+        _port.tlsHandshakeCompleted(10L);
+        _port.tlsHandshakeCompleted(30L);
+
+        assertEquals("Unexpected handshake count", 2L, _port.getTlsHandshakeCount());
+        assertEquals("Unexpected average handshake time", 20L, _port.getTlsHandshakeAverageTime());
+        assertEquals("Unexpected maximum handshake time", 30L, _port.getTlsHandshakeMaximumTime());
+    }
 }
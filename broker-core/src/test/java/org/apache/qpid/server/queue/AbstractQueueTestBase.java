@@ -26,6 +26,8 @@ import static org.mockito.Matchers.contains;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -64,6 +66,7 @@ import org.apache.qpid.server.model.Exchange;
 import org.apache.qpid.server.model.Queue;
 import org.apache.qpid.server.model.QueueNotificationListener;
 import org.apache.qpid.server.queue.AbstractQueue.QueueEntryFilter;
+import org.apache.qpid.server.store.StoredMessage;
 import org.apache.qpid.server.store.TransactionLogResource;
 import org.apache.qpid.server.util.Action;
 import org.apache.qpid.server.util.StateChangeListener;
@@ -727,6 +730,82 @@ abstract class AbstractQueueTestBase extends QpidTestCase
     }
 
 
+    public void testCheckMessageStatusDequeuesExpiredEntries() throws Exception
+    {
+        ServerMessage expiredMessage = createMessage(new Long(24));
+        when(expiredMessage.getExpiration()).thenReturn(System.currentTimeMillis() - 1000L);
+        ServerMessage unexpiredMessage = createMessage(new Long(25));
+        when(unexpiredMessage.getExpiration()).thenReturn(System.currentTimeMillis() + 60000L);
+        ServerMessage messageWithoutExpiration = createMessage(new Long(26));
+
+        _queue.enqueue(expiredMessage, null, null);
+        _queue.enqueue(unexpiredMessage, null, null);
+        _queue.enqueue(messageWithoutExpiration, null, null);
+
+        _queue.checkMessageStatus();
+
+        List<? extends QueueEntry> entries = _queue.getMessagesOnTheQueue();
+        assertEquals("Unexpected number of entries", 2, entries.size());
+        for (QueueEntry entry : entries)
+        {
+            assertNotSame("Expired message should have been dequeued", expiredMessage, entry.getMessage());
+        }
+    }
+
+    public void testFlowToDiskBeyondTargetSize() throws Exception
+    {
+        StoredMessage<?> inMemory = mock(StoredMessage.class);
+        when(inMemory.isInMemory()).thenReturn(true);
+        StoredMessage<?> flowedToDisk = mock(StoredMessage.class);
+
+        ServerMessage messageA = createMessage(new Long(24));
+        when(messageA.getSize()).thenReturn(100L);
+        when(messageA.getStoredMessage()).thenReturn(inMemory);
+        ServerMessage messageB = createMessage(new Long(25));
+        when(messageB.getSize()).thenReturn(100L);
+        when(messageB.getStoredMessage()).thenReturn(flowedToDisk);
+
+        _queue.enqueue(messageA, null, null);
+        _queue.enqueue(messageB, null, null);
+
+        assertEquals("Unexpected size over target", 0L, _queue.getEstimatedSizeOverTarget());
+
+        _queue.setTargetSize(0L);
+
+        assertTrue("Queue should be over its target size", _queue.getEstimatedSizeOverTarget() > 0L);
+        assertEquals("Unexpected number of bytes flowed to disk", 100L, _queue.flowToDiskBeyondTargetSize());
+        verify(inMemory).flowToDisk();
+        verify(flowedToDisk, never()).flowToDisk();
+    }
+
+    public void testFlowToDiskBeyondTargetSizeResumesFromPreviousPosition() throws Exception
+    {
+        StoredMessage<?> first = mock(StoredMessage.class);
+        when(first.isInMemory()).thenReturn(true);
+        ServerMessage messageA = createMessage(new Long(24));
+        when(messageA.getSize()).thenReturn(100L);
+        when(messageA.getStoredMessage()).thenReturn(first);
+
+        _queue.enqueue(messageA, null, null);
+        _queue.setTargetSize(0L);
+
+        assertEquals("Unexpected number of bytes flowed to disk", 100L, _queue.flowToDiskBeyondTargetSize());
+
+        // the queue is over its target, so the second message is flowed to disk on enqueue
+        StoredMessage<?> second = mock(StoredMessage.class);
+        when(second.isInMemory()).thenReturn(true, false);
+        ServerMessage messageB = createMessage(new Long(25));
+        when(messageB.getSize()).thenReturn(100L);
+        when(messageB.getStoredMessage()).thenReturn(second);
+        _queue.enqueue(messageB, null, null);
+
+        assertEquals("Unexpected number of bytes flowed to disk", 0L, _queue.flowToDiskBeyondTargetSize());
+        verify(first, times(1)).isInMemory();
+        verify(first, times(1)).flowToDisk();
+        verify(second, times(2)).isInMemory();
+        verify(second, times(1)).flowToDisk();
+    }
+
     public void testNotificationFiredOnEnqueue() throws Exception
     {
         QueueNotificationListener listener = mock(QueueNotificationListener .class);
@@ -0,0 +1,171 @@
+/*
+*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*
+*/
+package org.apache.qpid.server.queue;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.server.message.MessageReference;
+import org.apache.qpid.server.message.ServerMessage;
+import org.apache.qpid.server.store.StoredMessage;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class ContentPrefetcherTest extends QpidTestCase
+{
+    private static final int NUMBER_OF_ENTRIES = 32;
+    private static final int PREFETCH_COUNT = 8;
+
+    private QueueEntry[] _entries;
+    private StoredMessage<?>[] _storedMessages;
+    private ContentPrefetcher _prefetcher;
+    private int _executions;
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        _entries = new QueueEntry[NUMBER_OF_ENTRIES];
+        _storedMessages = new StoredMessage<?>[NUMBER_OF_ENTRIES];
+        final QueueEntryList entryList = mock(QueueEntryList.class);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++)
+        {
+            _entries[i] = createEntry(i);
+        }
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++)
+        {
+            when(entryList.next(_entries[i])).thenReturn(i + 1 < NUMBER_OF_ENTRIES ? _entries[i + 1] : null);
+        }
+
+        _prefetcher = new ContentPrefetcher(PREFETCH_COUNT)
+        {
+            @Override
+            QueueEntryList getEntries()
+            {
+                return entryList;
+            }
+
+            @Override
+            void execute(final Runnable task)
+            {
+                _executions++;
+                task.run();
+            }
+
+            @Override
+            boolean isStopped()
+            {
+                return false;
+            }
+        };
+    }
+
+    public void testNoPrefetchWhilstMessagesInMemory()
+    {
+        when(_storedMessages[0].isInMemory()).thenReturn(true);
+
+        _prefetcher.entryAssigned(_entries[0]);
+
+        assertEquals("Unexpected prefetch", 0, _executions);
+        verify(_storedMessages[1], never()).getContent(anyInt(), anyInt());
+    }
+
+    public void testPrefetchTriggeredAndBounded()
+    {
+        _prefetcher.entryAssigned(_entries[0]);
+
+        assertEquals("Unexpected number of prefetch tasks", 1, _executions);
+        for (int i = 1; i <= PREFETCH_COUNT; i++)
+        {
+            verify(_storedMessages[i], times(1)).getContent(0, 0);
+        }
+        verify(_storedMessages[PREFETCH_COUNT + 1], never()).getContent(anyInt(), anyInt());
+    }
+
+    public void testWindowToppedUpFromCursorWithoutRevisitingEntries()
+    {
+        for (int position = 0; position < NUMBER_OF_ENTRIES; position++)
+        {
+            _prefetcher.entryAssigned(_entries[position]);
+
+            for (int i = position + PREFETCH_COUNT + 1; i < NUMBER_OF_ENTRIES; i++)
+            {
+                verify(_storedMessages[i], never()).getContent(anyInt(), anyInt());
+            }
+        }
+
+        for (int i = 1; i < NUMBER_OF_ENTRIES; i++)
+        {
+            verify(_storedMessages[i], times(1)).getContent(0, 0);
+        }
+        assertTrue("Prefetch should be scheduled once per half window, not per entry: " + _executions,
+                   _executions <= 2 * NUMBER_OF_ENTRIES / PREFETCH_COUNT + 1);
+    }
+
+    private QueueEntry createEntry(final int index)
+    {
+        final QueueEntry entry = mock(QueueEntry.class);
+        when(entry.compareTo(any(QueueEntry.class))).thenAnswer(new Answer<Integer>()
+        {
+            @Override
+            public Integer answer(final InvocationOnMock invocation) throws Throwable
+            {
+                final Object other = invocation.getArguments()[0];
+                for (int i = 0; i < _entries.length; i++)
+                {
+                    if (_entries[i] == other)
+                    {
+                        return Integer.compare(index, i);
+                    }
+                }
+                throw new IllegalArgumentException("Unknown entry");
+            }
+        });
+
+        final StoredMessage storedMessage = mock(StoredMessage.class);
+        when(storedMessage.isInMemory()).thenReturn(false);
+        when(storedMessage.getContentSize()).thenReturn(0);
+        final List<QpidByteBuffer> noContent = Collections.emptyList();
+        when(storedMessage.getContent(anyInt(), anyInt())).thenReturn(noContent);
+        _storedMessages[index] = storedMessage;
+
+        final ServerMessage message = mock(ServerMessage.class);
+        when(message.getStoredMessage()).thenReturn(storedMessage);
+        final MessageReference reference = mock(MessageReference.class);
+        when(reference.getMessage()).thenReturn(message);
+
+        when(entry.getMessage()).thenReturn(message);
+        when(entry.isAvailable()).thenReturn(true);
+        when(entry.newMessageReference()).thenReturn(reference);
+        return entry;
+    }
+}
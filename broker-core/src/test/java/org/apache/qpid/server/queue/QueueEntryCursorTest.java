@@ -0,0 +1,125 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.queue;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class QueueEntryCursorTest extends QpidTestCase
+{
+    private final Map<QueueEntry, Integer> _positions = new HashMap<>();
+    private final QueueEntryList _entries = mock(QueueEntryList.class);
+    private final QueueEntry _head = mock(QueueEntry.class);
+    private final QueueEntryCursor _cursor = new QueueEntryCursor();
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        when(_entries.getHead()).thenReturn(_head);
+    }
+
+    public void testWalkStartsFromHeadWithoutPosition()
+    {
+        assertSame("Unexpected start of walk", _head, _cursor.getPosition(_entries));
+        assertEquals("Unexpected cumulative size", 0L, _cursor.getCumulativeSize());
+    }
+
+    public void testWalkResumesFromPosition()
+    {
+        final QueueEntry entry = createEntry(1);
+        _cursor.moveTo(entry, 300L);
+
+        assertSame("Unexpected start of walk", entry, _cursor.getPosition(_entries));
+        assertEquals("Unexpected cumulative size", 300L, _cursor.getCumulativeSize());
+    }
+
+    public void testOnlyChangesAtOrBeforePositionAdjustSize()
+    {
+        final QueueEntry before = createEntry(1);
+        final QueueEntry position = createEntry(2);
+        final QueueEntry after = createEntry(3);
+        _cursor.moveTo(position, 300L);
+
+        _cursor.entryChanged(after, -100L);
+        assertEquals("Entry deleted beyond the position should not count", 300L, _cursor.getCumulativeSize());
+
+        _cursor.entryChanged(before, -100L);
+        assertEquals("Entry deleted before the position should count", 200L, _cursor.getCumulativeSize());
+
+        // e.g. a higher priority message enqueued before the position
+        _cursor.entryChanged(createEntry(0), 50L);
+        assertEquals("Entry added before the position should count", 250L, _cursor.getCumulativeSize());
+    }
+
+    public void testChangesDuringWalkStillApplyToNewPosition()
+    {
+        final QueueEntry before = createEntry(1);
+        final QueueEntry position = createEntry(2);
+        final QueueEntry newPosition = createEntry(5);
+        _cursor.moveTo(position, 300L);
+        _cursor.entryChanged(before, -100L);
+
+        final long cumulativeSize = _cursor.getCumulativeSize();
+        assertEquals(200L, cumulativeSize);
+
+        // a further entry is deleted before the old position whilst the walk is in progress
+        _cursor.entryChanged(createEntry(0), -100L);
+        _cursor.moveTo(newPosition, cumulativeSize + 300L);
+
+        assertEquals("Change made during the walk was lost", 400L, _cursor.getCumulativeSize());
+    }
+
+    public void testDeletedPositionRestartsFromHead()
+    {
+        final QueueEntry position = createEntry(1);
+        _cursor.moveTo(position, 300L);
+        when(position.isDeleted()).thenReturn(true);
+
+        assertSame("Unexpected start of walk", _head, _cursor.getPosition(_entries));
+        assertEquals("Unexpected cumulative size", 0L, _cursor.getCumulativeSize());
+    }
+
+    private QueueEntry createEntry(final int position)
+    {
+        final QueueEntry entry = mock(QueueEntry.class);
+        _positions.put(entry, position);
+        when(entry.compareTo(any(QueueEntry.class))).thenAnswer(new Answer<Integer>()
+        {
+            @Override
+            public Integer answer(final InvocationOnMock invocation) throws Throwable
+            {
+                final QueueEntry other = (QueueEntry) invocation.getArguments()[0];
+                return Integer.compare(_positions.get(entry), _positions.get(other));
+            }
+        });
+        return entry;
+    }
+}
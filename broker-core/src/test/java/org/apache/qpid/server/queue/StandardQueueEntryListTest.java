@@ -148,6 +148,21 @@ public class StandardQueueEntryListTest extends QueueEntryListTestBase
         return _testQueue;
     }
 
+    public void testDequeueRecordsResidenceTime()
+    {
+        assertEquals("Unexpected residence time before dequeue", 0L, _testQueue.getQueueResidenceTime99thPercentile());
+
+        ServerMessage message = getTestMessageToAdd();
+        when(message.getArrivalTime()).thenReturn(System.currentTimeMillis() - 5000L);
+        QueueEntry entry = _sqel.add(message, null);
+        assertTrue("Could not acquire entry", entry.acquire());
+        entry.delete();
+
+        long residenceTime = _testQueue.getQueueResidenceTime99thPercentile();
+        assertTrue("Residence time " + residenceTime + " should be recorded in microseconds",
+                   residenceTime >= 5000000L && residenceTime <= 5000000L * 9 / 8 + 1000000L);
+    }
+
     public void testScavenge() throws Exception
     {
         StandardQueueImpl mockQueue = mock(StandardQueueImpl.class);
@@ -20,6 +20,13 @@
  */
 package org.apache.qpid.server.queue;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -27,6 +34,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import org.apache.qpid.server.consumer.ConsumerOption;
 import org.apache.qpid.server.consumer.TestConsumerTarget;
@@ -37,10 +48,14 @@ import org.apache.qpid.server.model.LifetimePolicy;
 import org.apache.qpid.server.model.Queue;
 import org.apache.qpid.server.store.MessageDurability;
 import org.apache.qpid.server.store.MessageEnqueueRecord;
+import org.apache.qpid.server.store.StoredMessage;
 import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
 
 public class StandardQueueTest extends AbstractQueueTestBase
 {
+    // the number of entries a housekeeping pass visits between checks of its time budget
+    private static final int HOUSEKEEPING_BUDGET_CHECK_INTERVAL = 256;
+    private static final long MESSAGE_SIZE = 100L;
 
     public void testAutoDeleteQueue() throws Exception
     {
@@ -185,6 +200,121 @@ public class StandardQueueTest extends AbstractQueueTestBase
         assertEquals(MessageDurability.NEVER, queue.getMessageDurability());
     }
 
+    public void testCheckMessageStatusStopsAtTimeBudgetAndResumesFromCursor() throws Exception
+    {
+        final Queue<?> queue = createQueueWithHousekeepingTimeBudget(1L);
+        final AtomicBoolean slow = new AtomicBoolean();
+        final List<StoredMessage<?>> storedMessages =
+                enqueueMessagesHeldInMemory(queue, 2 * HOUSEKEEPING_BUDGET_CHECK_INTERVAL, slow);
+        queue.setTargetSize(0L);
+
+        // the first entry uses up the budget, so the pass stops at the first budget check
+        slow.set(true);
+        queue.checkMessageStatus();
+
+        for (int i = 0; i < storedMessages.size(); i++)
+        {
+            verify(storedMessages.get(i), i < HOUSEKEEPING_BUDGET_CHECK_INTERVAL ? times(1) : never()).flowToDisk();
+        }
+
+        slow.set(false);
+        queue.checkMessageStatus();
+
+        for (int i = 0; i < storedMessages.size(); i++)
+        {
+            verify(storedMessages.get(i), times(1)).flowToDisk();
+        }
+    }
+
+    public void testCheckMessageStatusResumesWithCumulativeSizeLessEntriesDequeuedBehindCursor() throws Exception
+    {
+        final Queue<?> queue = createQueueWithHousekeepingTimeBudget(1L);
+        final AtomicBoolean slow = new AtomicBoolean();
+        final List<StoredMessage<?>> storedMessages =
+                enqueueMessagesHeldInMemory(queue, 2 * HOUSEKEEPING_BUDGET_CHECK_INTERVAL, slow);
+        queue.setTargetSize(HOUSEKEEPING_BUDGET_CHECK_INTERVAL * MESSAGE_SIZE + MESSAGE_SIZE / 2);
+
+        slow.set(true);
+        queue.checkMessageStatus();
+
+        for (StoredMessage<?> storedMessage : storedMessages)
+        {
+            verify(storedMessage, never()).flowToDisk();
+        }
+
+        // consume entries behind the cursor, so that the size up to the cursor drops by their size
+        final int dequeued = 100;
+        final List<? extends QueueEntry> entries = queue.getMessagesOnTheQueue();
+        for (int i = 0; i < dequeued; i++)
+        {
+            entries.get(i).acquire();
+            entries.get(i).delete();
+        }
+
+        slow.set(false);
+        queue.checkMessageStatus();
+
+        // the target holds the entries remaining behind the cursor and as many again as were dequeued
+        final int firstBeyondTarget = dequeued + HOUSEKEEPING_BUDGET_CHECK_INTERVAL;
+        for (int i = dequeued; i < storedMessages.size(); i++)
+        {
+            verify(storedMessages.get(i), i < firstBeyondTarget ? never() : times(1)).flowToDisk();
+        }
+    }
+
+    private Queue<?> createQueueWithHousekeepingTimeBudget(final long budget)
+    {
+        getQueue().close();
+        getQueue().delete();
+
+        final Map<String,String> context = new HashMap<>();
+        context.put(Queue.QUEUE_HOUSEKEEPING_TIME_BUDGET, String.valueOf(budget));
+        context.put(Queue.QUEUE_ESTIMATED_MESSAGE_MEMORY_OVERHEAD, "0");
+        final Map<String,Object> attributes = new HashMap<>();
+        attributes.put(Queue.NAME, getQname());
+        attributes.put(Queue.CONTEXT, context);
+
+        final Queue<?> queue = getVirtualHost().createChild(Queue.class, attributes);
+        setQueue(queue);
+        return queue;
+    }
+
+    private List<StoredMessage<?>> enqueueMessagesHeldInMemory(final Queue<?> queue,
+                                                               final int count,
+                                                               final AtomicBoolean slowFirstMessage)
+    {
+        final List<StoredMessage<?>> storedMessages = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+        {
+            final ServerMessage message = createMessage((long) i);
+            final StoredMessage<?> storedMessage = mock(StoredMessage.class);
+            when(storedMessage.isInMemory()).thenReturn(true);
+            when(message.getStoredMessage()).thenReturn(storedMessage);
+            if (i == 0)
+            {
+                when(message.getSize()).thenAnswer(new Answer<Long>()
+                {
+                    @Override
+                    public Long answer(final InvocationOnMock invocation) throws Throwable
+                    {
+                        if (slowFirstMessage.get())
+                        {
+                            Thread.sleep(5L);
+                        }
+                        return MESSAGE_SIZE;
+                    }
+                });
+            }
+            else
+            {
+                when(message.getSize()).thenReturn(MESSAGE_SIZE);
+            }
+            queue.enqueue(message, null, null);
+            storedMessages.add(storedMessage);
+        }
+        return storedMessages;
+    }
+
     private static class DequeuedQueue extends AbstractQueue
     {
 
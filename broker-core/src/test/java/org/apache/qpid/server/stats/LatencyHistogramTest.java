@@ -0,0 +1,199 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.stats;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+
+import org.apache.qpid.test.utils.QpidTestCase;
+
+/**
+ * Unit tests for the {@link LatencyHistogram} class.
+ */
+public class LatencyHistogramTest extends QpidTestCase
+{
+    public void testEmptyHistogram()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMaximum());
+        assertEquals(0L, histogram.getValueAtPercentile(50d));
+    }
+
+    public void testSmallValuesAreExact()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 4; i++)
+        {
+            histogram.record(i);
+        }
+        assertEquals(4L, histogram.getCount());
+        assertEquals(2L, histogram.getValueAtPercentile(50d));
+        assertEquals(4L, histogram.getValueAtPercentile(100d));
+    }
+
+    public void testPercentileRelativeError()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++)
+        {
+            histogram.record(i);
+        }
+
+        long median = histogram.getValueAtPercentile(50d);
+        assertTrue("Median " + median + " too low", median >= 5000L);
+        assertTrue("Median " + median + " too high", median <= 5000L * 9 / 8);
+
+        long p99 = histogram.getValueAtPercentile(99d);
+        assertTrue("99th percentile " + p99 + " too low", p99 >= 9900L);
+        assertTrue("99th percentile " + p99 + " too high", p99 <= 10000L);
+
+        assertEquals(10000L, histogram.getMaximum());
+    }
+
+    public void testBucketBoundsAreContiguous()
+    {
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT - 1; i++)
+        {
+            long lowest = LatencyHistogram.bucketUpperBound(i - 1) + 1;
+            assertEquals("Unexpected bucket for " + lowest, i, LatencyHistogram.bucketIndex(lowest));
+            long highest = LatencyHistogram.bucketUpperBound(i);
+            assertEquals("Unexpected bucket for " + highest, i, LatencyHistogram.bucketIndex(highest));
+        }
+    }
+
+    public void testVeryLargeValuesAreReportedAsMaximum()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(99d));
+    }
+
+    public void testRecordingsOutliveOneWindow()
+    {
+        ManualTicker ticker = new ManualTicker();
+        LatencyHistogram histogram = new LatencyHistogram(1L, TimeUnit.SECONDS, ticker);
+        histogram.record(1000L);
+
+        ticker.advance(1500L);
+        histogram.record(10L);
+
+        assertEquals("Recordings of the previous window should still count", 2L, histogram.getCount());
+        assertEquals(1000L, histogram.getMaximum());
+    }
+
+    public void testOldRecordingsDecay()
+    {
+        ManualTicker ticker = new ManualTicker();
+        LatencyHistogram histogram = new LatencyHistogram(1L, TimeUnit.SECONDS, ticker);
+        for (int i = 0; i < 100; i++)
+        {
+            histogram.record(100000L);
+        }
+        assertEquals(100000L, histogram.getValueAtPercentile(99d));
+
+        ticker.advance(1000L);
+        histogram.record(10L);
+        ticker.advance(1000L);
+        histogram.record(20L);
+
+        assertEquals("Unexpected count after the slow window aged out", 2L, histogram.getCount());
+        assertEquals("Slow recordings should no longer affect the percentile",
+                     20L, histogram.getValueAtPercentile(99d));
+        assertEquals("Slow recordings should no longer affect the maximum", 20L, histogram.getMaximum());
+    }
+
+    public void testIdleHistogramDecaysToEmpty()
+    {
+        ManualTicker ticker = new ManualTicker();
+        LatencyHistogram histogram = new LatencyHistogram(1L, TimeUnit.SECONDS, ticker);
+        histogram.record(500L);
+
+        ticker.advance(2000L);
+
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMaximum());
+        assertEquals(0L, histogram.getValueAtPercentile(99d));
+    }
+
+    public void testExpiredWindowsAreReleasedOnRead()
+    {
+        ManualTicker ticker = new ManualTicker();
+        LatencyHistogram histogram = new LatencyHistogram(1L, TimeUnit.SECONDS, ticker);
+        histogram.record(500L);
+        ticker.advance(1000L);
+        histogram.record(600L);
+        assertEquals(2, histogram.getRetainedWindowCount());
+
+        ticker.advance(1000L);
+        assertEquals(1L, histogram.getCount());
+        assertEquals("The first window should have been released", 1, histogram.getRetainedWindowCount());
+
+        ticker.advance(1000L);
+        assertEquals(0L, histogram.getCount());
+        assertEquals("All windows should have been released", 0, histogram.getRetainedWindowCount());
+    }
+
+    public void testExpiredWindowIsNotKeptOnRecording()
+    {
+        ManualTicker ticker = new ManualTicker();
+        LatencyHistogram histogram = new LatencyHistogram(1L, TimeUnit.SECONDS, ticker);
+        histogram.record(500L);
+
+        ticker.advance(5000L);
+        histogram.record(10L);
+
+        assertEquals("The stale window should not be kept as the previous window",
+                     1, histogram.getRetainedWindowCount());
+        assertEquals(1L, histogram.getCount());
+        assertEquals(10L, histogram.getMaximum());
+    }
+
+    public void testValuesAcrossTheWholeRange()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L);
+        histogram.record(1L << 20);
+        histogram.record(1L << 40);
+
+        assertEquals(3L, histogram.getCount());
+        assertEquals(1L, histogram.getValueAtPercentile(10d));
+        long median = histogram.getValueAtPercentile(50d);
+        assertTrue("Unexpected median " + median, median >= 1L << 20 && median <= (1L << 20) + (1L << 17));
+    }
+
+    private static class ManualTicker extends Ticker
+    {
+        private long _time;
+
+        @Override
+        public long read()
+        {
+            return _time;
+        }
+
+        void advance(long millis)
+        {
+            _time += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+}
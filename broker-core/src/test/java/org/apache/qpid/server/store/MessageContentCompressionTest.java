@@ -0,0 +1,146 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.store;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class MessageContentCompressionTest extends QpidTestCase
+{
+    public void testContentBelowThresholdIsStoredAsIs()
+    {
+        byte[] content = repetitiveContent(100);
+        byte[] stored = MessageContentCompression.encode(wrap(content), 101);
+        assertTrue("Unexpected stored content", Arrays.equals(content, stored));
+    }
+
+    public void testCompressionDisabled()
+    {
+        byte[] content = repetitiveContent(10000);
+        byte[] stored = MessageContentCompression.encode(wrap(content), -1);
+        assertTrue("Unexpected stored content", Arrays.equals(content, stored));
+    }
+
+    public void testCompressibleContentRoundTrips()
+    {
+        byte[] content = repetitiveContent(100000);
+        byte[] stored = MessageContentCompression.encode(wrap(content), 0);
+
+        assertTrue("Content was not compressed", stored.length < content.length);
+        assertEquals("Unexpected codec tag", MessageContentCompression.GZIP, stored[0]);
+        assertTrue("Unexpected decoded content",
+                   Arrays.equals(content, toArray(MessageContentCompression.decode(stored, 0, stored.length,
+                                                                                   content.length))));
+    }
+
+    public void testIncompressibleContentIsStoredAsIs()
+    {
+        byte[] content = new byte[1000];
+        new Random(1).nextBytes(content);
+        byte[] stored = MessageContentCompression.encode(wrap(content), 0);
+
+        assertTrue("Unexpected stored content", Arrays.equals(content, stored));
+        assertTrue("Unexpected decoded content",
+                   Arrays.equals(content, toArray(MessageContentCompression.decode(stored, 0, stored.length,
+                                                                                   content.length))));
+    }
+
+    public void testSizeMismatchIsReported()
+    {
+        byte[] content = repetitiveContent(10000);
+        byte[] stored = MessageContentCompression.encode(wrap(content), 0);
+        try
+        {
+            MessageContentCompression.decode(stored, 0, stored.length, content.length - 1);
+            fail("Exception not thrown");
+        }
+        catch (StoreException e)
+        {
+            // pass
+        }
+    }
+
+    public void testContentShorterThanExpectedIsReported()
+    {
+        byte[] content = repetitiveContent(10000);
+        byte[] stored = MessageContentCompression.encode(wrap(content), 0);
+        try
+        {
+            MessageContentCompression.decode(stored, 0, stored.length, content.length + 1);
+            fail("Exception not thrown");
+        }
+        catch (StoreException e)
+        {
+            // pass
+        }
+    }
+
+    public void testCompressedContentDecodedFromOffsetWithinArray()
+    {
+        byte[] content = repetitiveContent(100000);
+        byte[] stored = MessageContentCompression.encode(wrap(content), 0);
+        byte[] record = new byte[stored.length + 10];
+        System.arraycopy(stored, 0, record, 5, stored.length);
+
+        assertTrue("Unexpected decoded content",
+                   Arrays.equals(content, toArray(MessageContentCompression.decode(record, 5, stored.length,
+                                                                                   content.length))));
+    }
+
+    private static byte[] repetitiveContent(int size)
+    {
+        byte[] content = new byte[size];
+        byte[] pattern = "<message><body>hello</body></message>".getBytes();
+        for (int i = 0; i < size; i++)
+        {
+            content[i] = pattern[i % pattern.length];
+        }
+        return content;
+    }
+
+    private static Collection<QpidByteBuffer> wrap(byte[] content)
+    {
+        return Collections.singletonList(QpidByteBuffer.wrap(content));
+    }
+
+    private static byte[] toArray(Collection<QpidByteBuffer> buffers)
+    {
+        int size = 0;
+        for (QpidByteBuffer buf : buffers)
+        {
+            size += buf.remaining();
+        }
+        byte[] data = new byte[size];
+        ByteBuffer dst = ByteBuffer.wrap(data);
+        for (QpidByteBuffer buf : buffers)
+        {
+            buf.copyTo(dst);
+            buf.dispose();
+        }
+        return data;
+    }
+}
@@ -159,6 +159,11 @@ public class TestMessageMetaDataType implements MessageMetaDataType<TestMessageM
             return _storedMsg;
         }
 
+        @Override
+        public void contentFlowedToDisk()
+        {
+        }
+
 
         @Override
         public boolean isPersistent()
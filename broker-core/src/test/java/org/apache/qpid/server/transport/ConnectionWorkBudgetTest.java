@@ -0,0 +1,135 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.transport;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class ConnectionWorkBudgetTest extends QpidTestCase
+{
+    private static final long QUANTUM = 10L;
+
+    private final ManualTicker _ticker = new ManualTicker();
+    private final ConnectionWorkBudget _budget = new ConnectionWorkBudget(QUANTUM, TimeUnit.MILLISECONDS, _ticker);
+
+    public void testPassStopsAtDeadline()
+    {
+        _budget.startPass();
+        assertTrue("First task should be allowed", _budget.tryStartTask());
+        _ticker.advance(QUANTUM - 1);
+        assertTrue("Task before the deadline should be allowed", _budget.tryStartTask());
+        assertFalse("Budget should not yet be exhausted", _budget.isExhausted());
+
+        _ticker.advance(1L);
+        assertFalse("Task at the deadline should not be allowed", _budget.tryStartTask());
+        _budget.endPass();
+        assertTrue("Budget should be exhausted", _budget.isExhausted());
+    }
+
+    public void testOverrunCarriedIntoNextPass()
+    {
+        _budget.startPass();
+        assertTrue(_budget.tryStartTask());
+        _ticker.advance(QUANTUM + 4);
+        assertFalse(_budget.tryStartTask());
+        _budget.endPass();
+
+        _budget.startPass();
+        assertFalse("Budget should be reset by a new pass", _budget.isExhausted());
+        assertTrue(_budget.tryStartTask());
+        _ticker.advance(QUANTUM - 5);
+        assertTrue("Task before the reduced deadline should be allowed", _budget.tryStartTask());
+        _ticker.advance(1L);
+        assertFalse("Overrun should have been deducted from the pass", _budget.tryStartTask());
+        _budget.endPass();
+        assertTrue(_budget.isExhausted());
+    }
+
+    public void testOverrunLimitedToOneQuantum()
+    {
+        _budget.startPass();
+        assertTrue(_budget.tryStartTask());
+        _ticker.advance(5 * QUANTUM);
+        assertFalse(_budget.tryStartTask());
+        _budget.endPass();
+
+        _budget.startPass();
+        assertTrue("A pass should always be allowed one task", _budget.tryStartTask());
+        assertFalse(_budget.tryStartTask());
+        _budget.endPass();
+
+        _budget.startPass();
+        assertTrue(_budget.tryStartTask());
+        _ticker.advance(QUANTUM - 1);
+        assertTrue("Deficit should have been paid back in a single pass", _budget.tryStartTask());
+        _budget.endPass();
+    }
+
+    public void testUnusedTimeNotCarriedForward()
+    {
+        _budget.startPass();
+        assertTrue(_budget.tryStartTask());
+        _ticker.advance(1L);
+        _budget.endPass();
+        assertFalse(_budget.isExhausted());
+
+        _budget.startPass();
+        assertTrue(_budget.tryStartTask());
+        _ticker.advance(QUANTUM);
+        assertFalse("Unused time should not extend the next pass", _budget.tryStartTask());
+        _budget.endPass();
+    }
+
+    public void testZeroQuantumDisablesLimit()
+    {
+        final ConnectionWorkBudget budget = new ConnectionWorkBudget(0L, TimeUnit.MILLISECONDS, _ticker);
+        for (int pass = 0; pass < 2; pass++)
+        {
+            budget.startPass();
+            for (int i = 0; i < 10; i++)
+            {
+                assertTrue("Task should be allowed without a quantum", budget.tryStartTask());
+                _ticker.advance(QUANTUM);
+            }
+            budget.endPass();
+            assertFalse("Budget should never be exhausted without a quantum", budget.isExhausted());
+        }
+    }
+
+    private static class ManualTicker extends Ticker
+    {
+        private long _time;
+
+        @Override
+        public long read()
+        {
+            return _time;
+        }
+
+        void advance(long millis)
+        {
+            _time += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.transport;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mockito.InOrder;
+
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class NetworkConnectionSchedulerTest extends QpidTestCase
+{
+    private NetworkConnectionScheduler _scheduler;
+    private NonBlockingConnection _connection;
+    private String _threadName;
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        _threadName = Thread.currentThread().getName();
+        _scheduler = new NetworkConnectionScheduler(getTestName(), 1, 2, 1L);
+        _scheduler.start();
+
+        _connection = mock(NonBlockingConnection.class);
+        when(_connection.getScheduler()).thenReturn(_scheduler);
+        when(_connection.getThreadName()).thenReturn(getTestName());
+        // setScheduled() of the mock returns false, so a rescheduled connection is not actually picked up again
+    }
+
+    @Override
+    public void tearDown() throws Exception
+    {
+        try
+        {
+            _scheduler.close();
+            Thread.currentThread().setName(_threadName);
+        }
+        finally
+        {
+            super.tearDown();
+        }
+    }
+
+    public void testConnectionWhichExhaustedItsBudgetIsRequeued()
+    {
+        when(_connection.isStateChanged()).thenReturn(true);
+        when(_connection.isWorkBudgetExhausted()).thenReturn(true);
+
+        _scheduler.processConnection(_connection);
+
+        verify(_connection, times(1)).doWork();
+        InOrder inOrder = inOrder(_connection);
+        inOrder.verify(_connection).doWork();
+        inOrder.verify(_connection).clearScheduled();
+        inOrder.verify(_connection).setScheduled();
+    }
+
+    public void testConnectionWithBudgetRemainingIsRerunInPlace()
+    {
+        when(_connection.isStateChanged()).thenReturn(true, false, true);
+        when(_connection.isWorkBudgetExhausted()).thenReturn(false);
+
+        _scheduler.processConnection(_connection);
+
+        verify(_connection, times(2)).doWork();
+        InOrder inOrder = inOrder(_connection);
+        inOrder.verify(_connection, times(2)).doWork();
+        inOrder.verify(_connection).clearScheduled();
+        inOrder.verify(_connection).setScheduled();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.transport;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.server.model.port.AmqpPort;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class NonBlockingConnectionTLSDelegateTest extends QpidTestCase
+{
+    private static final int NETWORK_BUFFER_SIZE = 256 * 1024;
+
+    private NonBlockingConnectionTLSDelegate _delegate;
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, null, null);
+
+        AmqpPort<?> port = mock(AmqpPort.class);
+        when(port.getSSLContext()).thenReturn(sslContext);
+        when(port.getNetworkBufferSize()).thenReturn(NETWORK_BUFFER_SIZE);
+
+        _delegate = new NonBlockingConnectionTLSDelegate(mock(NonBlockingConnection.class), port);
+    }
+
+    @Override
+    public void tearDown() throws Exception
+    {
+        try
+        {
+            _delegate.shutdownInput();
+        }
+        finally
+        {
+            super.tearDown();
+        }
+    }
+
+    public void testEmptyReadReleasesNetInputBuffer() throws Exception
+    {
+        QpidByteBuffer netInputBuffer = _delegate.getNetInputBuffer();
+        assertEquals("Unexpected position of freshly borrowed buffer", 0, netInputBuffer.position());
+
+        _delegate.releaseUnusedInputBuffers();
+
+        assertFalse("Idle connection should have no unprocessed input", _delegate.hasUnprocessedInput());
+        assertNotSame("Buffer of an idle connection should have been returned",
+                      netInputBuffer, _delegate.getNetInputBuffer());
+    }
+
+    public void testPartialRecordRetainsNetInputBuffer() throws Exception
+    {
+        QpidByteBuffer netInputBuffer = _delegate.getNetInputBuffer();
+        // the first bytes of a TLS record header - not enough to decrypt anything
+        netInputBuffer.put(new byte[]{0x17, 0x03, 0x03});
+
+        _delegate.releaseUnusedInputBuffers();
+
+        QpidByteBuffer retained = _delegate.getNetInputBuffer();
+        assertSame("Buffer holding a partial record should have been retained", netInputBuffer, retained);
+        assertEquals("Partial record bytes should be kept", 3, retained.position());
+    }
+}
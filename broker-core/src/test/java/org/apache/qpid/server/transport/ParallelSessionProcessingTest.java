@@ -0,0 +1,283 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.transport;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.apache.qpid.server.protocol.AMQSessionModel;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class ParallelSessionProcessingTest extends QpidTestCase
+{
+    private static final int NUMBER_OF_SESSIONS = 6;
+
+    private final Map<Thread, AMQSessionModel<?,?>> _processingThreads = new ConcurrentHashMap<>();
+    private final Set<AMQSessionModel<?,?>> _sessionsWithMoreWork =
+            Collections.newSetFromMap(new ConcurrentHashMap<AMQSessionModel<?,?>, Boolean>());
+    private final List<String> _violations = new CopyOnWriteArrayList<>();
+    private ExecutorService _executor;
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        _executor = Executors.newFixedThreadPool(NUMBER_OF_SESSIONS - 1);
+    }
+
+    @Override
+    public void tearDown() throws Exception
+    {
+        try
+        {
+            _executor.shutdownNow();
+            _executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        finally
+        {
+            super.tearDown();
+        }
+    }
+
+    public void testEachSessionProcessedOnceByThreadRegisteredAgainstIt() throws Exception
+    {
+        final Thread ioThread = Thread.currentThread();
+        final Map<AMQSessionModel<?,?>, List<Thread>> processedBy = new ConcurrentHashMap<>();
+        final List<AMQSessionModel<?,?>> sessions = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SESSIONS; i++)
+        {
+            final AMQSessionModel<?,?> session = mock(AMQSessionModel.class);
+            final boolean moreWork = i % 2 == 0;
+            processedBy.put(session, new CopyOnWriteArrayList<Thread>());
+            when(session.processPending()).thenAnswer(new Answer<Boolean>()
+            {
+                @Override
+                public Boolean answer(final InvocationOnMock invocation) throws Throwable
+                {
+                    final Thread currentThread = Thread.currentThread();
+                    processedBy.get(session).add(currentThread);
+                    final AMQSessionModel<?,?> registered = _processingThreads.get(currentThread);
+                    if (currentThread == ioThread ? registered != null : registered != session)
+                    {
+                        _violations.add(currentThread.getName() + " registered against " + registered);
+                    }
+                    return moreWork;
+                }
+            });
+            sessions.add(session);
+        }
+
+        new ParallelSessionProcessing(sessions, _processingThreads, _sessionsWithMoreWork).process(_executor);
+
+        assertEquals("Unexpected thread registrations", Collections.emptyList(), _violations);
+        assertTrue("Helper registrations outlived the batch", _processingThreads.isEmpty());
+        for (int i = 0; i < NUMBER_OF_SESSIONS; i++)
+        {
+            final AMQSessionModel<?,?> session = sessions.get(i);
+            assertEquals("Unexpected number of times session " + i + " was processed",
+                         1, processedBy.get(session).size());
+            assertEquals("Unexpected pending work for session " + i,
+                         i % 2 == 0, _sessionsWithMoreWork.contains(session));
+        }
+    }
+
+    public void testSessionProcessedInOrderAcrossBatches() throws Exception
+    {
+        final int numberOfBatches = 20;
+        final Map<AMQSessionModel<?,?>, List<Integer>> batchesProcessed = new ConcurrentHashMap<>();
+        final int[] currentBatch = new int[1];
+        final List<AMQSessionModel<?,?>> sessions = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SESSIONS; i++)
+        {
+            final AMQSessionModel<?,?> session = mock(AMQSessionModel.class);
+            final AtomicBoolean processing = new AtomicBoolean();
+            batchesProcessed.put(session, new CopyOnWriteArrayList<Integer>());
+            when(session.processPending()).thenAnswer(new Answer<Boolean>()
+            {
+                @Override
+                public Boolean answer(final InvocationOnMock invocation) throws Throwable
+                {
+                    if (!processing.compareAndSet(false, true))
+                    {
+                        _violations.add("Session processed concurrently");
+                    }
+                    try
+                    {
+                        Thread.sleep(1);
+                        batchesProcessed.get(session).add(currentBatch[0]);
+                    }
+                    finally
+                    {
+                        processing.set(false);
+                    }
+                    return true;
+                }
+            });
+            sessions.add(session);
+        }
+
+        final List<Integer> expectedBatches = new ArrayList<>();
+        for (int batch = 0; batch < numberOfBatches; batch++)
+        {
+            currentBatch[0] = batch;
+            expectedBatches.add(batch);
+            new ParallelSessionProcessing(sessions, _processingThreads, _sessionsWithMoreWork).process(_executor);
+        }
+
+        assertEquals("Unexpected concurrent processing", Collections.emptyList(), _violations);
+        for (AMQSessionModel<?,?> session : sessions)
+        {
+            assertEquals("Unexpected batches processed", expectedBatches, batchesProcessed.get(session));
+        }
+    }
+
+    public void testRejectedHelpersLeaveBatchToCallingThread() throws Exception
+    {
+        final Thread ioThread = Thread.currentThread();
+        final List<AMQSessionModel<?,?>> sessions = createSessionsRecordingThread(ioThread);
+
+        new ParallelSessionProcessing(sessions, _processingThreads, _sessionsWithMoreWork).process(new Executor()
+        {
+            @Override
+            public void execute(final Runnable command)
+            {
+                throw new RejectedExecutionException();
+            }
+        });
+
+        assertEquals("Unexpected processing threads", Collections.emptyList(), _violations);
+        for (AMQSessionModel<?,?> session : sessions)
+        {
+            verify(session, times(1)).processPending();
+        }
+        assertEquals("Unexpected sessions with more work", new HashSet<>(sessions), _sessionsWithMoreWork);
+    }
+
+    public void testLateHelpersDoNothing() throws Exception
+    {
+        final Thread ioThread = Thread.currentThread();
+        final List<AMQSessionModel<?,?>> sessions = createSessionsRecordingThread(ioThread);
+        final List<Runnable> helpers = new ArrayList<>();
+
+        new ParallelSessionProcessing(sessions, _processingThreads, _sessionsWithMoreWork).process(new Executor()
+        {
+            @Override
+            public void execute(final Runnable command)
+            {
+                helpers.add(command);
+            }
+        });
+
+        assertEquals("Unexpected number of helpers requested", NUMBER_OF_SESSIONS - 1, helpers.size());
+        for (Runnable helper : helpers)
+        {
+            helper.run();
+        }
+
+        assertEquals("Unexpected processing threads", Collections.emptyList(), _violations);
+        for (AMQSessionModel<?,?> session : sessions)
+        {
+            verify(session, times(1)).processPending();
+        }
+        assertTrue("Helper registrations outlived the batch", _processingThreads.isEmpty());
+    }
+
+    public void testFailureRethrownOnCallingThread() throws Exception
+    {
+        final RuntimeException failure = new RuntimeException("Test");
+        final List<AMQSessionModel<?,?>> sessions = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SESSIONS; i++)
+        {
+            final AMQSessionModel<?,?> session = mock(AMQSessionModel.class);
+            if (i == 1)
+            {
+                when(session.processPending()).thenThrow(failure);
+            }
+            else
+            {
+                when(session.processPending()).thenReturn(true);
+            }
+            sessions.add(session);
+        }
+
+        try
+        {
+            new ParallelSessionProcessing(sessions, _processingThreads, _sessionsWithMoreWork).process(_executor);
+            fail("Exception not thrown");
+        }
+        catch (RuntimeException e)
+        {
+            assertSame("Unexpected exception", failure, e);
+        }
+
+        for (AMQSessionModel<?,?> session : sessions)
+        {
+            verify(session, times(1)).processPending();
+        }
+        final Set<AMQSessionModel<?,?>> expected = new HashSet<>(sessions);
+        expected.remove(sessions.get(1));
+        assertEquals("Unexpected sessions with more work", expected, _sessionsWithMoreWork);
+        assertTrue("Helper registrations outlived the batch", _processingThreads.isEmpty());
+    }
+
+    private List<AMQSessionModel<?,?>> createSessionsRecordingThread(final Thread expectedThread)
+    {
+        final List<AMQSessionModel<?,?>> sessions = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SESSIONS; i++)
+        {
+            final AMQSessionModel<?,?> session = mock(AMQSessionModel.class);
+            when(session.processPending()).thenAnswer(new Answer<Boolean>()
+            {
+                @Override
+                public Boolean answer(final InvocationOnMock invocation) throws Throwable
+                {
+                    if (Thread.currentThread() != expectedThread)
+                    {
+                        _violations.add("Processed on " + Thread.currentThread().getName());
+                    }
+                    return true;
+                }
+            });
+            sessions.add(session);
+        }
+        return sessions;
+    }
+}
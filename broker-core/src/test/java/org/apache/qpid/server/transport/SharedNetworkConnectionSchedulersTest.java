@@ -0,0 +1,79 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.qpid.server.transport;
+
+import java.util.concurrent.Executors;
+
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class SharedNetworkConnectionSchedulersTest extends QpidTestCase
+{
+    public void testSchedulerSharedUntilLastRelease()
+    {
+        final String key = getTestName();
+        NetworkConnectionScheduler first = acquire(key);
+        NetworkConnectionScheduler second = acquire(key);
+        try
+        {
+            assertSame("Virtual hosts of a group should share a scheduler", first, second);
+
+            SharedNetworkConnectionSchedulers.release(key, first);
+            NetworkConnectionScheduler third = acquire(key);
+            assertSame("Scheduler should be kept while still referenced", first, third);
+            SharedNetworkConnectionSchedulers.release(key, third);
+        }
+        finally
+        {
+            SharedNetworkConnectionSchedulers.release(key, second);
+        }
+
+        NetworkConnectionScheduler replacement = acquire(key);
+        try
+        {
+            assertNotSame("Scheduler should be closed once no longer referenced", first, replacement);
+        }
+        finally
+        {
+            SharedNetworkConnectionSchedulers.release(key, replacement);
+        }
+    }
+
+    public void testDifferentGroupsHaveDifferentSchedulers()
+    {
+        NetworkConnectionScheduler first = acquire(getTestName() + "-1");
+        NetworkConnectionScheduler second = acquire(getTestName() + "-2");
+        try
+        {
+            assertNotSame("Groups should not share a scheduler", first, second);
+        }
+        finally
+        {
+            SharedNetworkConnectionSchedulers.release(getTestName() + "-1", first);
+            SharedNetworkConnectionSchedulers.release(getTestName() + "-2", second);
+        }
+    }
+
+    private NetworkConnectionScheduler acquire(final String key)
+    {
+        return SharedNetworkConnectionSchedulers.acquire(key, key, 1, 1, 1L, Executors.defaultThreadFactory());
+    }
+}
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.qpid.server.message.MessageInstance;
 import org.apache.qpid.server.message.ServerMessage;
@@ -602,6 +603,145 @@ public class LocalTransactionTest extends QpidTestCase
         assertEquals("Transaction update time should be reset after rollback", 0, _transaction.getTransactionUpdateTime());
     }
 
+    /**
+     * Tests that an asynchronous commit whose store commit has completed notifies its listener and is finished by
+     * a subsequent sync, which fires the post commit actions and the deferred action.
+     */
+    public void testAsyncCommitCompletedBySync() throws Exception
+    {
+        _transaction.dequeue(mock(MessageEnqueueRecord.class), _action1);
+
+        final LocalTransaction transaction = (LocalTransaction) _transaction;
+        final AtomicBoolean deferredFired = new AtomicBoolean();
+        transaction.commitAsync(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                deferredFired.set(true);
+            }
+        });
+
+        assertFalse("Store commit should have completed", transaction.isAsyncCommitInProgress());
+        assertFalse("Post commit action must not be fired yet", _action1.isPostCommitActionFired());
+
+        final AtomicBoolean listenerFired = new AtomicBoolean();
+        transaction.addAsyncCommitListener(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                listenerFired.set(true);
+            }
+        });
+        assertTrue("Listener must be fired", listenerFired.get());
+        assertFalse("Deferred action must not be fired by the listener", deferredFired.get());
+
+        transaction.sync();
+
+        assertTrue("Post commit action must be fired", _action1.isPostCommitActionFired());
+        assertTrue("Deferred action must be fired", deferredFired.get());
+    }
+
+    /**
+     * Tests that a listener registered while the store commit is in flight is fired only once the store commit
+     * completes, and that the commit is then finished by a subsequent sync.
+     */
+    public void testAsyncCommitListenerFiredWhenStoreCommitCompletes() throws Exception
+    {
+        _storeTransaction.setDeferAsyncCommit(true);
+        _transaction.dequeue(mock(MessageEnqueueRecord.class), _action1);
+
+        final LocalTransaction transaction = (LocalTransaction) _transaction;
+        final AtomicBoolean deferredFired = new AtomicBoolean();
+        transaction.commitAsync(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                deferredFired.set(true);
+            }
+        });
+
+        assertTrue("Store commit should be in progress", transaction.isAsyncCommitInProgress());
+
+        final AtomicBoolean listenerFired = new AtomicBoolean();
+        transaction.addAsyncCommitListener(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                listenerFired.set(true);
+            }
+        });
+        assertFalse("Listener must not be fired whilst the store commit is in progress", listenerFired.get());
+
+        _storeTransaction.completeAsyncCommit();
+
+        assertTrue("Listener must be fired", listenerFired.get());
+        assertFalse("Store commit should have completed", transaction.isAsyncCommitInProgress());
+        assertFalse("Post commit action must not be fired by the listener", _action1.isPostCommitActionFired());
+        assertFalse("Deferred action must not be fired by the listener", deferredFired.get());
+
+        transaction.sync();
+
+        assertTrue("Post commit action must be fired", _action1.isPostCommitActionFired());
+        assertTrue("Deferred action must be fired", deferredFired.get());
+    }
+
+    /**
+     * Tests that a rollback, as performed when a channel is closed, whilst an asynchronous commit is in flight
+     * waits for the store commit and leaves the committed work in place rather than rolling it back.
+     */
+    public void testRollbackDuringAsyncCommitWaitsForCommit() throws Exception
+    {
+        _storeTransaction.setDeferAsyncCommit(true);
+        _transaction.dequeue(mock(MessageEnqueueRecord.class), _action1);
+
+        final LocalTransaction transaction = (LocalTransaction) _transaction;
+        final AtomicBoolean deferredFired = new AtomicBoolean();
+        transaction.commitAsync(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                deferredFired.set(true);
+            }
+        });
+
+        final AtomicBoolean listenerFired = new AtomicBoolean();
+        transaction.addAsyncCommitListener(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                listenerFired.set(true);
+            }
+        });
+
+        Thread rollbackThread = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                transaction.rollback();
+            }
+        }, getTestName());
+        rollbackThread.start();
+        rollbackThread.join(100);
+        assertTrue("Rollback should wait for the store commit", rollbackThread.isAlive());
+
+        _storeTransaction.completeAsyncCommit();
+        rollbackThread.join(5000);
+
+        assertFalse("Rollback should have completed", rollbackThread.isAlive());
+        assertTrue("Listener must be fired", listenerFired.get());
+        assertTrue("Post commit action must be fired", _action1.isPostCommitActionFired());
+        assertFalse("Rollback action must not be fired", _action1.isRollbackActionFired());
+        assertTrue("Deferred action must be fired", deferredFired.get());
+        assertEquals("Unexpected transaction state", TransactionState.COMMITTED, _storeTransaction.getState());
+    }
+
     private Collection<MessageInstance> createTestQueueEntries(boolean[] queueDurableFlags, boolean[] messagePersistentFlags)
     {
         Collection<MessageInstance> queueEntries = new ArrayList<MessageInstance>();
@@ -102,6 +102,11 @@ class MockServerMessage implements ServerMessage
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void contentFlowedToDisk()
+    {
+    }
+
     @Override
     public long getExpiration()
     {
@@ -25,6 +25,7 @@ import java.util.UUID;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 
 import org.apache.qpid.server.message.EnqueueableMessage;
 import org.apache.qpid.server.store.MessageEnqueueRecord;
@@ -49,6 +50,8 @@ class MockStoreTransaction implements Transaction
     private int _numberOfEnqueuedMessages = 0;
     private int _numberOfDequeuedMessages = 0;
     private boolean _throwExceptionOnQueueOp;
+    private boolean _deferAsyncCommit;
+    private Runnable _asyncCommitCompleter;
 
     public MockStoreTransaction(boolean throwExceptionOnQueueOp)
     {
@@ -105,9 +108,36 @@ class MockStoreTransaction implements Transaction
 
     public <X> ListenableFuture<X> commitTranAsync(final X val)
     {
+        if (_deferAsyncCommit)
+        {
+            final SettableFuture<X> future = SettableFuture.create();
+            _asyncCommitCompleter = new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    _state = TransactionState.COMMITTED;
+                    future.set(val);
+                }
+            };
+            return future;
+        }
         return Futures.immediateFuture(val);
     }
 
+    /**
+     * Causes subsequent asynchronous commits to remain in progress until {@link #completeAsyncCommit()} is called.
+     */
+    public void setDeferAsyncCommit(final boolean deferAsyncCommit)
+    {
+        _deferAsyncCommit = deferAsyncCommit;
+    }
+
+    public void completeAsyncCommit()
+    {
+        _asyncCommitCompleter.run();
+    }
+
     public void abortTran()
     {
         _state = TransactionState.ABORTED;
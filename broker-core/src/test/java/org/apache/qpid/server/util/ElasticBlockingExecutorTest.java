@@ -0,0 +1,235 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.util;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class ElasticBlockingExecutorTest extends QpidTestCase
+{
+    public void testConcurrencyIsBounded() throws Exception
+    {
+        final ElasticBlockingExecutor executor = new ElasticBlockingExecutor(getTestName(), 2, null);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch completed = new CountDownLatch(5);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maximumRunning = new AtomicInteger();
+        try
+        {
+            for (int i = 0; i < 5; i++)
+            {
+                executor.execute(new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        int current = running.incrementAndGet();
+                        int maximum;
+                        while (current > (maximum = maximumRunning.get()))
+                        {
+                            maximumRunning.compareAndSet(maximum, current);
+                        }
+                        started.countDown();
+                        try
+                        {
+                            release.await(10, TimeUnit.SECONDS);
+                        }
+                        catch (InterruptedException e)
+                        {
+                            Thread.currentThread().interrupt();
+                        }
+                        finally
+                        {
+                            running.decrementAndGet();
+                            completed.countDown();
+                        }
+                    }
+                });
+            }
+
+            assertTrue("Tasks did not start", started.await(10, TimeUnit.SECONDS));
+            assertEquals("Unexpected number of tasks in flight", 2, executor.getActiveCount());
+            assertEquals("Unexpected number of pending tasks", 3, executor.getPendingCount());
+
+            release.countDown();
+            assertTrue("Tasks did not complete", completed.await(10, TimeUnit.SECONDS));
+            assertEquals("Concurrency exceeded the bound", 2, maximumRunning.get());
+        }
+        finally
+        {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    public void testShutdownRejectsNewTasks()
+    {
+        final ElasticBlockingExecutor executor = new ElasticBlockingExecutor(getTestName(), 1, null);
+        executor.shutdown();
+        try
+        {
+            executor.execute(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                }
+            });
+            fail("Exception not thrown");
+        }
+        catch (RejectedExecutionException e)
+        {
+            // pass
+        }
+    }
+
+    public void testAwaitTerminationWaitsForSubmittedTasks() throws Exception
+    {
+        final ElasticBlockingExecutor executor = new ElasticBlockingExecutor(getTestName(), 1, null);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger completed = new AtomicInteger();
+        try
+        {
+            for (int i = 0; i < 2; i++)
+            {
+                executor.execute(new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            release.await(10, TimeUnit.SECONDS);
+                            completed.incrementAndGet();
+                        }
+                        catch (InterruptedException e)
+                        {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+
+            assertFalse("Executor terminated with tasks outstanding",
+                        executor.awaitTermination(100, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            assertTrue("Executor did not terminate", executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals("Unexpected number of completed tasks", 2, completed.get());
+        }
+        finally
+        {
+            release.countDown();
+        }
+    }
+
+    public void testShutdownNowInterruptsRunningAndDiscardsPendingTasks() throws Exception
+    {
+        final ElasticBlockingExecutor executor = new ElasticBlockingExecutor(getTestName(), 1, null);
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final Runnable pending = new Runnable()
+        {
+            @Override
+            public void run()
+            {
+            }
+        };
+        executor.execute(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                started.countDown();
+                try
+                {
+                    new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted.set(true);
+                }
+            }
+        });
+        executor.execute(pending);
+        assertTrue("Task did not start", started.await(10, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        final List<Runnable> discarded = executor.shutdownNow();
+
+        assertTrue("Executor did not terminate", executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue("Running task was not interrupted", interrupted.get());
+        assertEquals("Unexpected discarded tasks", 1, discarded.size());
+        assertSame("Unexpected discarded task", pending, discarded.get(0));
+        assertEquals("Unexpected number of tasks in flight", 0, executor.getActiveCount());
+    }
+
+    public void testSubmissionRacingShutdownDoesNotLeakPermits() throws Exception
+    {
+        for (int i = 0; i < 200; i++)
+        {
+            final ElasticBlockingExecutor executor = new ElasticBlockingExecutor(getTestName(), 1, null);
+            final CountDownLatch ready = new CountDownLatch(1);
+            final AtomicBoolean ran = new AtomicBoolean();
+            final AtomicBoolean rejected = new AtomicBoolean();
+            final Thread submitter = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    ready.countDown();
+                    try
+                    {
+                        executor.execute(new Runnable()
+                        {
+                            @Override
+                            public void run()
+                            {
+                                ran.set(true);
+                            }
+                        });
+                    }
+                    catch (RejectedExecutionException e)
+                    {
+                        rejected.set(true);
+                    }
+                }
+            });
+            submitter.start();
+            assertTrue("Submitter did not start", ready.await(10, TimeUnit.SECONDS));
+            executor.shutdown();
+            submitter.join(10000L);
+
+            assertTrue("Executor did not terminate", executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue("Task neither run nor rejected", ran.get() != rejected.get());
+            assertEquals("Permit leaked", 0, executor.getActiveCount());
+            assertEquals("Task left pending", 0, executor.getPendingCount());
+        }
+    }
+}
@@ -27,6 +27,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import java.io.File;
 import java.security.Principal;
@@ -56,6 +57,8 @@ import org.apache.qpid.server.model.SystemConfig;
 import org.apache.qpid.server.model.VirtualHost;
 import org.apache.qpid.server.model.VirtualHostNode;
 import org.apache.qpid.server.security.AccessControl;
+import org.apache.qpid.server.stats.LatencyHistogram;
+import org.apache.qpid.server.store.CommitLatencyProvider;
 import org.apache.qpid.server.store.DurableConfigurationStore;
 import org.apache.qpid.server.store.MessageStore;
 import org.apache.qpid.server.store.preferences.PreferenceStore;
@@ -211,6 +214,45 @@ public class AbstractVirtualHostTest extends QpidTestCase
         host.close();
     }
 
+    public void testStoreCommitTimeStatisticsReadFromMessageStore()
+    {
+        Map<String,Object> attributes = Collections.<String, Object>singletonMap(AbstractVirtualHost.NAME, getTestName());
+        final MessageStore store = mock(MessageStore.class, withSettings().extraInterfaces(CommitLatencyProvider.class));
+        when(store.newMessageStoreReader()).thenReturn(mock(MessageStore.MessageStoreReader.class));
+        LatencyHistogram commitLatency = new LatencyHistogram();
+        when(((CommitLatencyProvider) store).getCommitLatency()).thenReturn(commitLatency);
+
+        AbstractVirtualHost host = new AbstractVirtualHost(attributes, _node)
+        {
+            @Override
+            protected MessageStore createMessageStore()
+            {
+                return  store;
+            }
+        };
+
+        host.open();
+        try
+        {
+            assertEquals("Unexpected commit time before any commit", 0L, host.getStoreCommitTime99thPercentile());
+
+            for (int i = 0; i < 100; i++)
+            {
+                commitLatency.record(800L);
+            }
+            commitLatency.record(4000L);
+
+            long median = host.getStoreCommitTime50thPercentile();
+            assertTrue("Unexpected median commit time " + median, median >= 800L && median <= 900L);
+            long p99 = host.getStoreCommitTime99thPercentile();
+            assertTrue("Unexpected 99th percentile commit time " + p99, p99 >= 800L && p99 <= 900L);
+        }
+        finally
+        {
+            host.close();
+        }
+    }
+
     public void testDeleteInErrorStateAfterOpen() throws Exception
     {
         Map<String,Object> attributes = Collections.<String, Object>singletonMap(AbstractVirtualHost.NAME, getTestName());
@@ -22,7 +22,9 @@ package org.apache.qpid.server.virtualhost;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -30,10 +32,19 @@ import java.util.Collections;
 import java.util.concurrent.ExecutionException;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import org.apache.qpid.server.logging.EventLogger;
+import org.apache.qpid.server.message.MessageReference;
+import org.apache.qpid.server.message.ServerMessage;
 import org.apache.qpid.server.model.Queue;
+import org.apache.qpid.server.plugin.MessageMetaDataType;
+import org.apache.qpid.server.store.MessageEnqueueRecord;
 import org.apache.qpid.server.store.MessageStore;
+import org.apache.qpid.server.store.StorableMessageMetaData;
+import org.apache.qpid.server.store.StoredMessage;
 import org.apache.qpid.server.store.TransactionLogResource;
 import org.apache.qpid.server.store.handler.MessageInstanceHandler;
 import org.apache.qpid.server.util.ServerScopedRuntimeException;
@@ -89,4 +100,104 @@ public class AsynchronousMessageStoreRecovererTest extends QpidTestCase
         ListenableFuture<Void> result = recoverer.recover(_virtualHost);
         assertNull(result.get());
     }
+
+    public void testRecoveryRestoresEntriesInStoreOrderAcrossBatches() throws Exception
+    {
+        final int numberOfEntries = 5;
+        when(_store.getNextMessageId()).thenReturn((long) numberOfEntries + 1);
+        when(_virtualHost.getContextValue(Integer.class, QueueManagingVirtualHost.RECOVERY_BATCH_SIZE)).thenReturn(2);
+
+        Queue<?> queue = mock(Queue.class);
+        when(queue.getName()).thenReturn("test");
+        when(_virtualHost.getChildren(eq(Queue.class))).thenReturn(Collections.singleton(queue));
+
+        final MessageEnqueueRecord[] records = new MessageEnqueueRecord[numberOfEntries];
+        final ServerMessage<?>[] messages = new ServerMessage<?>[numberOfEntries];
+        for (int i = 0; i < numberOfEntries; i++)
+        {
+            records[i] = mock(MessageEnqueueRecord.class);
+            when(records[i].getMessageNumber()).thenReturn((long) i + 1);
+            messages[i] = createRecoverableMessage(i + 1);
+        }
+
+        doAnswer(new Answer<Void>()
+        {
+            @Override
+            public Void answer(final InvocationOnMock invocation) throws Throwable
+            {
+                MessageInstanceHandler handler = (MessageInstanceHandler) invocation.getArguments()[1];
+                for (MessageEnqueueRecord record : records)
+                {
+                    handler.handle(record);
+                }
+                return null;
+            }
+        }).when(_storeReader).visitMessageInstances(any(TransactionLogResource.class), any(MessageInstanceHandler.class));
+
+        AsynchronousMessageStoreRecoverer recoverer = new AsynchronousMessageStoreRecoverer();
+        ListenableFuture<Void> result = recoverer.recover(_virtualHost);
+        assertNull(result.get());
+
+        InOrder inOrder = inOrder(queue);
+        for (int i = 0; i < numberOfEntries; i++)
+        {
+            inOrder.verify(queue).recover(messages[i], records[i]);
+        }
+        inOrder.verify(queue).completeRecovery();
+    }
+
+    public void testLazyRecoveryReleasesMessageDataOnceEnqueued() throws Exception
+    {
+        when(_store.getNextMessageId()).thenReturn(2L);
+        when(_virtualHost.getContextValue(Boolean.class, QueueManagingVirtualHost.LAZY_MESSAGE_RECOVERY)).thenReturn(true);
+
+        Queue<?> queue = mock(Queue.class);
+        when(queue.getName()).thenReturn("test");
+        when(_virtualHost.getChildren(eq(Queue.class))).thenReturn(Collections.singleton(queue));
+
+        final MessageEnqueueRecord record = mock(MessageEnqueueRecord.class);
+        when(record.getMessageNumber()).thenReturn(1L);
+        final ServerMessage<?> message = createRecoverableMessage(1L);
+        final StoredMessage<?> storedMessage = message.getStoredMessage();
+
+        doAnswer(new Answer<Void>()
+        {
+            @Override
+            public Void answer(final InvocationOnMock invocation) throws Throwable
+            {
+                MessageInstanceHandler handler = (MessageInstanceHandler) invocation.getArguments()[1];
+                handler.handle(record);
+                return null;
+            }
+        }).when(_storeReader).visitMessageInstances(any(TransactionLogResource.class), any(MessageInstanceHandler.class));
+
+        AsynchronousMessageStoreRecoverer recoverer = new AsynchronousMessageStoreRecoverer();
+        ListenableFuture<Void> result = recoverer.recover(_virtualHost);
+        assertNull(result.get());
+
+        InOrder inOrder = inOrder(queue, storedMessage);
+        inOrder.verify(queue).recover(message, record);
+        inOrder.verify(storedMessage).flowToDisk();
+        inOrder.verify(queue).completeRecovery();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ServerMessage<?> createRecoverableMessage(final long messageId)
+    {
+        ServerMessage serverMessage = mock(ServerMessage.class);
+        when(serverMessage.getMessageNumber()).thenReturn(messageId);
+        MessageReference reference = mock(MessageReference.class);
+        when(reference.getMessage()).thenReturn(serverMessage);
+        when(serverMessage.newReference()).thenReturn(reference);
+
+        MessageMetaDataType type = mock(MessageMetaDataType.class);
+        StorableMessageMetaData metaData = mock(StorableMessageMetaData.class);
+        when(metaData.getType()).thenReturn(type);
+        StoredMessage storedMessage = mock(StoredMessage.class);
+        when(storedMessage.getMetaData()).thenReturn(metaData);
+        when(serverMessage.getStoredMessage()).thenReturn(storedMessage);
+        when(type.createMessage(storedMessage)).thenReturn(serverMessage);
+        when(_storeReader.getMessage(messageId)).thenReturn(storedMessage);
+        return serverMessage;
+    }
 }
@@ -24,6 +24,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -33,6 +34,7 @@ import static org.mockito.Mockito.when;
 import java.util.UUID;
 
 import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
 
 import org.apache.qpid.server.logging.EventLogger;
 import org.apache.qpid.server.message.EnqueueableMessage;
@@ -106,6 +108,39 @@ public class SynchronousMessageStoreRecovererTest extends QpidTestCase
         verify(queue, times(1)).recover(eq(message), any(MessageEnqueueRecord.class));
     }
 
+    public void testLazyRecoveryReleasesRecoveredMessageData()
+    {
+        when(_virtualHost.getContextValue(Boolean.class, QueueManagingVirtualHost.LAZY_MESSAGE_RECOVERY)).thenReturn(true);
+        final Queue<?> queue = createRegisteredMockQueue();
+
+        final long messageId = 1;
+        final StoredMessage<StorableMessageMetaData> storedMessage = createMockStoredMessage(messageId);
+
+        MessageStore store = new NullMessageStore()
+        {
+            @Override
+            public void visitMessages(MessageHandler handler) throws StoreException
+            {
+                handler.handle(storedMessage);
+            }
+
+            @Override
+            public void visitMessageInstances(MessageInstanceHandler handler) throws StoreException
+            {
+                handler.handle(new TestMessageEnqueueRecord(queue.getId(), messageId));
+            }
+        };
+
+        when(_virtualHost.getMessageStore()).thenReturn(store);
+
+        SynchronousMessageStoreRecoverer recoverer = new SynchronousMessageStoreRecoverer();
+        recoverer.recover(_virtualHost);
+
+        InOrder inOrder = inOrder(queue, storedMessage);
+        inOrder.verify(queue, times(1)).recover(any(ServerMessage.class), any(MessageEnqueueRecord.class));
+        inOrder.verify(storedMessage, times(1)).flowToDisk();
+    }
+
     @SuppressWarnings("unchecked")
     public void testRecoveryOfMessageInstanceForNonExistingMessage()
     {
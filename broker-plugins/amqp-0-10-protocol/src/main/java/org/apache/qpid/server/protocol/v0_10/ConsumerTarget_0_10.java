@@ -254,19 +254,24 @@ public class ConsumerTarget_0_10 extends AbstractConsumerTarget<ConsumerTarget_0
         boolean msgCompressed = messageProps != null && GZIPUtils.GZIP_CONTENT_ENCODING.equals(messageProps.getContentEncoding());
 
 
+        // the compressed or decompressed variant of a message which is not converted for this delivery is
+        // cached on the message itself and shared by all consumers requiring it
         Collection<QpidByteBuffer> bodyBuffers = msg.getBody();
 
         boolean compressionSupported = _session.getConnection().getConnectionDelegate().isCompressionSupported();
 
         if(msgCompressed && !compressionSupported && bodyBuffers != null)
         {
-            Collection<QpidByteBuffer> uncompressedBuffers = inflateIfPossible(bodyBuffers);
-            messageProps.setContentEncoding(null);
-            for (QpidByteBuffer buf : bodyBuffers)
+            Collection<QpidByteBuffer> uncompressedBuffers = inflateIfPossible(msg, converter == null, bodyBuffers);
+            if(uncompressedBuffers != null)
             {
-                buf.dispose();
+                messageProps.setContentEncoding(null);
+                for (QpidByteBuffer buf : bodyBuffers)
+                {
+                    buf.dispose();
+                }
+                bodyBuffers = uncompressedBuffers;
             }
-            bodyBuffers = uncompressedBuffers;
         }
         else if(!msgCompressed
                 && compressionSupported
@@ -274,17 +279,20 @@ public class ConsumerTarget_0_10 extends AbstractConsumerTarget<ConsumerTarget_0
                 && bodyBuffers != null
                 && ByteBufferUtils.remaining(bodyBuffers) > _session.getConnection().getMessageCompressionThreshold())
         {
-            Collection<QpidByteBuffer> compressedBuffers = deflateIfPossible(bodyBuffers);
-            if(messageProps == null)
-            {
-                messageProps = new MessageProperties();
-            }
-            messageProps.setContentEncoding(GZIPUtils.GZIP_CONTENT_ENCODING);
-            for (QpidByteBuffer buf : bodyBuffers)
+            Collection<QpidByteBuffer> compressedBuffers = deflateIfPossible(msg, converter == null, bodyBuffers);
+            if(compressedBuffers != null)
             {
-                buf.dispose();
+                if(messageProps == null)
+                {
+                    messageProps = new MessageProperties();
+                }
+                messageProps.setContentEncoding(GZIPUtils.GZIP_CONTENT_ENCODING);
+                for (QpidByteBuffer buf : bodyBuffers)
+                {
+                    buf.dispose();
+                }
+                bodyBuffers = compressedBuffers;
             }
-            bodyBuffers = compressedBuffers;
         }
 
         Header header = new Header(deliveryProps, messageProps, msg.getHeader() == null ? null : msg.getHeader().getNonStandardProperties());
@@ -614,11 +622,13 @@ public class ConsumerTarget_0_10 extends AbstractConsumerTarget<ConsumerTarget_0
     }
 
 
-    private Collection<QpidByteBuffer> deflateIfPossible(final Collection<QpidByteBuffer> buffers)
+    private Collection<QpidByteBuffer> deflateIfPossible(final MessageTransferMessage message,
+                                                         final boolean shared,
+                                                         final Collection<QpidByteBuffer> buffers)
     {
         try
         {
-            return QpidByteBuffer.deflate(buffers);
+            return shared ? message.getCompressedBody(buffers) : QpidByteBuffer.deflate(buffers);
         }
         catch (IOException e)
         {
@@ -627,11 +637,13 @@ public class ConsumerTarget_0_10 extends AbstractConsumerTarget<ConsumerTarget_0
         }
     }
 
-    private Collection<QpidByteBuffer> inflateIfPossible(final Collection<QpidByteBuffer> buffers)
+    private Collection<QpidByteBuffer> inflateIfPossible(final MessageTransferMessage message,
+                                                         final boolean shared,
+                                                         final Collection<QpidByteBuffer> buffers)
     {
         try
         {
-            return QpidByteBuffer.inflate(buffers);
+            return shared ? message.getDecompressedBody(buffers) : QpidByteBuffer.inflate(buffers);
         }
         catch (IOException e)
         {
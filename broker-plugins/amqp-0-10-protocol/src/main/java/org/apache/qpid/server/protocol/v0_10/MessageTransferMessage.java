@@ -20,6 +20,8 @@
  */
 package org.apache.qpid.server.protocol.v0_10;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 
 import org.apache.qpid.bytebuffer.QpidByteBuffer;
@@ -36,6 +38,11 @@ public class MessageTransferMessage extends AbstractServerMessageImpl<MessageTra
     private final static MessageMetaData_0_10 DELETED_MESSAGE_METADATA = new MessageMetaData_0_10(null, 0, 0);
     private static final String AMQP_0_10 = "AMQP 0-10";
 
+    private final Object _bodyCacheLock = new Object();
+    private Collection<QpidByteBuffer> _compressedBody;
+    private Collection<QpidByteBuffer> _decompressedBody;
+    private boolean _deleted;
+
     public MessageTransferMessage(StoredMessage<MessageMetaData_0_10> storeMessage, Object connectionRef)
     {
         super(storeMessage, connectionRef);
@@ -95,4 +102,118 @@ public class MessageTransferMessage extends AbstractServerMessageImpl<MessageTra
     {
         return  getContent(0, (int) getSize());
     }
+
+    /**
+     * Returns the given body of this message compressed with gzip. The compressed body is computed once and
+     * shared by all deliveries for as long as the message content is held in memory. The given body is left
+     * untouched and remains owned by the caller. The caller must dispose the returned buffers.
+     */
+    public Collection<QpidByteBuffer> getCompressedBody(final Collection<QpidByteBuffer> body) throws IOException
+    {
+        return getRecodedBody(body, true);
+    }
+
+    /**
+     * Returns the given body of this gzip compressed message decompressed. The decompressed body is computed
+     * once and shared by all deliveries for as long as the message content is held in memory. The given body
+     * is left untouched and remains owned by the caller. The caller must dispose the returned buffers.
+     */
+    public Collection<QpidByteBuffer> getDecompressedBody(final Collection<QpidByteBuffer> body) throws IOException
+    {
+        return getRecodedBody(body, false);
+    }
+
+    private Collection<QpidByteBuffer> getRecodedBody(final Collection<QpidByteBuffer> body,
+                                                      final boolean compress) throws IOException
+    {
+        synchronized (_bodyCacheLock)
+        {
+            Collection<QpidByteBuffer> recodedBody = compress ? _compressedBody : _decompressedBody;
+            if (recodedBody == null)
+            {
+                final Collection<QpidByteBuffer> source = duplicate(body);
+                try
+                {
+                    recodedBody = compress ? QpidByteBuffer.deflate(source) : QpidByteBuffer.inflate(source);
+                }
+                finally
+                {
+                    for (QpidByteBuffer buf : source)
+                    {
+                        buf.dispose();
+                    }
+                }
+
+                if (_deleted || !getStoredMessage().isInMemory())
+                {
+                    return recodedBody;
+                }
+                if (compress)
+                {
+                    _compressedBody = recodedBody;
+                }
+                else
+                {
+                    _decompressedBody = recodedBody;
+                }
+            }
+            else if (!getStoredMessage().isInMemory())
+            {
+                // the content has flowed to disk without the message being told, so stop holding it in memory
+                final Collection<QpidByteBuffer> duplicates = duplicate(recodedBody);
+                disposeCachedBodies();
+                return duplicates;
+            }
+            return duplicate(recodedBody);
+        }
+    }
+
+    @Override
+    public void contentFlowedToDisk()
+    {
+        synchronized (_bodyCacheLock)
+        {
+            disposeCachedBodies();
+        }
+    }
+
+    @Override
+    protected void onDelete()
+    {
+        synchronized (_bodyCacheLock)
+        {
+            _deleted = true;
+            disposeCachedBodies();
+        }
+    }
+
+    private void disposeCachedBodies()
+    {
+        if (_compressedBody != null)
+        {
+            for (QpidByteBuffer buf : _compressedBody)
+            {
+                buf.dispose();
+            }
+            _compressedBody = null;
+        }
+        if (_decompressedBody != null)
+        {
+            for (QpidByteBuffer buf : _decompressedBody)
+            {
+                buf.dispose();
+            }
+            _decompressedBody = null;
+        }
+    }
+
+    private static Collection<QpidByteBuffer> duplicate(final Collection<QpidByteBuffer> buffers)
+    {
+        final Collection<QpidByteBuffer> duplicates = new ArrayList<>(buffers.size());
+        for (QpidByteBuffer buf : buffers)
+        {
+            duplicates.add(buf.duplicate());
+        }
+        return duplicates;
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.protocol.v0_10;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.server.message.MessageReference;
+import org.apache.qpid.server.store.StoredMessage;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class MessageTransferMessageTest extends QpidTestCase
+{
+    private final byte[] _content = new byte[4096];
+    private StoredMessage<MessageMetaData_0_10> _storedMessage;
+    private MessageTransferMessage _message;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        for (int i = 0; i < _content.length; i++)
+        {
+            _content[i] = (byte) ('a' + (i % 4));
+        }
+
+        _storedMessage = mock(StoredMessage.class);
+        when(_storedMessage.getContentSize()).thenReturn(_content.length);
+        when(_storedMessage.isInMemory()).thenReturn(true);
+        when(_storedMessage.getContent(anyInt(), anyInt())).thenAnswer(new Answer<Collection<QpidByteBuffer>>()
+        {
+            @Override
+            public Collection<QpidByteBuffer> answer(final InvocationOnMock invocation) throws Throwable
+            {
+                return Collections.singletonList(QpidByteBuffer.wrap(_content));
+            }
+        });
+        _message = new MessageTransferMessage(_storedMessage, null);
+    }
+
+    public void testCompressedBodyComputedOnce() throws Exception
+    {
+        MessageReference<MessageTransferMessage> reference = _message.newReference();
+        Collection<QpidByteBuffer> body = _message.getBody();
+
+        byte[] first = toBytes(_message.getCompressedBody(body));
+        byte[] second = toBytes(_message.getCompressedBody(body));
+
+        assertTrue("Expected body to be compressed", first.length < _content.length);
+        assertTrue("Expected the same compressed body", Arrays.equals(first, second));
+        assertEquals("Supplied body should not have been consumed", _content.length, remaining(body));
+        verify(_storedMessage, times(1)).getContent(anyInt(), anyInt());
+
+        dispose(body);
+        reference.release();
+    }
+
+    public void testCompressedBodyNotCachedAfterDelete() throws Exception
+    {
+        Collection<QpidByteBuffer> body = Collections.singletonList(QpidByteBuffer.wrap(_content));
+        MessageReference<MessageTransferMessage> reference = _message.newReference();
+        byte[] expected = toBytes(_message.getCompressedBody(body));
+        reference.release();
+
+        Collection<QpidByteBuffer> otherBody = Collections.singletonList(QpidByteBuffer.wrap(new byte[16]));
+        byte[] actual = toBytes(_message.getCompressedBody(otherBody));
+        assertFalse("Compressed body should have been recomputed after delete", Arrays.equals(expected, actual));
+    }
+
+    public void testCompressedBodyNotCachedWhenContentNotInMemory() throws Exception
+    {
+        when(_storedMessage.isInMemory()).thenReturn(false);
+
+        Collection<QpidByteBuffer> body = Collections.singletonList(QpidByteBuffer.wrap(_content));
+        byte[] expected = toBytes(_message.getCompressedBody(body));
+
+        Collection<QpidByteBuffer> otherBody = Collections.singletonList(QpidByteBuffer.wrap(new byte[16]));
+        byte[] actual = toBytes(_message.getCompressedBody(otherBody));
+        assertFalse("Compressed body should not have been cached", Arrays.equals(expected, actual));
+    }
+
+    public void testCompressedBodyReleasedWhenContentFlowedToDisk() throws Exception
+    {
+        MessageReference<MessageTransferMessage> reference = _message.newReference();
+        Collection<QpidByteBuffer> body = Collections.singletonList(QpidByteBuffer.wrap(_content));
+        byte[] expected = toBytes(_message.getCompressedBody(body));
+
+        _message.contentFlowedToDisk();
+
+        Collection<QpidByteBuffer> otherBody = Collections.singletonList(QpidByteBuffer.wrap(new byte[16]));
+        byte[] actual = toBytes(_message.getCompressedBody(otherBody));
+        assertFalse("Cached compressed body should have been released", Arrays.equals(expected, actual));
+
+        reference.release();
+    }
+
+    public void testDecompressedBodyOfCompressedMessage() throws Exception
+    {
+        final byte[] compressed =
+                toBytes(_message.getCompressedBody(Collections.singletonList(QpidByteBuffer.wrap(_content))));
+        StoredMessage<MessageMetaData_0_10> compressedStoredMessage = mock(StoredMessage.class);
+        when(compressedStoredMessage.getContentSize()).thenReturn(compressed.length);
+        when(compressedStoredMessage.isInMemory()).thenReturn(true);
+        MessageTransferMessage compressedMessage = new MessageTransferMessage(compressedStoredMessage, null);
+
+        Collection<QpidByteBuffer> body = Collections.singletonList(QpidByteBuffer.wrap(compressed));
+        assertTrue("Unexpected decompressed body",
+                   Arrays.equals(_content, toBytes(compressedMessage.getDecompressedBody(body))));
+        verify(compressedStoredMessage, never()).getContent(anyInt(), anyInt());
+    }
+
+    private long remaining(final Collection<QpidByteBuffer> buffers)
+    {
+        long remaining = 0;
+        for (QpidByteBuffer buf : buffers)
+        {
+            remaining += buf.remaining();
+        }
+        return remaining;
+    }
+
+    private void dispose(final Collection<QpidByteBuffer> buffers)
+    {
+        for (QpidByteBuffer buf : buffers)
+        {
+            buf.dispose();
+        }
+    }
+
+    private byte[] toBytes(final Collection<QpidByteBuffer> buffers)
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (QpidByteBuffer buf : buffers)
+        {
+            while (buf.hasRemaining())
+            {
+                bytes.write(buf.get());
+            }
+            buf.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
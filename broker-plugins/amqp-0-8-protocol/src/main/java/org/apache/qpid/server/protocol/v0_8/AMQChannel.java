@@ -169,6 +169,7 @@ public class AMQChannel
     private final MessageStore _messageStore;
 
     private final LinkedList<AsyncCommand> _unfinishedCommandsQueue = new LinkedList<AsyncCommand>();
+    private boolean _awaitingAsyncCommit;
 
     private final UnacknowledgedMessageMap _unacknowledgedMessageMap;
 
@@ -215,6 +216,8 @@ public class AMQChannel
     private long _blockingTimeout;
     private boolean _confirmOnPublish;
     private long _confirmedMessageCounter;
+    private long _pendingConfirmTag;
+    private long _lastSentConfirmTag;
     private volatile long _uncommittedMessageSize;
     private final List<StoredMessage<MessageMetaData>> _uncommittedMessages = new ArrayList<>();
     private long _maxUncommittedInMemorySize;
@@ -357,13 +360,69 @@ public class AMQChannel
             @Override
             public Void run()
             {
-                sync();
+                AsyncCommand cmd;
+                while((cmd = _unfinishedCommandsQueue.poll()) != null)
+                {
+                    cmd.complete();
+                }
+                completeAsyncCommitIfPossible();
+                sendPendingConfirms();
                 return null;
             }
         }, getAccessControllerContext());
 
     }
 
+    /**
+     * Publisher confirms are coalesced over each pass through the received frames: a single basic.ack covers every
+     * publish confirmed since the last one was sent, and is written only after the store work for those publishes
+     * has completed.
+     */
+    private void sendPendingConfirms()
+    {
+        if (_pendingConfirmTag > _lastSentConfirmTag)
+        {
+            final boolean multiple = _pendingConfirmTag - _lastSentConfirmTag > 1;
+            BasicAckBody responseBody = _connection.getMethodRegistry().createBasicAckBody(_pendingConfirmTag,
+                                                                                          multiple);
+            _connection.writeFrame(responseBody.generateFrame(_channelId));
+            _lastSentConfirmTag = _pendingConfirmTag;
+        }
+    }
+
+    /**
+     * Completes an asynchronous tx.commit (sending the tx.commit-ok) if the store has finished with it. Otherwise
+     * the I/O thread is not held up: the channel is notified when the store commit completes and finishes the
+     * commit from {@link #processPending()}. Any later command on the channel which syncs waits for the commit.
+     */
+    private void completeAsyncCommitIfPossible()
+    {
+        if(_transaction instanceof LocalTransaction)
+        {
+            final LocalTransaction transaction = (LocalTransaction) _transaction;
+            if(transaction.isAsyncCommitInProgress())
+            {
+                if(!_awaitingAsyncCommit)
+                {
+                    _awaitingAsyncCommit = true;
+                    transaction.addAsyncCommitListener(new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            getAMQPConnection().notifyWork(AMQChannel.this);
+                        }
+                    });
+                }
+            }
+            else
+            {
+                _awaitingAsyncCommit = false;
+                transaction.sync();
+            }
+        }
+    }
+
     private void incrementOutstandingTxnsIfNecessary()
     {
         if(isTransactional())
@@ -463,16 +522,11 @@ public class AMQChannel
                                                 getConnection().getLastReadTime());
 
                     final MessageHandle<MessageMetaData> handle = _messageStore.addMessage(messageMetaData);
-                    int bodyCount = _currentMessage.getBodyCount();
-                    if (bodyCount > 0)
+                    for (QpidByteBuffer content : _currentMessage.getContent())
                     {
-                        for (int i = 0; i < bodyCount; i++)
-                        {
-                            ContentBody contentChunk = _currentMessage.getContentChunk(i);
-                            handle.addContent(contentChunk.getPayload());
-                            contentChunk.dispose();
-                        }
+                        handle.addContent(content);
                     }
+                    _currentMessage.dispose();
                     final StoredMessage<MessageMetaData> storedMessage = handle.allContentAdded();
 
                     final AMQMessage amqMessage = createAMQMessage(storedMessage);
@@ -522,9 +576,7 @@ public class AMQChannel
                         {
                             if (_confirmOnPublish)
                             {
-                                BasicAckBody responseBody = _connection.getMethodRegistry()
-                                        .createBasicAckBody(_confirmedMessageCounter, false);
-                                _connection.writeFrame(responseBody.generateFrame(_channelId));
+                                _pendingConfirmTag = _confirmedMessageCounter;
                             }
                             incrementUncommittedMessageSize(storedMessage);
                             incrementOutstandingTxnsIfNecessary();
@@ -544,11 +596,12 @@ public class AMQChannel
                 finally
                 {
                     _connection.registerMessageReceived(bodySize, timestamp);
-                    _currentMessage = null;
+                    discardCurrentMessage();
                 }
             }
             catch (AccessControlException e)
             {
+                discardCurrentMessage();
                 _connection.sendConnectionClose(ErrorCodes.ACCESS_REFUSED, e.getMessage(), getChannelId());
             }
 
@@ -633,7 +686,9 @@ public class AMQChannel
             {
                 if(_confirmOnPublish)
                 {
+                    sendPendingConfirms();
                     _connection.writeFrame(new AMQFrame(_channelId, new BasicNackBody(_confirmedMessageCounter, false, false)));
+                    _lastSentConfirmTag = _confirmedMessageCounter;
                 }
                 _transaction.addPostTransactionAction(new WriteReturnAction(ErrorCodes.NO_ROUTE,
                                                                             "No Route for message "
@@ -642,7 +697,10 @@ public class AMQChannel
             }
             else
             {
-
+                if(_confirmOnPublish)
+                {
+                    _pendingConfirmTag = _confirmedMessageCounter;
+                }
                 message(ExchangeMessages.DISCARDMSG(exchangeName, routingKey));
             }
         }
@@ -661,6 +719,7 @@ public class AMQChannel
             long currentSize = _currentMessage.addContentBodyFrame(contentBody);
             if(currentSize > _currentMessage.getSize())
             {
+                discardCurrentMessage();
                 _connection.sendConnectionClose(ErrorCodes.FRAME_ERROR,
                                                 "More message data received than content header defined",
                                                 _channelId);
@@ -674,11 +733,20 @@ public class AMQChannel
         {
             // we want to make sure we don't keep a reference to the message in the
             // event of an error
-            _currentMessage = null;
+            discardCurrentMessage();
             throw e;
         }
     }
 
+    private void discardCurrentMessage()
+    {
+        if (_currentMessage != null)
+        {
+            _currentMessage.dispose();
+            _currentMessage = null;
+        }
+    }
+
     public long getNextDeliveryTag()
     {
         return ++_deliveryTag;
@@ -906,6 +974,7 @@ public class AMQChannel
 
         try
         {
+            discardCurrentMessage();
             unsubscribeAllConsumers();
             setDefaultQueue(null);
             if(_modelObject != null)
@@ -1221,6 +1290,8 @@ public class AMQChannel
 
         if(async && _transaction instanceof LocalTransaction)
         {
+            // commitAsync completes any earlier commit, so a listener registered for it is no longer needed
+            _awaitingAsyncCommit = false;
 
             ((LocalTransaction)_transaction).commitAsync(new Runnable()
             {
@@ -3734,11 +3805,24 @@ public class AMQChannel
     @Override
     public boolean processPending()
     {
-        if (!getAMQPConnection().isIOThread() || isClosing())
+        if (!getAMQPConnection().isIOThread(this) || isClosing())
         {
             return false;
         }
 
+        if (_awaitingAsyncCommit)
+        {
+            AccessController.doPrivileged(new PrivilegedAction<Void>()
+            {
+                @Override
+                public Void run()
+                {
+                    completeAsyncCommitIfPossible();
+                    return null;
+                }
+            }, getAccessControllerContext());
+        }
+
         boolean desiredBlockingState = _blocking.get();
         if (desiredBlockingState != _wireBlockingState)
         {
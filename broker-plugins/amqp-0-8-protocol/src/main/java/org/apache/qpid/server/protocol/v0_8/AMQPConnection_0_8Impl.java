@@ -27,9 +27,11 @@ import java.lang.reflect.Proxy;
 import java.security.AccessControlException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
@@ -1431,6 +1433,20 @@ public class AMQPConnection_0_8Impl
                         };
                     }
                 }
+                else if (_sessionsWithWork.size() > 1 && isParallelSessionProcessingEnabled())
+                {
+                    return new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            // the batch is bounded so that the I/O thread gets back to checking its output buffer
+                            // and time quantum after about the time taken to process a single session
+                            processSessionsInParallel(takeSessionsWithWork(getParallelSessionBatchSize()),
+                                                      _sessionsWithWork);
+                        }
+                    };
+                }
                 else
                 {
                     if (!_sessionIterator.hasNext())
@@ -1471,6 +1487,39 @@ public class AMQPConnection_0_8Impl
             }
         }
 
+        /**
+         * Removes and returns up to the given number of distinct sessions with work, continuing round robin from
+         * where the previous pass left off.
+         */
+        private List<AMQSessionModel<?,?>> takeSessionsWithWork(final int maximum)
+        {
+            final List<AMQSessionModel<?,?>> sessions = new ArrayList<>(maximum);
+            boolean restarted = false;
+            while (sessions.size() < maximum)
+            {
+                if (!_sessionIterator.hasNext())
+                {
+                    if (restarted)
+                    {
+                        break;
+                    }
+                    _sessionIterator = _sessionsWithWork.iterator();
+                    restarted = true;
+                }
+                else
+                {
+                    final AMQSessionModel<?,?> session = _sessionIterator.next();
+                    if (sessions.contains(session))
+                    {
+                        break;
+                    }
+                    _sessionIterator.remove();
+                    sessions.add(session);
+                }
+            }
+            return sessions;
+        }
+
         @Override
         public void remove()
         {
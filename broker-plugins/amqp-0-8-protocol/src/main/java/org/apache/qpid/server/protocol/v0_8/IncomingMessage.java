@@ -21,8 +21,11 @@
 package org.apache.qpid.server.protocol.v0_8;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
 import org.apache.qpid.framing.AMQShortString;
 import org.apache.qpid.framing.ContentBody;
 import org.apache.qpid.framing.ContentHeaderBody;
@@ -31,6 +34,7 @@ import org.apache.qpid.server.message.MessageDestination;
 
 public class IncomingMessage
 {
+    private static final int DEFAULT_ALLOCATION_SIZE = 65536;
 
     private final MessagePublishInfo _messagePublishInfo;
     private ContentHeaderBody _contentHeaderBody;
@@ -40,7 +44,18 @@ public class IncomingMessage
      * Keeps a track of how many bytes we have received in body frames
      */
     private long _bodyLengthReceived = 0;
-    private List<ContentBody> _contentChunks = new ArrayList<ContentBody>();
+
+    /**
+     * Holds the payload of a message whose body arrived in a single frame
+     */
+    private QpidByteBuffer _singleFrameContent;
+
+    /**
+     * Buffers into which the payloads of a message whose body spans several frames are copied as they arrive.
+     * Buffers are allocated only as content is received, so the body size declared by the content header
+     * does not reserve memory up front.
+     */
+    private List<QpidByteBuffer> _content;
 
     public IncomingMessage(MessagePublishInfo info)
     {
@@ -59,11 +74,67 @@ public class IncomingMessage
 
     public long addContentBodyFrame(final ContentBody contentChunk)
     {
-        _bodyLengthReceived += contentChunk.getSize();
-        _contentChunks.add(contentChunk);
+        final int size = contentChunk.getSize();
+        _bodyLengthReceived += size;
+        try
+        {
+            if (size > 0 && _bodyLengthReceived <= getSize())
+            {
+                if (_content == null && _singleFrameContent == null && _bodyLengthReceived == getSize())
+                {
+                    _singleFrameContent = contentChunk.getPayload().duplicate();
+                }
+                else
+                {
+                    appendContent(contentChunk.getPayload());
+                }
+            }
+        }
+        finally
+        {
+            contentChunk.dispose();
+        }
         return _bodyLengthReceived;
     }
 
+    private void appendContent(final QpidByteBuffer payload)
+    {
+        if (_content == null)
+        {
+            _content = new ArrayList<>();
+        }
+
+        final QpidByteBuffer src = payload.duplicate();
+        try
+        {
+            while (src.hasRemaining())
+            {
+                QpidByteBuffer dst = _content.isEmpty() ? null : _content.get(_content.size() - 1);
+                if (dst == null || !dst.hasRemaining())
+                {
+                    final long outstanding = getSize() - (_bodyLengthReceived - src.remaining());
+                    dst = QpidByteBuffer.allocateDirect((int) Math.min(outstanding, getAllocationSize()));
+                    _content.add(dst);
+                }
+                final int length = Math.min(dst.remaining(), src.remaining());
+                final QpidByteBuffer chunk = src.view(0, length);
+                dst.put(chunk);
+                chunk.dispose();
+                src.position(src.position() + length);
+            }
+        }
+        finally
+        {
+            src.dispose();
+        }
+    }
+
+    private static int getAllocationSize()
+    {
+        final int pooledBufferSize = QpidByteBuffer.getPooledBufferSize();
+        return pooledBufferSize > 0 ? pooledBufferSize : DEFAULT_ALLOCATION_SIZE;
+    }
+
     public boolean allContentReceived()
     {
         return (_bodyLengthReceived == getContentHeader().getBodySize());
@@ -94,14 +165,44 @@ public class IncomingMessage
         _messageDestination = e;
     }
 
-    public int getBodyCount()
+    /**
+     * Returns the message content once all of it has been received. The buffers remain owned by this object
+     * and are released by {@link #dispose()}.
+     */
+    public Collection<QpidByteBuffer> getContent()
     {
-        return _contentChunks.size();
+        if (_singleFrameContent != null)
+        {
+            return Collections.singletonList(_singleFrameContent);
+        }
+        else if (_content != null)
+        {
+            for (QpidByteBuffer buf : _content)
+            {
+                buf.flip();
+            }
+            return _content;
+        }
+        else
+        {
+            return Collections.emptyList();
+        }
     }
 
-    public ContentBody getContentChunk(int index)
+    public void dispose()
     {
-        return _contentChunks.get(index);
+        if (_singleFrameContent != null)
+        {
+            _singleFrameContent.dispose();
+            _singleFrameContent = null;
+        }
+        if (_content != null)
+        {
+            for (QpidByteBuffer buf : _content)
+            {
+                buf.dispose();
+            }
+            _content = null;
+        }
     }
-
 }
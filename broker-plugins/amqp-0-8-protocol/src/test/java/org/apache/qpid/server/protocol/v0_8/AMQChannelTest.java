@@ -27,6 +27,8 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -34,6 +36,7 @@ import static org.mockito.Mockito.when;
 import java.security.AccessControlException;
 import java.security.Principal;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import javax.security.auth.Subject;
@@ -42,8 +45,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.framing.AMQBody;
+import org.apache.qpid.framing.AMQDataBlock;
+import org.apache.qpid.framing.AMQFrame;
 import org.apache.qpid.framing.AMQShortString;
+import org.apache.qpid.framing.BasicAckBody;
 import org.apache.qpid.framing.BasicContentHeaderProperties;
+import org.apache.qpid.framing.BasicNackBody;
 import org.apache.qpid.framing.MethodRegistry;
 import org.apache.qpid.framing.ProtocolVersion;
 import org.apache.qpid.protocol.ErrorCodes;
@@ -205,6 +214,30 @@ public class AMQChannelTest extends QpidTestCase
         verifyZeroInteractions(_messageDestination);
     }
 
+    public void testMessageContentDiscardedWhenMessageAuthorizationFails() throws Exception
+    {
+        final String impostorId = "impostor";
+        doThrow(new AccessControlException("fail")).when(_amqConnection).checkAuthorizedMessagePrincipal(eq(impostorId));
+        when(_virtualHost.getDefaultDestination()).thenReturn(mock(MessageDestination.class));
+
+        int channelId = 1;
+        AMQChannel channel = new AMQChannel(_amqConnection, channelId, _messageStore);
+
+        BasicContentHeaderProperties properties = new BasicContentHeaderProperties();
+        properties.setUserId(impostorId);
+        channel.receiveBasicPublish(AMQShortString.EMPTY_STRING, AMQShortString.EMPTY_STRING, false, false);
+        channel.receiveMessageHeader(properties, 100);
+        channel.receiveMessageContent(QpidByteBuffer.wrap(new byte[60]));
+        channel.receiveMessageContent(QpidByteBuffer.wrap(new byte[40]));
+
+        verify(_amqConnection).sendConnectionClose(eq(ErrorCodes.ACCESS_REFUSED), anyString(), eq(channelId));
+
+        // the refused message must no longer be held by the channel
+        channel.receiveMessageContent(QpidByteBuffer.wrap(new byte[10]));
+        verify(_amqConnection).sendConnectionClose(eq(ErrorCodes.COMMAND_INVALID), anyString(), eq(channelId));
+        verifyZeroInteractions(_messageStore);
+    }
+
     public void testPublishContentHeaderWhenMessageAuthorizationSucceeds() throws Exception
     {
         when(_virtualHost.getDefaultDestination()).thenReturn(_messageDestination);
@@ -238,4 +271,90 @@ public class AMQChannelTest extends QpidTestCase
                                          eq(ROUTING_KEY.toString()),
                                          any(InstanceProperties.class));
     }
+
+    public void testPublisherConfirmsCoalescedIntoSingleAck() throws Exception
+    {
+        AMQChannel channel = createConfirmingChannel();
+
+        publishMessage(channel, false);
+        publishMessage(channel, false);
+        publishMessage(channel, false);
+
+        verify(_amqConnection, never()).writeFrame(any(AMQDataBlock.class));
+
+        channel.receivedComplete();
+
+        final ArgumentCaptor<AMQDataBlock> frameCaptor = ArgumentCaptor.forClass(AMQDataBlock.class);
+        verify(_amqConnection).writeFrame(frameCaptor.capture());
+        assertAck(frameCaptor.getValue(), 3, true);
+
+        channel.receivedComplete();
+        verify(_amqConnection).writeFrame(any(AMQDataBlock.class));
+    }
+
+    public void testPublisherNackSentAfterPendingAcks() throws Exception
+    {
+        AMQChannel channel = createConfirmingChannel();
+
+        publishMessage(channel, false);
+        publishMessage(channel, false);
+        publishMessage(channel, true);
+        channel.receivedComplete();
+        publishMessage(channel, false);
+        channel.receivedComplete();
+
+        final ArgumentCaptor<AMQDataBlock> frameCaptor = ArgumentCaptor.forClass(AMQDataBlock.class);
+        verify(_amqConnection, times(3)).writeFrame(frameCaptor.capture());
+        List<AMQDataBlock> frames = frameCaptor.getAllValues();
+
+        assertAck(frames.get(0), 2, true);
+
+        AMQBody nack = ((AMQFrame) frames.get(1)).getBodyFrame();
+        assertTrue("Unexpected frame " + nack, nack instanceof BasicNackBody);
+        assertEquals("Unexpected nack delivery tag", 3, ((BasicNackBody) nack).getDeliveryTag());
+        assertFalse("Nack should not be multiple", ((BasicNackBody) nack).getMultiple());
+
+        assertAck(frames.get(2), 4, false);
+    }
+
+    private AMQChannel createConfirmingChannel() throws Exception
+    {
+        when(_virtualHost.getDefaultDestination()).thenReturn(_messageDestination);
+        when(_virtualHost.getMessageStore()).thenReturn(new NullMessageStore()
+        {
+            @Override
+            public <T extends StorableMessageMetaData> MessageHandle<T> addMessage(final T metaData)
+            {
+                MessageHandle messageHandle = new StoredMemoryMessage(1, metaData);
+                return messageHandle;
+            }
+        });
+        when(_messageDestination.route(any(ServerMessage.class), anyString(), any(InstanceProperties.class))).thenAnswer(new Answer()
+        {
+            @Override
+            public Object answer(final InvocationOnMock invocation) throws Throwable
+            {
+                // no queues are bound, so every message is unroutable
+                return new RoutingResult((ServerMessage) invocation.getArguments()[0]);
+            }
+        });
+
+        AMQChannel channel = new AMQChannel(_amqConnection, 1, _virtualHost.getMessageStore());
+        channel.receiveConfirmSelect(true);
+        return channel;
+    }
+
+    private void publishMessage(final AMQChannel channel, final boolean mandatory)
+    {
+        channel.receiveBasicPublish(AMQShortString.EMPTY_STRING, ROUTING_KEY, mandatory, false);
+        channel.receiveMessageHeader(new BasicContentHeaderProperties(), 0);
+    }
+
+    private void assertAck(final AMQDataBlock frame, final long deliveryTag, final boolean multiple)
+    {
+        AMQBody body = ((AMQFrame) frame).getBodyFrame();
+        assertTrue("Unexpected frame " + body, body instanceof BasicAckBody);
+        assertEquals("Unexpected ack delivery tag", deliveryTag, ((BasicAckBody) body).getDeliveryTag());
+        assertEquals("Unexpected ack multiple flag", multiple, ((BasicAckBody) body).getMultiple());
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.protocol.v0_8;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.framing.BasicContentHeaderProperties;
+import org.apache.qpid.framing.ContentBody;
+import org.apache.qpid.framing.ContentHeaderBody;
+import org.apache.qpid.framing.MessagePublishInfo;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class IncomingMessageTest extends QpidTestCase
+{
+    public void testSingleFrameContent()
+    {
+        byte[] body = createBody(100);
+        IncomingMessage message = createMessage(body.length);
+
+        assertEquals(100L, message.addContentBodyFrame(new ContentBody(QpidByteBuffer.wrap(body))));
+        assertTrue(message.allContentReceived());
+        assertTrue("Unexpected content", Arrays.equals(body, toArray(message.getContent())));
+        message.dispose();
+    }
+
+    public void testMultipleFrameContent()
+    {
+        byte[] body = createBody(10000);
+        IncomingMessage message = createMessage(body.length);
+
+        for (int offset = 0; offset < body.length; offset += 3000)
+        {
+            int length = Math.min(3000, body.length - offset);
+            message.addContentBodyFrame(new ContentBody(QpidByteBuffer.wrap(body, offset, length)));
+        }
+
+        assertTrue(message.allContentReceived());
+        assertTrue("Unexpected content", Arrays.equals(body, toArray(message.getContent())));
+        message.dispose();
+    }
+
+    public void testExcessContentIsDiscarded()
+    {
+        byte[] body = createBody(100);
+        IncomingMessage message = createMessage(50);
+
+        message.addContentBodyFrame(new ContentBody(QpidByteBuffer.wrap(body, 0, 40)));
+        assertEquals(100L, message.addContentBodyFrame(new ContentBody(QpidByteBuffer.wrap(body, 40, 60))));
+        message.dispose();
+    }
+
+    public void testContentAllocatedAsItArrives()
+    {
+        byte[] body = createBody(200);
+        IncomingMessage message = createMessage(3L * 1024 * 1024 * 1024);
+
+        message.addContentBodyFrame(new ContentBody(QpidByteBuffer.wrap(body, 0, 100)));
+        message.addContentBodyFrame(new ContentBody(QpidByteBuffer.wrap(body, 100, 100)));
+
+        assertFalse(message.allContentReceived());
+        Collection<QpidByteBuffer> content = message.getContent();
+        long allocated = 0;
+        for (QpidByteBuffer buf : content)
+        {
+            allocated += buf.capacity();
+        }
+        assertTrue("Unexpected allocation for declared body size: " + allocated, allocated <= 65536);
+        assertTrue("Unexpected content", Arrays.equals(body, toArray(content)));
+        message.dispose();
+    }
+
+    public void testDisposeReleasesContent()
+    {
+        byte[] body = createBody(10000);
+        IncomingMessage message = createMessage(body.length);
+
+        message.addContentBodyFrame(new ContentBody(QpidByteBuffer.wrap(body, 0, 3000)));
+        message.dispose();
+
+        assertTrue("Content should have been released", message.getContent().isEmpty());
+    }
+
+    private IncomingMessage createMessage(long bodySize)
+    {
+        IncomingMessage message = new IncomingMessage(new MessagePublishInfo());
+        message.setContentHeaderBody(new ContentHeaderBody(new BasicContentHeaderProperties(), bodySize));
+        return message;
+    }
+
+    private static byte[] createBody(int size)
+    {
+        byte[] body = new byte[size];
+        for (int i = 0; i < size; i++)
+        {
+            body[i] = (byte) i;
+        }
+        return body;
+    }
+
+    private static byte[] toArray(Collection<QpidByteBuffer> content)
+    {
+        int size = 0;
+        for (QpidByteBuffer buf : content)
+        {
+            size += buf.remaining();
+        }
+        byte[] data = new byte[size];
+        ByteBuffer dst = ByteBuffer.wrap(data);
+        for (QpidByteBuffer buf : content)
+        {
+            buf.copyTo(dst);
+        }
+        return data;
+    }
+}
@@ -91,6 +91,7 @@ import org.apache.qpid.server.protocol.v1_0.type.messaging.Source;
 import org.apache.qpid.server.protocol.v1_0.type.messaging.Target;
 import org.apache.qpid.server.protocol.v1_0.type.messaging.TerminusDurability;
 import org.apache.qpid.server.protocol.v1_0.type.transaction.Coordinator;
+import org.apache.qpid.server.protocol.v1_0.type.transaction.TransactionalState;
 import org.apache.qpid.server.protocol.v1_0.type.transaction.TxnCapability;
 import org.apache.qpid.server.protocol.v1_0.type.transport.AmqpError;
 import org.apache.qpid.server.protocol.v1_0.type.transport.Attach;
@@ -108,6 +109,7 @@ import org.apache.qpid.server.security.SecurityToken;
 import org.apache.qpid.server.store.TransactionLogResource;
 import org.apache.qpid.server.transport.AMQPConnection;
 import org.apache.qpid.server.txn.AutoCommitTransaction;
+import org.apache.qpid.server.txn.LocalTransaction;
 import org.apache.qpid.server.txn.ServerTransaction;
 import org.apache.qpid.server.util.Action;
 import org.apache.qpid.server.util.ConnectionScopedRuntimeException;
@@ -124,6 +126,7 @@ public class Session_1_0 implements AMQSessionModel<Session_1_0, ConsumerTarget_
     private final SecurityToken _securityToken;
     private final ChannelLogSubject _logSubject;
     private AutoCommitTransaction _transaction;
+    private LocalTransaction _dispositionTransaction;
 
     private final LinkedHashMap<Integer, ServerTransaction> _openTransactions =
             new LinkedHashMap<Integer, ServerTransaction>();
@@ -531,22 +534,56 @@ public class Session_1_0 implements AMQSessionModel<Session_1_0, ConsumerTarget_
             last = deliveryId;
         }
 
-
-        while(deliveryId.compareTo(last)<=0)
+        // A settled, non-transactional disposition of a range of outgoing deliveries is applied in a single local
+        // transaction so that all the resulting dequeues share one store commit.  The deliveries are settled once
+        // that commit completes.
+        final LocalTransaction rangeTransaction;
+        if(dispositionRole == Role.RECEIVER
+           && Boolean.TRUE.equals(disposition.getSettled())
+           && !(disposition.getState() instanceof TransactionalState)
+           && deliveryId.compareTo(last) < 0)
         {
+            rangeTransaction = new LocalTransaction(_connection.getAddressSpace().getMessageStore());
+            _dispositionTransaction = rangeTransaction;
+        }
+        else
+        {
+            rangeTransaction = null;
+        }
 
-            Delivery delivery = unsettledTransfers.get(deliveryId);
-            if(delivery != null)
+        try
+        {
+            while(deliveryId.compareTo(last)<=0)
             {
-                delivery.getLinkEndpoint().receiveDeliveryState(delivery,
-                                                                disposition.getState(),
-                                                                disposition.getSettled());
-                if (Boolean.TRUE.equals(disposition.getSettled()))
+
+                Delivery delivery = unsettledTransfers.get(deliveryId);
+                if(delivery != null)
                 {
-                    unsettledTransfers.remove(deliveryId);
+                    delivery.getLinkEndpoint().receiveDeliveryState(delivery,
+                                                                    disposition.getState(),
+                                                                    disposition.getSettled());
+                    if (Boolean.TRUE.equals(disposition.getSettled()))
+                    {
+                        unsettledTransfers.remove(deliveryId);
+                    }
                 }
+                deliveryId = deliveryId.add(UnsignedInteger.ONE);
             }
-            deliveryId = deliveryId.add(UnsignedInteger.ONE);
+        }
+        catch(RuntimeException e)
+        {
+            if(rangeTransaction != null)
+            {
+                _dispositionTransaction = null;
+                rangeTransaction.rollback();
+            }
+            throw e;
+        }
+
+        if(rangeTransaction != null)
+        {
+            _dispositionTransaction = null;
+            rangeTransaction.commit();
         }
         if(Boolean.TRUE.equals(disposition.getSettled()))
         {
@@ -1217,6 +1254,10 @@ public class Session_1_0 implements AMQSessionModel<Session_1_0, ConsumerTarget_
         ServerTransaction transaction = _openTransactions.get(binaryToInteger(transactionId));
         if(transactionId == null)
         {
+            if(_dispositionTransaction != null)
+            {
+                return _dispositionTransaction;
+            }
             if(_transaction == null)
             {
                 _transaction = new AutoCommitTransaction(_connection.getAddressSpace().getMessageStore());
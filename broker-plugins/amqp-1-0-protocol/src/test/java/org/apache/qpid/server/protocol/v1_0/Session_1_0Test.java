@@ -0,0 +1,194 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.protocol.v1_0;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.security.auth.Subject;
+
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.apache.qpid.bytebuffer.QpidByteBuffer;
+import org.apache.qpid.server.protocol.v1_0.type.Binary;
+import org.apache.qpid.server.protocol.v1_0.type.DeliveryState;
+import org.apache.qpid.server.protocol.v1_0.type.UnsignedInteger;
+import org.apache.qpid.server.protocol.v1_0.type.messaging.Accepted;
+import org.apache.qpid.server.protocol.v1_0.type.transport.Disposition;
+import org.apache.qpid.server.protocol.v1_0.type.transport.Role;
+import org.apache.qpid.server.protocol.v1_0.type.transport.Transfer;
+import org.apache.qpid.server.store.MessageEnqueueRecord;
+import org.apache.qpid.server.store.MessageStore;
+import org.apache.qpid.server.store.Transaction;
+import org.apache.qpid.server.txn.AutoCommitTransaction;
+import org.apache.qpid.server.txn.LocalTransaction;
+import org.apache.qpid.server.txn.ServerTransaction;
+import org.apache.qpid.server.virtualhost.QueueManagingVirtualHost;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class Session_1_0Test extends QpidTestCase
+{
+    private MessageStore _messageStore;
+    private Transaction _storeTransaction;
+    private Session_1_0 _session;
+    private SendingLinkEndpoint _endpoint;
+    private List<ServerTransaction> _dispositionTransactions;
+    private int _postCommitCount;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        _storeTransaction = mock(Transaction.class);
+        _messageStore = mock(MessageStore.class);
+        when(_messageStore.newTransaction()).thenReturn(_storeTransaction);
+
+        QueueManagingVirtualHost<?> virtualHost = mock(QueueManagingVirtualHost.class);
+        when(virtualHost.getMessageStore()).thenReturn(_messageStore);
+
+        AMQPConnection_1_0 connection = mock(AMQPConnection_1_0.class);
+        when(connection.getSubject()).thenReturn(new Subject());
+        when(connection.getAddressSpace()).thenReturn(virtualHost);
+
+        _session = new Session_1_0(connection);
+        _session.setOutgoingSessionCredit(UnsignedInteger.valueOf(100));
+
+        // settling a delivery dequeues its message in the session's current transaction, as the consumer target does
+        _dispositionTransactions = new ArrayList<>();
+        _endpoint = mock(SendingLinkEndpoint.class);
+        doAnswer(new Answer<Void>()
+        {
+            @Override
+            public Void answer(final InvocationOnMock invocation) throws Throwable
+            {
+                ServerTransaction transaction = _session.getTransaction(null);
+                _dispositionTransactions.add(transaction);
+                transaction.dequeue(mock(MessageEnqueueRecord.class), new ServerTransaction.Action()
+                {
+                    @Override
+                    public void postCommit()
+                    {
+                        _postCommitCount++;
+                    }
+
+                    @Override
+                    public void onRollback()
+                    {
+                    }
+                });
+                return null;
+            }
+        }).when(_endpoint).receiveDeliveryState(any(Delivery.class), any(DeliveryState.class), any(Boolean.class));
+    }
+
+    public void testSettledRangeDispositionCommittedOnce() throws Exception
+    {
+        sendUnsettledTransfers(4);
+
+        _session.receiveDisposition(createDisposition(0, 3));
+
+        verify(_messageStore, times(1)).newTransaction();
+        InOrder inOrder = inOrder(_storeTransaction);
+        inOrder.verify(_storeTransaction, times(4)).dequeueMessage(any(MessageEnqueueRecord.class));
+        inOrder.verify(_storeTransaction, times(1)).commitTran();
+        verify(_storeTransaction, never()).abortTran();
+
+        assertEquals("Unexpected number of settled deliveries", 4, _postCommitCount);
+        assertEquals("Unexpected number of transactions", 4, _dispositionTransactions.size());
+        for (ServerTransaction transaction : _dispositionTransactions)
+        {
+            assertTrue("Range should be applied in a local transaction", transaction instanceof LocalTransaction);
+            assertSame("Range should be applied in a single transaction",
+                       _dispositionTransactions.get(0), transaction);
+        }
+        assertTrue("Auto commit transaction should be used after the range",
+                   _session.getTransaction(null) instanceof AutoCommitTransaction);
+    }
+
+    public void testSettledRangeDispositionSpanningUnknownDeliveries() throws Exception
+    {
+        sendUnsettledTransfers(4);
+
+        // delivery 1 is settled on its own and so is unknown to the range which follows
+        _session.receiveDisposition(createDisposition(1, 1));
+        assertTrue("Single delivery should be settled in the auto commit transaction",
+                   _dispositionTransactions.get(0) instanceof AutoCommitTransaction);
+        verify(_messageStore, times(1)).newTransaction();
+        verify(_storeTransaction, times(1)).commitTran();
+
+        _session.receiveDisposition(createDisposition(0, 7));
+
+        verify(_messageStore, times(2)).newTransaction();
+        verify(_storeTransaction, times(4)).dequeueMessage(any(MessageEnqueueRecord.class));
+        verify(_storeTransaction, times(2)).commitTran();
+        verify(_endpoint, times(4)).receiveDeliveryState(any(Delivery.class),
+                                                         any(DeliveryState.class),
+                                                         any(Boolean.class));
+
+        assertEquals("Unexpected number of settled deliveries", 4, _postCommitCount);
+        List<ServerTransaction> rangeTransactions = _dispositionTransactions.subList(1, 4);
+        for (ServerTransaction transaction : rangeTransactions)
+        {
+            assertSame("Range should be applied in a single transaction", rangeTransactions.get(0), transaction);
+        }
+
+        // the deliveries of the range have been settled, so a repeated disposition has nothing to do
+        _session.receiveDisposition(createDisposition(0, 3));
+        verify(_messageStore, times(2)).newTransaction();
+        verify(_storeTransaction, times(2)).commitTran();
+        assertEquals("Unexpected number of settled deliveries", 4, _postCommitCount);
+    }
+
+    private void sendUnsettledTransfers(final int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            Transfer transfer = new Transfer();
+            transfer.setDeliveryTag(new Binary(new byte[]{(byte) i}));
+            transfer.setSettled(false);
+            transfer.setPayload(Collections.<QpidByteBuffer>emptyList());
+            _session.sendTransfer(transfer, _endpoint, true);
+        }
+    }
+
+    private Disposition createDisposition(final int first, final int last)
+    {
+        Disposition disposition = new Disposition();
+        disposition.setRole(Role.RECEIVER);
+        disposition.setFirst(UnsignedInteger.valueOf(first));
+        disposition.setLast(UnsignedInteger.valueOf(last));
+        disposition.setSettled(true);
+        disposition.setState(new Accepted());
+        return disposition;
+    }
+}
@@ -34,17 +34,23 @@ import org.apache.qpid.server.model.Param;
 public interface BrokerMemoryLogger<X extends BrokerMemoryLogger<X>> extends BrokerLogger<X>
 {
     String MAX_RECORDS = "maxRecords";
+    String MAX_BUFFER_SIZE = "maxBufferSize";
 
     String TYPE = "Memory";
 
     String BROKERMEMORYLOGGER_MAX_RECORD_LIMIT_VAR  = "brokermemorylogger.max_record_limit";
 
     @ManagedContextDefault(name = BROKERMEMORYLOGGER_MAX_RECORD_LIMIT_VAR)
-    int MAX_RECORD_LIMIT = 16384;
+    int MAX_RECORD_LIMIT = 1048576;
+
+    int MIN_BUFFER_SIZE = 65536;
 
     @ManagedAttribute( defaultValue = "4096" )
     int getMaxRecords();
 
+    @ManagedAttribute( defaultValue = "16777216", description = "The maximum number of bytes of (off-heap) memory used to hold log records")
+    int getMaxBufferSize();
+
     @ManagedOperation(nonModifying = true, changesConfiguredObjectState = false)
     Collection<LogRecord> getLogEntries(@Param(name="lastLogId", defaultValue="0") long lastLogId);
 
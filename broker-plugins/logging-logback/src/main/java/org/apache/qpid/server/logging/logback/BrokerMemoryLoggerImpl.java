@@ -20,9 +20,7 @@
  */
 package org.apache.qpid.server.logging.logback;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,6 +38,8 @@ public class BrokerMemoryLoggerImpl extends AbstractBrokerLogger<BrokerMemoryLog
 {
     @ManagedAttributeField
     private int _maxRecords;
+    @ManagedAttributeField
+    private int _maxBufferSize;
     private LogRecorder _logRecorder;
 
     @ManagedObjectFactoryConstructor
@@ -54,12 +54,19 @@ public class BrokerMemoryLoggerImpl extends AbstractBrokerLogger<BrokerMemoryLog
         return _maxRecords;
     }
 
+    @Override
+    public int getMaxBufferSize()
+    {
+        return _maxBufferSize;
+    }
+
     @Override
     protected void postResolveChildren()
     {
         // Validate early (i.e. rather than onValidate) as super.postResolveChildren() creates the buffer
         int maxRecords = getMaxRecords();
         validateLimits(maxRecords);
+        validateBufferSize(getMaxBufferSize());
 
         super.postResolveChildren();
     }
@@ -74,6 +81,18 @@ public class BrokerMemoryLoggerImpl extends AbstractBrokerLogger<BrokerMemoryLog
             final int maxRecords = brokerMemoryLogger.getMaxRecords();
             validateLimits(maxRecords);
         }
+        if (changedAttributes.contains(MAX_BUFFER_SIZE))
+        {
+            validateBufferSize(brokerMemoryLogger.getMaxBufferSize());
+        }
+    }
+
+    private void validateBufferSize(int maxBufferSize)
+    {
+        if (maxBufferSize < MIN_BUFFER_SIZE)
+        {
+            throw new IllegalConfigurationException(String.format("Maximum buffer size (%d) must be at least %d bytes", maxBufferSize, MIN_BUFFER_SIZE));
+        }
     }
 
     private void validateLimits(int maxRecords)
@@ -95,7 +114,7 @@ public class BrokerMemoryLoggerImpl extends AbstractBrokerLogger<BrokerMemoryLog
         {
             throw new IllegalStateException("RecordEventAppender is already created");
         }
-        RecordEventAppender appender =  new RecordEventAppender(getMaxRecords());
+        RecordEventAppender appender =  new RecordEventAppender(getMaxRecords(), getMaxBufferSize());
         _logRecorder = new LogRecorder(appender);
         return appender;
     }
@@ -103,15 +122,7 @@ public class BrokerMemoryLoggerImpl extends AbstractBrokerLogger<BrokerMemoryLog
     @Override
     public Collection<LogRecord> getLogEntries(long lastLogId)
     {
-        List<LogRecord> logRecords = new ArrayList<>();
-        for(LogRecord record : _logRecorder)
-        {
-            if (record.getId() > lastLogId)
-            {
-                logRecords.add(record);
-            }
-        }
-        return logRecords;
+        return _logRecorder.getRecordsAfter(lastLogId);
     }
 
 }
@@ -0,0 +1,328 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.logging.logback;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Holds the most recent logging events as compact binary records in a fixed size, direct (off-heap)
+ * ring buffer, evicting the oldest records when either the byte capacity or the maximum number of
+ * records would be exceeded.
+ * <p>
+ * Logger names, thread names and the message patterns of parameterised events are interned in a
+ * bounded string table so that records refer to them by index; other strings (including the
+ * arguments of parameterised events) are stored inline as UTF-8. Records are materialised as
+ * {@link LogRecord}s only when they are retrieved; retrieval copies the raw records under the lock and
+ * decodes them outside it, so that appending threads are not held up by a large retrieval.
+ * <p>
+ * Record layout: record length (int), timestamp (long), level (int), logger, thread and message
+ * (string references), argument count (short) followed by the arguments (inline strings).
+ * A string reference is either a non-negative index into the string table or, if negative,
+ * the negated (length + 1) of the inline UTF-8 bytes which follow it.
+ */
+class LogRecordBuffer
+{
+    static final int MAXIMUM_STRING_TABLE_SIZE = 65536;
+    static final int MAXIMUM_MESSAGE_LENGTH = 8192;
+
+    private static final int HEADER_SIZE = 4 + 8 + 4;
+    private static final int INITIAL_STRING_TABLE_SIZE = 64;
+
+    private final ByteBuffer _data;
+    private final int _maxRecords;
+    private final int[] _offsets;
+
+    private final Map<String, Integer> _stringIndexes = new HashMap<>();
+    /** Entries are never changed once written, so a reader may use a copy of the reference taken under the lock */
+    private String[] _strings = new String[INITIAL_STRING_TABLE_SIZE];
+    private int _stringCount;
+
+    private long _firstId;
+    private long _nextId;
+    private int _writePosition;
+
+    LogRecordBuffer(final int maxRecords, final int capacity, final long firstId)
+    {
+        _maxRecords = maxRecords;
+        _offsets = new int[maxRecords];
+        _data = ByteBuffer.allocateDirect(capacity);
+        _firstId = firstId;
+        _nextId = firstId;
+    }
+
+    synchronized long add(ILoggingEvent event)
+    {
+        final Object[] arguments = event.getArgumentArray();
+        final boolean parameterised = arguments != null && arguments.length > 0 && !hasArrayArgument(arguments);
+
+        final String message = truncate(parameterised ? event.getMessage() : event.getFormattedMessage());
+        final byte[] loggerBytes = bytesIfNotInterned(event.getLoggerName(), true);
+        final byte[] threadBytes = bytesIfNotInterned(event.getThreadName(), true);
+        final byte[] messageBytes = bytesIfNotInterned(message, parameterised);
+
+        final byte[][] argumentBytes = new byte[parameterised ? arguments.length : 0][];
+        int length = HEADER_SIZE + stringSize(loggerBytes) + stringSize(threadBytes) + stringSize(messageBytes) + 2;
+        for (int i = 0; i < argumentBytes.length; i++)
+        {
+            argumentBytes[i] = toBytes(truncate(String.valueOf(arguments[i])));
+            length += stringSize(argumentBytes[i]);
+        }
+
+        if (length > _data.capacity())
+        {
+            return -1L;
+        }
+
+        final int position = reserve(length);
+        _data.position(position);
+        _data.putInt(length);
+        _data.putLong(event.getTimeStamp());
+        _data.putInt(event.getLevel().toInt());
+        putString(event.getLoggerName(), loggerBytes);
+        putString(event.getThreadName(), threadBytes);
+        putString(message, messageBytes);
+        _data.putShort((short) argumentBytes.length);
+        for (byte[] argument : argumentBytes)
+        {
+            putString(null, argument);
+        }
+        _writePosition = _data.position();
+
+        final long id = _nextId++;
+        _offsets[(int) (id % _maxRecords)] = position;
+        return id;
+    }
+
+    /**
+     * Returns the records with an id greater than the given id, oldest first.
+     */
+    List<LogRecord> getRecordsAfter(long lastId)
+    {
+        final long first;
+        final int count;
+        final byte[] recordData;
+        final String[] strings;
+        synchronized (this)
+        {
+            first = Math.max(lastId + 1, _firstId);
+            if (first >= _nextId)
+            {
+                return Collections.emptyList();
+            }
+            count = (int) (_nextId - first);
+            int totalLength = 0;
+            for (long id = first; id < _nextId; id++)
+            {
+                totalLength += _data.getInt(offsetOf(id));
+            }
+
+            recordData = new byte[totalLength];
+            final ByteBuffer source = _data.duplicate();
+            int copied = 0;
+            for (long id = first; id < _nextId; id++)
+            {
+                final int offset = offsetOf(id);
+                final int length = _data.getInt(offset);
+                source.position(offset);
+                source.get(recordData, copied, length);
+                copied += length;
+            }
+            strings = _strings;
+        }
+
+        final ByteBuffer data = ByteBuffer.wrap(recordData);
+        final List<LogRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            records.add(read(first + i, data, strings));
+        }
+        return records;
+    }
+
+    synchronized long getLastId()
+    {
+        return _nextId - 1;
+    }
+
+    synchronized int size()
+    {
+        return (int) (_nextId - _firstId);
+    }
+
+    /**
+     * Decodes the record starting at the current position of the given data, leaving the position at the start
+     * of the next record.
+     */
+    private static LogRecord read(final long id, final ByteBuffer data, final String[] strings)
+    {
+        final int start = data.position();
+        final int length = data.getInt();
+        final long timestamp = data.getLong();
+        final Level level = Level.toLevel(data.getInt());
+        final String logger = getString(data, strings);
+        final String thread = getString(data, strings);
+        final String message = getString(data, strings);
+        final int argumentCount = data.getShort();
+        final String formattedMessage;
+        if (argumentCount > 0)
+        {
+            final Object[] arguments = new Object[argumentCount];
+            for (int i = 0; i < argumentCount; i++)
+            {
+                arguments[i] = getString(data, strings);
+            }
+            formattedMessage = MessageFormatter.arrayFormat(message, arguments).getMessage();
+        }
+        else
+        {
+            formattedMessage = message;
+        }
+        data.position(start + length);
+        return new LogRecord(id, timestamp, thread, level.toString(), formattedMessage, logger);
+    }
+
+    /**
+     * Evicts the oldest records until a record of the given length can be written contiguously,
+     * returning the position at which it should be written.
+     */
+    private int reserve(final int length)
+    {
+        if (_nextId - _firstId == _maxRecords)
+        {
+            _firstId++;
+        }
+
+        int position = _writePosition;
+        if (position + length > _data.capacity())
+        {
+            // records never wrap, so the older records beyond the write position are evicted first
+            while (_firstId < _nextId && offsetOf(_firstId) >= position)
+            {
+                _firstId++;
+            }
+            position = 0;
+        }
+        while (_firstId < _nextId
+               && offsetOf(_firstId) >= position
+               && offsetOf(_firstId) < position + length)
+        {
+            _firstId++;
+        }
+        return position;
+    }
+
+    private int offsetOf(final long id)
+    {
+        return _offsets[(int) (id % _maxRecords)];
+    }
+
+    private byte[] bytesIfNotInterned(final String value, final boolean internable)
+    {
+        if (value == null)
+        {
+            return new byte[0];
+        }
+        if (internable)
+        {
+            if (_stringIndexes.containsKey(value))
+            {
+                return null;
+            }
+            if (_stringCount < MAXIMUM_STRING_TABLE_SIZE)
+            {
+                if (_stringCount == _strings.length)
+                {
+                    // readers may hold the old table, so it is replaced rather than modified
+                    _strings = Arrays.copyOf(_strings, Math.min(_strings.length * 2, MAXIMUM_STRING_TABLE_SIZE));
+                }
+                _strings[_stringCount] = value;
+                _stringIndexes.put(value, _stringCount++);
+                return null;
+            }
+        }
+        return toBytes(value);
+    }
+
+    private void putString(final String value, final byte[] bytes)
+    {
+        if (bytes == null)
+        {
+            _data.putInt(_stringIndexes.get(value));
+        }
+        else
+        {
+            _data.putInt(-(bytes.length + 1));
+            _data.put(bytes);
+        }
+    }
+
+    private static String getString(final ByteBuffer data, final String[] strings)
+    {
+        final int reference = data.getInt();
+        if (reference >= 0)
+        {
+            return strings[reference];
+        }
+        final byte[] bytes = new byte[-reference - 1];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(final byte[] bytes)
+    {
+        return bytes == null ? 4 : 4 + bytes.length;
+    }
+
+    private static byte[] toBytes(final String value)
+    {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String truncate(final String value)
+    {
+        return value != null && value.length() > MAXIMUM_MESSAGE_LENGTH
+                ? value.substring(0, MAXIMUM_MESSAGE_LENGTH)
+                : value;
+    }
+
+    private static boolean hasArrayArgument(final Object[] arguments)
+    {
+        for (Object argument : arguments)
+        {
+            if (argument != null && argument.getClass().isArray())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
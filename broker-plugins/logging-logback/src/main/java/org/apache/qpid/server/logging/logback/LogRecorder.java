@@ -19,8 +19,7 @@ package org.apache.qpid.server.logging.logback;
 
 import java.util.Collections;
 import java.util.Iterator;
-
-import ch.qos.logback.core.helpers.CyclicBuffer;
+import java.util.List;
 
 public class LogRecorder implements Iterable<LogRecord>
 {
@@ -35,8 +34,12 @@ public class LogRecorder implements Iterable<LogRecord>
     @Override
     public Iterator<LogRecord> iterator()
     {
-        final CyclicBuffer<LogRecord> buffer = _eventAppender.getBuffer();
-        return buffer != null ?  buffer.asList().iterator() : Collections.<LogRecord>emptyIterator();
+        return getRecordsAfter(0L).iterator();
     }
 
+    public List<LogRecord> getRecordsAfter(long lastLogId)
+    {
+        final LogRecordBuffer buffer = _eventAppender.getBuffer();
+        return buffer != null ? buffer.getRecordsAfter(lastLogId) : Collections.<LogRecord>emptyList();
+    }
 }
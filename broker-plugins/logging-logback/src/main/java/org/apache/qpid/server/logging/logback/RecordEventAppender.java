@@ -20,33 +20,36 @@
  */
 package org.apache.qpid.server.logging.logback;
 
-import java.util.concurrent.atomic.AtomicLong;
-
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
-import ch.qos.logback.core.helpers.CyclicBuffer;
 
 public class RecordEventAppender extends AppenderBase<ILoggingEvent>
 {
 
-    private CyclicBuffer<LogRecord> _buffer;
+    private volatile LogRecordBuffer _buffer;
     private final int _size;
-    private AtomicLong _recordId;
+    private final int _bufferSize;
+    private long _lastRecordId;
 
-    RecordEventAppender(final int size)
+    RecordEventAppender(final int size, final int bufferSize)
     {
         _size = size;
-        _recordId = new AtomicLong();
+        _bufferSize = bufferSize;
     }
 
     public void start()
     {
-        _buffer = new CyclicBuffer<>(_size);
+        _buffer = new LogRecordBuffer(_size, _bufferSize, _lastRecordId + 1);
         super.start();
     }
 
     public void stop()
     {
+        LogRecordBuffer buffer = _buffer;
+        if (buffer != null)
+        {
+            _lastRecordId = buffer.getLastId();
+        }
         _buffer = null;
         super.stop();
     }
@@ -54,13 +57,14 @@ public class RecordEventAppender extends AppenderBase<ILoggingEvent>
     @Override
     protected void append(ILoggingEvent eventObject)
     {
-        if (isStarted())
+        LogRecordBuffer buffer = _buffer;
+        if (isStarted() && buffer != null)
         {
-            _buffer.add(new LogRecord(_recordId.incrementAndGet(), eventObject));
+            buffer.add(eventObject);
         }
     }
 
-    public CyclicBuffer<LogRecord> getBuffer()
+    LogRecordBuffer getBuffer()
     {
         return _buffer;
     }
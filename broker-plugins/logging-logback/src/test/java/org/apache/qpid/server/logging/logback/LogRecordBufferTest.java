@@ -0,0 +1,163 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.logging.logback;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class LogRecordBufferTest extends QpidTestCase
+{
+    public void testParameterisedMessageIsFormattedOnRetrieval()
+    {
+        LogRecordBuffer buffer = new LogRecordBuffer(10, 65536, 1L);
+        long id = buffer.add(createEvent("Connection {} opened by {}", 42, "guest"));
+
+        List<LogRecord> records = buffer.getRecordsAfter(0L);
+        assertEquals("Unexpected number of records", 1, records.size());
+        LogRecord record = records.get(0);
+        assertEquals("Unexpected id", id, record.getId());
+        assertEquals("Unexpected message", "Connection 42 opened by guest", record.getMessage());
+        assertEquals("Unexpected logger", "test.logger", record.getLogger());
+        assertEquals("Unexpected thread", "test-thread", record.getThreadName());
+        assertEquals("Unexpected level", Level.INFO.toString(), record.getLevel());
+        assertEquals("Unexpected timestamp", 1000L, record.getTimestamp());
+    }
+
+    public void testOldestRecordsEvictedWhenRecordLimitReached()
+    {
+        LogRecordBuffer buffer = new LogRecordBuffer(5, 65536, 1L);
+        for (int i = 0; i < 8; i++)
+        {
+            buffer.add(createEvent("message " + i));
+        }
+
+        List<LogRecord> records = buffer.getRecordsAfter(0L);
+        assertEquals("Unexpected number of records", 5, records.size());
+        assertEquals("Unexpected oldest record", "message 3", records.get(0).getMessage());
+        assertEquals("Unexpected newest record", "message 7", records.get(4).getMessage());
+    }
+
+    public void testOldestRecordsEvictedWhenBufferFull()
+    {
+        final int capacity = 4096;
+        LogRecordBuffer buffer = new LogRecordBuffer(100000, capacity, 1L);
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+        {
+            padding.append('x');
+        }
+        long lastId = 0;
+        for (int i = 0; i < 1000; i++)
+        {
+            lastId = buffer.add(createEvent("message " + i + " " + padding));
+        }
+
+        List<LogRecord> records = buffer.getRecordsAfter(0L);
+        assertTrue("Expected records to have been evicted", records.size() < capacity / 100);
+        assertFalse("Expected records to be retained", records.isEmpty());
+        for (int i = 0; i < records.size(); i++)
+        {
+            long expectedId = lastId - records.size() + 1 + i;
+            assertEquals("Unexpected id", expectedId, records.get(i).getId());
+            assertEquals("Unexpected message",
+                         "message " + (expectedId - 1) + " " + padding,
+                         records.get(i).getMessage());
+        }
+    }
+
+    public void testGetRecordsAfter()
+    {
+        LogRecordBuffer buffer = new LogRecordBuffer(10, 65536, 1L);
+        for (int i = 0; i < 5; i++)
+        {
+            buffer.add(createEvent("message " + i));
+        }
+
+        List<LogRecord> records = buffer.getRecordsAfter(3L);
+        assertEquals("Unexpected number of records", 2, records.size());
+        assertEquals("Unexpected id", 4L, records.get(0).getId());
+        assertTrue("Expected no records", buffer.getRecordsAfter(5L).isEmpty());
+    }
+
+    public void testLongParameterisedMessageIsTruncated()
+    {
+        LogRecordBuffer buffer = new LogRecordBuffer(10, 65536, 1L);
+        StringBuilder pattern = new StringBuilder("Value {} ");
+        while (pattern.length() <= LogRecordBuffer.MAXIMUM_MESSAGE_LENGTH)
+        {
+            pattern.append('x');
+        }
+        buffer.add(createEvent(pattern.toString(), 42));
+        buffer.add(createEvent(pattern.toString(), 43));
+
+        List<LogRecord> records = buffer.getRecordsAfter(0L);
+        assertEquals("Unexpected number of records", 2, records.size());
+        String message = records.get(1).getMessage();
+        assertTrue("Unexpected message start", message.startsWith("Value 43 x"));
+        assertEquals("Unexpected message length", LogRecordBuffer.MAXIMUM_MESSAGE_LENGTH, message.length());
+    }
+
+    public void testRecordsRetrievedAfterStringTableGrows()
+    {
+        LogRecordBuffer buffer = new LogRecordBuffer(1000, 1024 * 1024, 1L);
+        List<LogRecord> before = null;
+        for (int i = 0; i < 200; i++)
+        {
+            ILoggingEvent event = createEvent("message " + i);
+            when(event.getLoggerName()).thenReturn("test.logger" + i);
+            buffer.add(event);
+            if (i == 10)
+            {
+                before = buffer.getRecordsAfter(0L);
+            }
+        }
+
+        List<LogRecord> records = buffer.getRecordsAfter(0L);
+        assertEquals("Unexpected number of records", 200, records.size());
+        for (int i = 0; i < 200; i++)
+        {
+            assertEquals("Unexpected logger", "test.logger" + i, records.get(i).getLogger());
+            assertEquals("Unexpected message", "message " + i, records.get(i).getMessage());
+        }
+        assertEquals("Unexpected number of earlier records", 11, before.size());
+        assertEquals("Unexpected logger of earlier record", "test.logger10", before.get(10).getLogger());
+    }
+
+    private ILoggingEvent createEvent(String message, Object... arguments)
+    {
+        ILoggingEvent event = mock(ILoggingEvent.class);
+        when(event.getMessage()).thenReturn(message);
+        when(event.getArgumentArray()).thenReturn(arguments);
+        when(event.getFormattedMessage()).thenReturn(message);
+        when(event.getLoggerName()).thenReturn("test.logger");
+        when(event.getThreadName()).thenReturn("test-thread");
+        when(event.getLevel()).thenReturn(Level.INFO);
+        when(event.getTimeStamp()).thenReturn(1000L);
+        return event;
+    }
+}
@@ -74,5 +74,17 @@ public interface HttpManagementConfiguration<X extends HttpManagementConfigurati
     @ManagedContextDefault( name = PREFERENCE_OPERTAION_TIMEOUT_CONTEXT_NAME)
     long DEFAULT_PREFERENCE_OPERTAION_TIMEOUT = 10000L;
 
+    String STATISTICS_STREAM_MINIMUM_INTERVAL_CONTEXT_NAME = "qpid.httpManagement.statisticsStream.minimumInterval";
+    @SuppressWarnings("unused")
+    @ManagedContextDefault( name = STATISTICS_STREAM_MINIMUM_INTERVAL_CONTEXT_NAME,
+            description = "The minimum interval, in milliseconds, at which a statistics stream may push snapshots")
+    long DEFAULT_STATISTICS_STREAM_MINIMUM_INTERVAL = 100L;
+
+    String STATISTICS_STREAM_MAXIMUM_SUBSCRIPTIONS_CONTEXT_NAME = "qpid.httpManagement.statisticsStream.maximumSubscriptions";
+    @SuppressWarnings("unused")
+    @ManagedContextDefault( name = STATISTICS_STREAM_MAXIMUM_SUBSCRIPTIONS_CONTEXT_NAME,
+            description = "The maximum number of concurrently open statistics streams")
+    int DEFAULT_STATISTICS_STREAM_MAXIMUM_SUBSCRIPTIONS = 16;
+
     AuthenticationProvider getAuthenticationProvider(HttpServletRequest request);
 }
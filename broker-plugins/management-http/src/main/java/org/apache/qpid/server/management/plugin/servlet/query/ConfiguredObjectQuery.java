@@ -26,6 +26,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.PriorityQueue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,10 +83,13 @@ public final class ConfiguredObjectQuery
         HeadersAndValueExpressions headersAndValueExpressions = parseSelectClause(selectClause);
 
         List<ConfiguredObject<?>> filteredObjects = whereClause == null ? objects : filterObjects(objects, whereClause);
-        List<ConfiguredObject<?>> orderedObjects = orderByClause == null ? filteredObjects : orderObjects(filteredObjects,
-                                                                                                          orderByClause,
-                                                                                                          headersAndValueExpressions.getValueExpressions());
-        List<ConfiguredObject<?>> limitedOrderedObjects = applyLimitAndOffset(orderedObjects, limit, offset);
+        List<ConfiguredObject<?>> limitedOrderedObjects = orderByClause == null
+                ? applyLimitAndOffset(filteredObjects, limit, offset)
+                : orderObjects(filteredObjects,
+                               orderByClause,
+                               headersAndValueExpressions.getValueExpressions(),
+                               limit,
+                               offset);
 
         _headers = headersAndValueExpressions.getHeaders();
         _results = evaluateResults(limitedOrderedObjects, headersAndValueExpressions.getValueExpressions());
@@ -241,7 +245,25 @@ public final class ConfiguredObjectQuery
     }
 
 
-    class OrderByComparator implements Comparator<Object>
+    /**
+     * An object to be ordered together with its orderBy values, which are evaluated once rather than on every
+     * comparison.  The original position is used to break ties so that ordering remains stable.
+     */
+    private static final class SortableObject
+    {
+        private final ConfiguredObject<?> _object;
+        private final Comparable[] _keys;
+        private final int _position;
+
+        private SortableObject(final ConfiguredObject<?> object, final Comparable[] keys, final int position)
+        {
+            _object = object;
+            _keys = keys;
+            _position = position;
+        }
+    }
+
+    class OrderByComparator implements Comparator<SortableObject>
     {
         private final List<OrderByExpression> _orderByExpressions;
 
@@ -269,8 +291,27 @@ public final class ConfiguredObjectQuery
             }
         }
 
+        SortableObject createSortableObject(final ConfiguredObject<?> object, final int position)
+        {
+            Comparable[] keys = new Comparable[_orderByExpressions.size()];
+            int index = 0;
+            for (OrderByExpression orderByExpression : _orderByExpressions)
+            {
+                try
+                {
+                    keys[index] = (Comparable) orderByExpression.evaluate(object);
+                }
+                catch (ClassCastException e)
+                {
+                    throw new EvaluationException(String.format("The orderBy expression at position '%d' is unsupported", index), e);
+                }
+                index++;
+            }
+            return new SortableObject(object, keys, position);
+        }
+
         @Override
-        public int compare(final Object o1, final Object o2)
+        public int compare(final SortableObject o1, final SortableObject o2)
         {
             int index = 0;
             int comparisonResult = 0;
@@ -278,8 +319,8 @@ public final class ConfiguredObjectQuery
             {
                 try
                 {
-                    Comparable left = (Comparable) orderByExpression.evaluate(o1);
-                    Comparable right = (Comparable) orderByExpression.evaluate(o2);
+                    Comparable left = o1._keys[index];
+                    Comparable right = o2._keys[index];
                     if (left == null && right != null)
                     {
                         comparisonResult = -1;
@@ -308,20 +349,65 @@ public final class ConfiguredObjectQuery
                     throw new EvaluationException(String.format("The orderBy expression at position '%d' is unsupported", index), e);
                 }
             }
-            return comparisonResult;
+            return Integer.compare(o1._position, o2._position);
         }
     }
 
     private List<ConfiguredObject<?>> orderObjects(final List<ConfiguredObject<?>> unorderedResults,
-                                                   String orderByClause,
-                                                   final List<Expression> valueExpressions)
+                                                   final String orderByClause,
+                                                   final List<Expression> valueExpressions,
+                                                   final int limit,
+                                                   final int offset)
     {
         List<OrderByExpression> orderByExpressions = parseOrderByClause(orderByClause);
-        List<ConfiguredObject<?>> orderedObjects = new ArrayList<>(unorderedResults.size());
-        orderedObjects.addAll(unorderedResults);
-        Comparator<Object> comparator = new OrderByComparator(orderByExpressions, valueExpressions);
+        final OrderByComparator comparator = new OrderByComparator(orderByExpressions, valueExpressions);
+
+        List<SortableObject> orderedObjects;
+        if (limit >= 0 && offset >= 0)
+        {
+            // only the first offset + limit objects are required so retain just those, evicting the greatest
+            int required = (int) Math.min((long) offset + (long) limit, (long) unorderedResults.size());
+            if (required == 0)
+            {
+                return Collections.emptyList();
+            }
+            PriorityQueue<SortableObject> retained =
+                    new PriorityQueue<>(required + 1, Collections.reverseOrder(comparator));
+            int position = 0;
+            for (ConfiguredObject<?> object : unorderedResults)
+            {
+                SortableObject sortableObject = comparator.createSortableObject(object, position++);
+                if (retained.size() < required)
+                {
+                    retained.add(sortableObject);
+                }
+                else if (comparator.compare(sortableObject, retained.peek()) < 0)
+                {
+                    retained.poll();
+                    retained.add(sortableObject);
+                }
+            }
+            orderedObjects = new ArrayList<>(retained);
+        }
+        else
+        {
+            orderedObjects = new ArrayList<>(unorderedResults.size());
+            int position = 0;
+            for (ConfiguredObject<?> object : unorderedResults)
+            {
+                orderedObjects.add(comparator.createSortableObject(object, position++));
+            }
+        }
         Collections.sort(orderedObjects, comparator);
-        return orderedObjects;
+
+        List<ConfiguredObject<?>> results = new ArrayList<>(orderedObjects.size());
+        for (SortableObject sortableObject : orderedObjects)
+        {
+            results.add(sortableObject._object);
+        }
+        return limit >= 0 && offset >= 0
+                ? results.subList(Math.min(offset, results.size()), results.size())
+                : applyLimitAndOffset(results, limit, offset);
     }
 
     private List<OrderByExpression> parseOrderByClause(final String orderByClause)
@@ -62,7 +62,7 @@ public class ConfiguredObjectToMapConverter
         Map<String, Object> object = new LinkedHashMap<>();
 
         incorporateAttributesIntoMap(confObject, object, converterOptions);
-        incorporateStatisticsIntoMap(confObject, object);
+        incorporateStatisticsIntoMap(confObject, object, converterOptions);
 
         if(converterOptions.getDepth() > 0)
         {
@@ -80,6 +80,10 @@ public class ConfiguredObjectToMapConverter
 
         for(String name : confObject.getAttributeNames())
         {
+            if (!converterOptions.isFieldIncluded(name))
+            {
+                continue;
+            }
             Object value =
                     converterOptions.isUseActualValues()
                             ? confObject.getActualAttributes().get(name)
@@ -212,10 +216,14 @@ public class ConfiguredObjectToMapConverter
     }
 
     private void incorporateStatisticsIntoMap(
-            final ConfiguredObject<?> confObject, Map<String, Object> object)
+            final ConfiguredObject<?> confObject, Map<String, Object> object,
+            final ConverterOptions converterOptions)
     {
 
-        Map<String, Object> statMap = new TreeMap<String,Object>(confObject.getStatistics());
+        Set<String> fields = converterOptions.getFields();
+        Map<String, Object> statMap = fields == null || fields.contains(STATISTICS_MAP_KEY)
+                ? new TreeMap<>(confObject.getStatistics())
+                : new TreeMap<>(confObject.getStatistics(new ArrayList<>(fields)));
 
         if(!statMap.isEmpty())
         {
@@ -292,6 +300,7 @@ public class ConfiguredObjectToMapConverter
         private final int _oversizeThreshold;
         private final boolean _secureTransport;
         private final boolean _excludeInheritedContext;
+        private final Set<String> _fields;
 
         public ConverterOptions(ConverterOptions options, int depth)
         {
@@ -299,7 +308,8 @@ public class ConfiguredObjectToMapConverter
                  options.isUseActualValues(),
                  options.getOversizeThreshold(),
                  options.isSecureTransport(),
-                 options.isExcludeInheritedContext());
+                 options.isExcludeInheritedContext(),
+                 options.getFields());
         }
 
         public ConverterOptions(final int depth,
@@ -307,12 +317,26 @@ public class ConfiguredObjectToMapConverter
                                 final int oversizeThreshold,
                                 final boolean secureTransport,
                                 final boolean excludeInheritedContext)
+        {
+            this(depth, useActualValues, oversizeThreshold, secureTransport, excludeInheritedContext, null);
+        }
+
+        /**
+         * @param fields the names of the attributes and statistics to include, or null to include them all
+         */
+        public ConverterOptions(final int depth,
+                                final boolean useActualValues,
+                                final int oversizeThreshold,
+                                final boolean secureTransport,
+                                final boolean excludeInheritedContext,
+                                final Set<String> fields)
         {
             _depth = depth;
             _useActualValues = useActualValues;
             _oversizeThreshold = oversizeThreshold;
             _secureTransport = secureTransport;
             _excludeInheritedContext = excludeInheritedContext;
+            _fields = fields == null ? null : Collections.unmodifiableSet(new HashSet<>(fields));
         }
 
         public int getDepth()
@@ -339,5 +363,15 @@ public class ConfiguredObjectToMapConverter
         {
             return _excludeInheritedContext;
         }
+
+        public Set<String> getFields()
+        {
+            return _fields;
+        }
+
+        public boolean isFieldIncluded(final String name)
+        {
+            return _fields == null || _fields.contains(name);
+        }
     }
 }
@@ -21,6 +21,8 @@ import static org.apache.qpid.server.management.plugin.HttpManagementConfigurati
 import static org.apache.qpid.server.management.plugin.HttpManagementUtil.ensureFilenameIsRfc2183;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
@@ -29,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -36,12 +39,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.Part;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Joiner;
@@ -55,6 +60,7 @@ import org.apache.qpid.server.management.plugin.HttpManagementUtil;
 import org.apache.qpid.server.model.AbstractConfiguredObject;
 import org.apache.qpid.server.model.ConfiguredObject;
 import org.apache.qpid.server.model.ConfiguredObjectFinder;
+import org.apache.qpid.server.model.ConfiguredObjectJacksonModule;
 import org.apache.qpid.server.model.ConfiguredObjectOperation;
 import org.apache.qpid.server.model.Content;
 import org.apache.qpid.server.model.IllegalStateTransitionException;
@@ -80,6 +86,10 @@ public class RestServlet extends AbstractServlet
     public static final String INHERITED_ACTUALS_PARAM = "inheritedActuals";
     public static final String EXTRACT_INITIAL_CONFIG_PARAM = "extractInitialConfig";
     public static final String EXCLUDE_INHERITED_CONTEXT_PARAM = "excludeInheritedContext";
+    public static final String FIELDS_PARAM = "fields";
+    public static final String LIMIT_PARAM = "limit";
+    public static final String AFTER_PARAM = "after";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     /**
      * Signifies that the agent wishes the servlet to set the Content-Disposition on the
@@ -95,10 +105,22 @@ public class RestServlet extends AbstractServlet
                                         EXTRACT_INITIAL_CONFIG_PARAM,
                                         INHERITED_ACTUALS_PARAM,
                                         CONTENT_DISPOSITION_ATTACHMENT_FILENAME_PARAM,
-                                        EXCLUDE_INHERITED_CONTEXT_PARAM));
+                                        EXCLUDE_INHERITED_CONTEXT_PARAM,
+                                        FIELDS_PARAM,
+                                        LIMIT_PARAM,
+                                        AFTER_PARAM));
     public static final int DEFAULT_DEPTH = 1;
     public static final int DEFAULT_OVERSIZE = 120;
 
+    private static final Comparator<ConfiguredObject<?>> ID_ORDER = new Comparator<ConfiguredObject<?>>()
+    {
+        @Override
+        public int compare(final ConfiguredObject<?> o1, final ConfiguredObject<?> o2)
+        {
+            return o1.getId().compareTo(o2.getId());
+        }
+    };
+
     private transient final ConfiguredObjectToMapConverter _objectConverter = new ConfiguredObjectToMapConverter();
     private transient RestUserPreferenceHandler _userPreferenceHandler;
 
@@ -294,25 +316,47 @@ public class RestServlet extends AbstractServlet
                 }
 
 
-                List<Map<String, Object>> output = new ArrayList<>();
-                for (ConfiguredObject configuredObject : allObjects)
+                Collection<ConfiguredObject<?>> page = allObjects;
+                int limit = getIntParameterFromRequest(request, LIMIT_PARAM, -1);
+                UUID after = null;
+                String afterParameter = request.getParameter(AFTER_PARAM);
+                if (afterParameter != null)
                 {
-
-                    output.add(_objectConverter.convertObjectToMap(configuredObject, configuredClass,
-                                                                   new ConfiguredObjectToMapConverter.ConverterOptions(
-                                                                           depth,
-                                                                           actuals,
-                                                                           oversizeThreshold,
-                                                                           request.isSecure(),
-                                                                           excludeInheritedContext)));
+                    try
+                    {
+                        after = UUID.fromString(afterParameter);
+                    }
+                    catch (IllegalArgumentException e)
+                    {
+                        sendJsonErrorResponse(request,
+                                              response,
+                                              SC_UNPROCESSABLE_ENTITY,
+                                              String.format("Parameter '%s' is not a valid cursor: '%s'",
+                                                            AFTER_PARAM,
+                                                            afterParameter));
+                        return;
+                    }
+                }
+                if (limit > 0 || after != null)
+                {
+                    page = getPage(allObjects, after, limit, response);
                 }
 
+                ConfiguredObjectToMapConverter.ConverterOptions converterOptions =
+                        new ConfiguredObjectToMapConverter.ConverterOptions(depth,
+                                                                            actuals,
+                                                                            oversizeThreshold,
+                                                                            request.isSecure(),
+                                                                            excludeInheritedContext,
+                                                                            getFieldsFromRequest(request));
+
                 boolean sendCachingHeaders = attachmentFilename == null;
-                sendJsonResponse(output,
-                                 request,
-                                 response,
-                                 HttpServletResponse.SC_OK,
-                                 sendCachingHeaders);
+                sendJsonStreamingResponse(page,
+                                          configuredClass,
+                                          converterOptions,
+                                          request,
+                                          response,
+                                          sendCachingHeaders);
                 break;
             }
             case VISIBLE_PREFERENCES:
@@ -332,6 +376,86 @@ public class RestServlet extends AbstractServlet
     }
 
 
+    private Collection<ConfiguredObject<?>> getPage(final Collection<ConfiguredObject<?>> allObjects,
+                                                    final UUID after,
+                                                    final int limit,
+                                                    final HttpServletResponse response)
+    {
+        List<ConfiguredObject<?>> sortedObjects = new ArrayList<>(allObjects);
+        Collections.sort(sortedObjects, ID_ORDER);
+
+        int start = 0;
+        if (after != null)
+        {
+            while (start < sortedObjects.size() && sortedObjects.get(start).getId().compareTo(after) <= 0)
+            {
+                start++;
+            }
+        }
+
+        int end = limit > 0 ? Math.min(sortedObjects.size(), start + limit) : sortedObjects.size();
+        if (end < sortedObjects.size() && end > start)
+        {
+            response.setHeader(NEXT_CURSOR_HEADER, String.valueOf(sortedObjects.get(end - 1).getId()));
+        }
+        return sortedObjects.subList(start, end);
+    }
+
+    private Set<String> getFieldsFromRequest(final HttpServletRequest request)
+    {
+        String[] values = request.getParameterValues(FIELDS_PARAM);
+        if (values == null)
+        {
+            return null;
+        }
+        Set<String> fields = new HashSet<>();
+        for (String value : values)
+        {
+            for (String field : value.split(","))
+            {
+                if (!"".equals(field.trim()))
+                {
+                    fields.add(field.trim());
+                }
+            }
+        }
+        return fields.isEmpty() ? null : fields;
+    }
+
+    private void sendJsonStreamingResponse(final Collection<ConfiguredObject<?>> objects,
+                                           final Class<? extends ConfiguredObject> configuredClass,
+                                           final ConfiguredObjectToMapConverter.ConverterOptions converterOptions,
+                                           final HttpServletRequest request,
+                                           final HttpServletResponse response,
+                                           final boolean sendCachingHeaders) throws IOException
+    {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/json");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        if (sendCachingHeaders)
+        {
+            sendCachingHeadersOnResponse(response);
+        }
+
+        // objects are converted and written one at a time so that only a single object tree is held in memory
+        OutputStream stream = getOutputStream(request, response);
+        ObjectMapper mapper = ConfiguredObjectJacksonModule.newObjectMapper(false);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(stream))
+        {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartArray();
+            for (ConfiguredObject<?> configuredObject : objects)
+            {
+                mapper.writeValue(generator,
+                                  _objectConverter.convertObjectToMap(configuredObject,
+                                                                      configuredClass,
+                                                                      converterOptions));
+            }
+            generator.writeEndArray();
+        }
+    }
+
     private boolean isSingleObjectRequest(final RequestInfo requestInfo,
                                           final Class<? extends ConfiguredObject>[] hierarchy)
     {
@@ -0,0 +1,144 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.management.plugin.servlet.rest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.model.ConfiguredObjectFinder;
+import org.apache.qpid.server.model.ConfiguredObjectJacksonModule;
+
+/**
+ * Writes the newline separated JSON messages of a single statistics stream.  Each call to {@link #push()} writes
+ * one message: the first carries every requested statistic of every selected object, later ones carry only the
+ * statistics whose values changed, the objects which have been added and the ids of the objects which have gone.
+ * <p>
+ * Not thread safe; pushes must not overlap.
+ */
+class StatisticsStream implements Closeable
+{
+    private final ConfiguredObjectFinder _finder;
+    private final String _category;
+    private final List<String> _modelParts;
+    private final List<String> _statistics;
+    private final ObjectMapper _mapper = ConfiguredObjectJacksonModule.newObjectMapper(false);
+    private final JsonGenerator _generator;
+    private final Map<UUID, Map<String, Object>> _previousValues = new HashMap<>();
+
+    StatisticsStream(final ConfiguredObjectFinder finder,
+                     final String category,
+                     final List<String> modelParts,
+                     final List<String> statistics,
+                     final OutputStream outputStream) throws IOException
+    {
+        _finder = finder;
+        _category = category;
+        _modelParts = modelParts;
+        _statistics = statistics;
+        _generator = _mapper.getFactory().createGenerator(outputStream);
+    }
+
+    void push() throws IOException
+    {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("timestamp", System.currentTimeMillis());
+        Map<String, Object> changed = new LinkedHashMap<>();
+        Set<UUID> current = new HashSet<>();
+        for (ConfiguredObject<?> object : _finder.findObjectsFromPath(_modelParts,
+                                                                      _finder.getHierarchy(_category),
+                                                                      true))
+        {
+            UUID id = object.getId();
+            current.add(id);
+            Map<String, Object> values = object.getStatistics(_statistics);
+            Map<String, Object> previous = _previousValues.put(id, values);
+            Map<String, Object> delta = previous == null ? newObjectEntry(object, values)
+                                                         : getChangedValues(previous, values);
+            if (!delta.isEmpty())
+            {
+                changed.put(id.toString(), delta);
+            }
+        }
+        if (!changed.isEmpty())
+        {
+            message.put("objects", changed);
+        }
+        List<String> removed = new ArrayList<>();
+        for (UUID id : new ArrayList<>(_previousValues.keySet()))
+        {
+            if (!current.contains(id))
+            {
+                _previousValues.remove(id);
+                removed.add(id.toString());
+            }
+        }
+        if (!removed.isEmpty())
+        {
+            message.put("removed", removed);
+        }
+
+        _mapper.writeValue(_generator, message);
+        _generator.writeRaw('\n');
+        _generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        _generator.close();
+    }
+
+    private Map<String, Object> newObjectEntry(final ConfiguredObject<?> object, final Map<String, Object> values)
+    {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("path", _finder.getPath(object));
+        entry.putAll(values);
+        return entry;
+    }
+
+    private Map<String, Object> getChangedValues(final Map<String, Object> previous,
+                                                 final Map<String, Object> values)
+    {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet())
+        {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue()))
+            {
+                delta.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.management.plugin.servlet.rest;
+
+import static org.apache.qpid.server.management.plugin.HttpManagementConfiguration.DEFAULT_STATISTICS_STREAM_MAXIMUM_SUBSCRIPTIONS;
+import static org.apache.qpid.server.management.plugin.HttpManagementConfiguration.DEFAULT_STATISTICS_STREAM_MINIMUM_INTERVAL;
+import static org.apache.qpid.server.management.plugin.HttpManagementConfiguration.STATISTICS_STREAM_MAXIMUM_SUBSCRIPTIONS_CONTEXT_NAME;
+import static org.apache.qpid.server.management.plugin.HttpManagementConfiguration.STATISTICS_STREAM_MINIMUM_INTERVAL_CONTEXT_NAME;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.security.auth.Subject;
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.qpid.server.management.plugin.HttpManagementUtil;
+import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.model.ConfiguredObjectFinder;
+
+/**
+ * Pushes the statistics of the objects selected by the request path to the client at a fixed interval.
+ * <p>
+ * The response is a chunked stream of newline separated JSON messages, see {@link StatisticsStream}.
+ * Statistics are read directly from the objects rather than through {@link ConfiguredObjectToMapConverter}.
+ * <p>
+ * The path takes the form <code>/service/statisticsstream/&lt;category&gt;/&lt;path&gt;</code>, where the
+ * path may use wildcards as in the REST API.  The <code>statistics</code> parameter restricts the statistics
+ * streamed, and the <code>interval</code> parameter sets the push interval in milliseconds.
+ * <p>
+ * Streams are put into async mode, so they do not hold on to an HTTP worker thread between pushes.  The pushes of
+ * all streams are timed by a small scheduler shared by the servlet, and written, under the subject of the requesting
+ * user, from a pool holding at most one thread per stream, see {@link StatisticsStreamSubscription}.
+ */
+public class StatisticsStreamServlet extends AbstractServlet
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatisticsStreamServlet.class);
+
+    public static final String STATISTICS_PARAM = "statistics";
+    public static final String INTERVAL_PARAM = "interval";
+    public static final long DEFAULT_INTERVAL = 1000L;
+
+    private static final int SCHEDULER_THREADS = 2;
+
+    private transient final AtomicInteger _subscriptions = new AtomicInteger();
+    private transient ScheduledExecutorService _scheduler;
+    private transient ExecutorService _pushExecutor;
+
+    @Override
+    public void init() throws ServletException
+    {
+        super.init();
+        _scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS,
+                                                      createThreadFactory("HttpManagement-StatisticsStream-"));
+        // each stream has at most one push in progress, so the pool is bounded by the number of streams
+        _pushExecutor = Executors.newCachedThreadPool(createThreadFactory("HttpManagement-StatisticsPush-"));
+    }
+
+    private static ThreadFactory createThreadFactory(final String threadNamePrefix)
+    {
+        return new ThreadFactory()
+        {
+            private final AtomicInteger _threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, threadNamePrefix + _threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    @Override
+    public void destroy()
+    {
+        try
+        {
+            _scheduler.shutdownNow();
+            _pushExecutor.shutdownNow();
+        }
+        finally
+        {
+            super.destroy();
+        }
+    }
+
+    @Override
+    protected void doGet(final HttpServletRequest request,
+                         final HttpServletResponse response,
+                         final ConfiguredObject<?> managedObject) throws ServletException, IOException
+    {
+        List<String> pathInfoElements =
+                HttpManagementUtil.getPathInfoElements(request.getServletPath(), request.getPathInfo());
+        ConfiguredObjectFinder finder = getConfiguredObjectFinder(managedObject);
+        if (pathInfoElements.isEmpty() || finder.getHierarchy(pathInfoElements.get(0)) == null)
+        {
+            sendJsonErrorResponse(request, response, HttpServletResponse.SC_NOT_FOUND, "Invalid path");
+            return;
+        }
+
+        int maximumSubscriptions = getContextValue(Integer.class,
+                                                   STATISTICS_STREAM_MAXIMUM_SUBSCRIPTIONS_CONTEXT_NAME,
+                                                   DEFAULT_STATISTICS_STREAM_MAXIMUM_SUBSCRIPTIONS);
+        if (_subscriptions.incrementAndGet() > maximumSubscriptions)
+        {
+            _subscriptions.decrementAndGet();
+            sendJsonErrorResponse(request,
+                                  response,
+                                  HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                                  "Maximum number of statistics streams reached");
+            return;
+        }
+
+        boolean started = false;
+        try
+        {
+            long minimumInterval = getContextValue(Long.class,
+                                                   STATISTICS_STREAM_MINIMUM_INTERVAL_CONTEXT_NAME,
+                                                   DEFAULT_STATISTICS_STREAM_MINIMUM_INTERVAL);
+            long interval = Math.max(minimumInterval, getInterval(request));
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType("application/json");
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            sendCachingHeadersOnResponse(response);
+
+            StatisticsStream stream = new StatisticsStream(finder,
+                                                           pathInfoElements.get(0),
+                                                           pathInfoElements.subList(1, pathInfoElements.size()),
+                                                           getRequestedStatistics(request),
+                                                           response.getOutputStream());
+            Subject subject = Subject.getSubject(AccessController.getContext());
+            AsyncContext asyncContext = request.startAsync();
+            asyncContext.setTimeout(0);
+            new StatisticsStreamSubscription(stream, subject, asyncContext, _scheduler, _pushExecutor, new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    _subscriptions.decrementAndGet();
+                }
+            }).start(interval);
+            started = true;
+        }
+        finally
+        {
+            if (!started)
+            {
+                _subscriptions.decrementAndGet();
+            }
+        }
+    }
+
+    private List<String> getRequestedStatistics(final HttpServletRequest request)
+    {
+        String[] values = request.getParameterValues(STATISTICS_PARAM);
+        if (values == null)
+        {
+            return Collections.emptyList();
+        }
+        List<String> statistics = new ArrayList<>();
+        for (String value : values)
+        {
+            for (String statistic : value.split(","))
+            {
+                if (!"".equals(statistic.trim()))
+                {
+                    statistics.add(statistic.trim());
+                }
+            }
+        }
+        return statistics;
+    }
+
+    private long getInterval(final HttpServletRequest request)
+    {
+        String value = request.getParameter(INTERVAL_PARAM);
+        if (value != null)
+        {
+            try
+            {
+                return Long.parseLong(value);
+            }
+            catch (NumberFormatException e)
+            {
+                LOGGER.warn("Could not parse " + value + " as long for parameter " + INTERVAL_PARAM);
+            }
+        }
+        return DEFAULT_INTERVAL;
+    }
+
+    private <T> T getContextValue(final Class<T> type, final String name, final T defaultValue)
+    {
+        T value = getManagementConfiguration().getContextValue(type, name);
+        return value == null ? defaultValue : value;
+    }
+}
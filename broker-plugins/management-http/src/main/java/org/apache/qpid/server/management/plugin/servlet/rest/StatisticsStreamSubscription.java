@@ -0,0 +1,192 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.management.plugin.servlet.rest;
+
+import java.io.IOException;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.security.auth.Subject;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives one statistics stream until the client goes away or the servlet is destroyed.
+ * <p>
+ * The shared scheduler only hands each push over to the push executor, as writes to the response block whilst
+ * the client is not reading.  A push is skipped whilst the previous push of the same stream is still being written,
+ * so a stalled client holds at most one push thread and does not delay the pushes of other streams.
+ */
+class StatisticsStreamSubscription implements Runnable, AsyncListener
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatisticsStreamSubscription.class);
+
+    private final StatisticsStream _stream;
+    private final Subject _subject;
+    private final AsyncContext _asyncContext;
+    private final ScheduledExecutorService _scheduler;
+    private final Executor _pushExecutor;
+    private final Runnable _onEnd;
+    private final AtomicBoolean _ended = new AtomicBoolean();
+    private final AtomicBoolean _pushInProgress = new AtomicBoolean();
+    private final Runnable _push = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            try
+            {
+                push();
+            }
+            finally
+            {
+                _pushInProgress.set(false);
+            }
+        }
+    };
+    private volatile ScheduledFuture<?> _future;
+
+    StatisticsStreamSubscription(final StatisticsStream stream,
+                                 final Subject subject,
+                                 final AsyncContext asyncContext,
+                                 final ScheduledExecutorService scheduler,
+                                 final Executor pushExecutor,
+                                 final Runnable onEnd)
+    {
+        _stream = stream;
+        _subject = subject;
+        _asyncContext = asyncContext;
+        _scheduler = scheduler;
+        _pushExecutor = pushExecutor;
+        _onEnd = onEnd;
+    }
+
+    void start(final long interval)
+    {
+        _asyncContext.addListener(this);
+        _future = _scheduler.scheduleAtFixedRate(this, 0L, interval, TimeUnit.MILLISECONDS);
+        if (_ended.get())
+        {
+            _future.cancel(false);
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        if (!_ended.get() && _pushInProgress.compareAndSet(false, true))
+        {
+            try
+            {
+                _pushExecutor.execute(_push);
+            }
+            catch (RejectedExecutionException e)
+            {
+                _pushInProgress.set(false);
+                LOGGER.debug("Statistics push rejected, closing stream", e);
+                end(true);
+            }
+        }
+    }
+
+    private void push()
+    {
+        try
+        {
+            Subject.doAs(_subject, new PrivilegedExceptionAction<Void>()
+            {
+                @Override
+                public Void run() throws IOException
+                {
+                    _stream.push();
+                    return null;
+                }
+            });
+        }
+        catch (PrivilegedActionException e)
+        {
+            LOGGER.debug("Statistics stream closed", e.getCause());
+            end(true);
+        }
+        catch (RuntimeException e)
+        {
+            LOGGER.warn("Unexpected failure pushing statistics, closing stream", e);
+            end(true);
+        }
+    }
+
+    private void end(final boolean complete)
+    {
+        if (_ended.compareAndSet(false, true))
+        {
+            ScheduledFuture<?> future = _future;
+            if (future != null)
+            {
+                future.cancel(false);
+            }
+            _onEnd.run();
+            if (complete)
+            {
+                try
+                {
+                    _asyncContext.complete();
+                }
+                catch (IllegalStateException e)
+                {
+                    LOGGER.debug("Statistics stream already completed", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onComplete(final AsyncEvent event)
+    {
+        end(false);
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event)
+    {
+        end(true);
+    }
+
+    @Override
+    public void onError(final AsyncEvent event)
+    {
+        end(true);
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event)
+    {
+    }
+}
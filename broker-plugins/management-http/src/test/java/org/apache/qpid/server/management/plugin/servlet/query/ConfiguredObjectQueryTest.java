@@ -672,6 +672,32 @@ public class ConfiguredObjectQueryTest extends QpidTestCase
         assertQueryResults(new Object[][]{{"test-0"},{"test-1"},{"test-2"}}, _query.getResults());
     }
 
+    public void testOrderByWithLimitRetainsTopObjects() throws Exception
+    {
+        final int[] numbers = {5, 1, 9, 3, 9, 7};
+        for(int i=0;i<numbers.length;i++)
+        {
+            final String name = "test-" + i;
+            final int number = numbers[i];
+            ConfiguredObject object = createCO(new HashMap<String, Object>()
+            {{
+                put("name", name);
+                put(NUMBER_ATTR, number);
+            }});
+            _objects.add(object);
+        }
+
+        _query = new ConfiguredObjectQuery(_objects, "name", null, NUMBER_ATTR + " desc", "3", "0");
+        assertQueryResults(new Object[][]{{"test-2"},{"test-4"},{"test-5"}}, _query.getResults());
+
+        _query = new ConfiguredObjectQuery(_objects, "name", null, NUMBER_ATTR + " desc", "2", "2");
+        assertQueryResults(new Object[][]{{"test-5"},{"test-0"}}, _query.getResults());
+
+        _query = new ConfiguredObjectQuery(_objects, "name", NUMBER_ATTR + " > 4", NUMBER_ATTR, "2", "0");
+        assertQueryResults(new Object[][]{{"test-0"},{"test-5"}}, _query.getResults());
+        assertEquals("Unexpected total", 4, _query.getTotalNumberOfRows());
+    }
+
     private void assertQueryResults(final Object[][] expectedAttributes,
                                     final List<List<Object>> results)
     {
@@ -115,6 +115,30 @@ public class ConfiguredObjectToMapConverterTest extends QpidTestCase
         assertEquals("Unexpected attribute value", attributeValue, resultMap.get(attributeName));
     }
 
+    public void testFieldProjection() throws Exception
+    {
+        Model model = createTestModel();
+        when(_configuredObject.getModel()).thenReturn(model);
+        when(_configuredObject.getAttributeNames()).thenReturn(Arrays.asList("included", "excluded"));
+        when(_configuredObject.getAttribute("included")).thenReturn("includedValue");
+        when(_configuredObject.getAttribute("excluded")).thenReturn("excludedValue");
+        when(_configuredObject.getStatistics()).thenReturn(Collections.singletonMap("statisticName", (Number) 10));
+        when(_configuredObject.getStatistics(any(List.class))).thenReturn(Collections.<String, Object>emptyMap());
+
+        Map<String, Object> resultMap = _converter.convertObjectToMap(_configuredObject,
+                                                                      ConfiguredObject.class,
+                                                                      new ConfiguredObjectToMapConverter.ConverterOptions(
+                                                                              0,
+                                                                              false,
+                                                                              120,
+                                                                              false,
+                                                                              false,
+                                                                              Collections.singleton("included")));
+        assertEquals("Unexpected number of attributes", 1, resultMap.size());
+        assertEquals("Unexpected attribute value", "includedValue", resultMap.get("included"));
+        assertFalse("Statistics should not be part of map", resultMap.containsKey(STATISTICS_MAP_KEY));
+    }
+
     /*
      * For now, it is the name of the configured object is returned as the attribute value, rather than the
      * configured object itself
@@ -0,0 +1,183 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.management.plugin.servlet.rest;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncContext;
+
+import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.model.ConfiguredObjectFinder;
+import org.apache.qpid.server.model.Queue;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class StatisticsStreamSubscriptionTest extends QpidTestCase
+{
+    private static final long INTERVAL = 10L;
+
+    private ConfiguredObjectFinder _finder;
+    private ScheduledExecutorService _scheduler;
+    private ExecutorService _pushExecutor;
+    private final AtomicInteger _ended = new AtomicInteger();
+    private final Runnable _onEnd = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            _ended.incrementAndGet();
+        }
+    };
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        _finder = mock(ConfiguredObjectFinder.class);
+        when(_finder.getHierarchy("queue")).thenReturn(new Class[]{Queue.class});
+        when(_finder.findObjectsFromPath(anyListOf(String.class), any(Class[].class), anyBoolean()))
+                .thenReturn(Collections.<ConfiguredObject<?>>emptyList());
+        // a single scheduler thread, so that a push made from the scheduler would stall every stream
+        _scheduler = Executors.newScheduledThreadPool(1);
+        _pushExecutor = Executors.newCachedThreadPool();
+    }
+
+    @Override
+    public void tearDown() throws Exception
+    {
+        try
+        {
+            _scheduler.shutdownNow();
+            _pushExecutor.shutdownNow();
+        }
+        finally
+        {
+            super.tearDown();
+        }
+    }
+
+    public void testStalledClientDoesNotDelayOtherStreams() throws Exception
+    {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger stalledWrites = new AtomicInteger();
+        final OutputStream stalledOutput = new OutputStream()
+        {
+            @Override
+            public void write(final int b) throws IOException
+            {
+                stalledWrites.incrementAndGet();
+                try
+                {
+                    // a client which has stopped reading, so the write blocks until the connection times out
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    throw new IOException(e);
+                }
+            }
+        };
+        final CountDownLatch pushes = new CountDownLatch(5);
+        final OutputStream healthyOutput = new OutputStream()
+        {
+            @Override
+            public void write(final int b) throws IOException
+            {
+                if (b == '\n')
+                {
+                    pushes.countDown();
+                }
+            }
+        };
+
+        try
+        {
+            createSubscription(stalledOutput).start(INTERVAL);
+            createSubscription(healthyOutput).start(INTERVAL);
+
+            assertTrue("Pushes to the healthy stream were held up by the stalled stream",
+                       pushes.await(10, TimeUnit.SECONDS));
+            assertEquals("Pushes to the stalled stream should be skipped whilst its write is blocked",
+                         1, stalledWrites.get());
+        }
+        finally
+        {
+            release.countDown();
+        }
+    }
+
+    public void testFailedPushEndsSubscription() throws Exception
+    {
+        final AsyncContext asyncContext = mock(AsyncContext.class);
+        final StatisticsStreamSubscription subscription =
+                new StatisticsStreamSubscription(createStream(new OutputStream()
+                                                 {
+                                                     @Override
+                                                     public void write(final int b) throws IOException
+                                                     {
+                                                         throw new IOException("Client disconnected");
+                                                     }
+                                                 }),
+                                                 null, asyncContext, _scheduler, _pushExecutor, _onEnd);
+        subscription.start(INTERVAL);
+
+        final long deadline = System.currentTimeMillis() + 10000L;
+        while (_ended.get() == 0 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(10L);
+        }
+        assertEquals("Subscription should have ended once", 1, _ended.get());
+        Thread.sleep(5 * INTERVAL);
+        assertEquals("Subscription should have ended only once", 1, _ended.get());
+    }
+
+    private StatisticsStreamSubscription createSubscription(final OutputStream output) throws IOException
+    {
+        return new StatisticsStreamSubscription(createStream(output),
+                                                null,
+                                                mock(AsyncContext.class),
+                                                _scheduler,
+                                                _pushExecutor,
+                                                _onEnd);
+    }
+
+    private StatisticsStream createStream(final OutputStream output) throws IOException
+    {
+        return new StatisticsStream(_finder,
+                                    "queue",
+                                    Collections.<String>emptyList(),
+                                    Collections.<String>emptyList(),
+                                    output);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.qpid.server.management.plugin.servlet.rest;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.model.ConfiguredObjectFinder;
+import org.apache.qpid.server.model.Queue;
+import org.apache.qpid.test.utils.QpidTestCase;
+
+public class StatisticsStreamTest extends QpidTestCase
+{
+    private static final List<String> STATISTICS = Collections.singletonList("queueDepthMessages");
+
+    private final List<ConfiguredObject<?>> _objects = new ArrayList<>();
+    private final ByteArrayOutputStream _output = new ByteArrayOutputStream();
+    private final ObjectMapper _mapper = new ObjectMapper();
+    private ConfiguredObjectFinder _finder;
+    private StatisticsStream _stream;
+
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        _finder = mock(ConfiguredObjectFinder.class);
+        when(_finder.getHierarchy("queue")).thenReturn(new Class[]{Queue.class});
+        when(_finder.findObjectsFromPath(anyListOf(String.class), any(Class[].class), anyBoolean())).thenReturn(_objects);
+        _stream = new StatisticsStream(_finder, "queue", Collections.<String>emptyList(), STATISTICS, _output);
+    }
+
+    public void testFirstMessageCarriesAllStatistics() throws Exception
+    {
+        ConfiguredObject<?> queue = createObject("vh/queue1", 3);
+
+        _stream.push();
+
+        Map<String, Object> objects = getObjects(readLastMessage());
+        assertEquals("Unexpected number of objects", 1, objects.size());
+        Map<String, Object> entry = getEntry(objects, queue);
+        assertEquals("Unexpected path", "vh/queue1", entry.get("path"));
+        assertEquals("Unexpected statistic value", 3, entry.get("queueDepthMessages"));
+    }
+
+    public void testLaterMessagesCarryOnlyChanges() throws Exception
+    {
+        ConfiguredObject<?> unchanged = createObject("vh/queue1", 3);
+        ConfiguredObject<?> changed = createObject("vh/queue2", 5);
+        _stream.push();
+
+        setStatistic(changed, 6);
+        _stream.push();
+
+        Map<String, Object> objects = getObjects(readLastMessage());
+        assertEquals("Only the changed object should be sent", 1, objects.size());
+        assertFalse("Unchanged object sent", objects.containsKey(unchanged.getId().toString()));
+        Map<String, Object> entry = getEntry(objects, changed);
+        assertFalse("Path should only be sent for new objects", entry.containsKey("path"));
+        assertEquals("Unexpected statistic value", 6, entry.get("queueDepthMessages"));
+
+        _stream.push();
+        assertNull("No objects expected when nothing changed", readLastMessage().get("objects"));
+    }
+
+    public void testAddedAndRemovedObjects() throws Exception
+    {
+        ConfiguredObject<?> removed = createObject("vh/queue1", 3);
+        _stream.push();
+
+        _objects.remove(removed);
+        ConfiguredObject<?> added = createObject("vh/queue2", 1);
+        _stream.push();
+
+        Map<String, Object> message = readLastMessage();
+        assertEquals("Unexpected removed ids",
+                     Collections.singletonList(removed.getId().toString()),
+                     message.get("removed"));
+        assertEquals("Unexpected path of added object", "vh/queue2", getEntry(getObjects(message), added).get("path"));
+    }
+
+    public void testPushFailsOnceClientHasGone() throws Exception
+    {
+        createObject("vh/queue1", 3);
+        StatisticsStream stream = new StatisticsStream(_finder, "queue", Collections.<String>emptyList(), STATISTICS,
+                                                       new OutputStream()
+                                                       {
+                                                           @Override
+                                                           public void write(final int b) throws IOException
+                                                           {
+                                                               throw new IOException("Client disconnected");
+                                                           }
+                                                       });
+        try
+        {
+            stream.push();
+            fail("Exception not thrown");
+        }
+        catch (IOException e)
+        {
+            // pass
+        }
+    }
+
+    private ConfiguredObject<?> createObject(final String path, final int depth)
+    {
+        ConfiguredObject<?> object = mock(ConfiguredObject.class);
+        when(object.getId()).thenReturn(UUID.randomUUID());
+        when(_finder.getPath(object)).thenReturn(path);
+        setStatistic(object, depth);
+        _objects.add(object);
+        return object;
+    }
+
+    private void setStatistic(final ConfiguredObject<?> object, final int depth)
+    {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("queueDepthMessages", depth);
+        when(object.getStatistics(STATISTICS)).thenReturn(statistics);
+    }
+
+    private Map<String, Object> readLastMessage() throws IOException
+    {
+        String[] lines = new String(_output.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        return _mapper.readValue(lines[lines.length - 1], Map.class);
+    }
+
+    private Map<String, Object> getObjects(final Map<String, Object> message)
+    {
+        Map<String, Object> objects = (Map<String, Object>) message.get("objects");
+        assertNotNull("No objects in message " + message, objects);
+        return objects;
+    }
+
+    private Map<String, Object> getEntry(final Map<String, Object> objects, final ConfiguredObject<?> object)
+    {
+        Map<String, Object> entry = (Map<String, Object>) objects.get(object.getId().toString());
+        assertNotNull("No entry for object", entry);
+        return entry;
+    }
+}